@@ -0,0 +1,245 @@
+package seedu.phu;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.phu.commons.core.Config;
+import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.commons.util.ConfigUtil;
+import seedu.phu.commons.util.StringUtil;
+import seedu.phu.logic.Logic;
+import seedu.phu.logic.LogicManager;
+import seedu.phu.model.InternshipArchive;
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.Model;
+import seedu.phu.model.ModelManager;
+import seedu.phu.model.ReadOnlyInternshipBook;
+import seedu.phu.model.ReadOnlyUserPrefs;
+import seedu.phu.model.UserPrefs;
+import seedu.phu.model.util.SampleDataUtil;
+import seedu.phu.storage.BinaryInternshipBookStorage;
+import seedu.phu.storage.ConvertingInternshipBookStorage;
+import seedu.phu.storage.InternshipBookStorage;
+import seedu.phu.storage.JournalInternshipBookStorage;
+import seedu.phu.storage.JsonInternshipBookStorage;
+import seedu.phu.storage.JsonUserPrefsStorage;
+import seedu.phu.storage.SegmentedInternshipBookStorage;
+import seedu.phu.storage.Storage;
+import seedu.phu.storage.StorageManager;
+import seedu.phu.storage.UserPrefsStorage;
+
+/**
+ * Sets up and shuts down the components of the application that do not depend on the GUI: the config, storage,
+ * model and logic. Both {@code MainApp} and {@code HeadlessApp} start from here, so running without a GUI never
+ * starts the JavaFX toolkit.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private boolean isExistingUser = true;
+
+    /**
+     * Reads the config, user prefs and data named by {@code appParameters}, and creates the model and logic.
+     */
+    public AppInitializer(AppParameters appParameters) {
+        config = initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        InternshipBookStorage internshipBookStorage = initInternshipBookStorage(userPrefs);
+        Path archiveFilePath = StorageManager.getArchiveFilePath(userPrefs.getInternshipBookFilePath());
+        InternshipBookStorage archiveStorage = new JsonInternshipBookStorage(archiveFilePath,
+                userPrefs.isCompactDataFile());
+        storage = new StorageManager(internshipBookStorage, userPrefsStorage, archiveStorage);
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns false if there was no data file to read, so the app started with sample data.
+     */
+    public boolean isExistingUser() {
+        return isExistingUser;
+    }
+
+    /**
+     * Writes the data still waiting to be saved and the user prefs.
+     * The user prefs are saved even if the data could not be.
+     *
+     * @throws IOException if the data could not be saved.
+     */
+    public void stop() throws IOException {
+        IOException flushFailure = null;
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save internship book " + StringUtil.getDetails(e));
+            flushFailure = e;
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        if (flushFailure != null) {
+            throw flushFailure;
+        }
+    }
+
+    /**
+     * Returns an {@code InternshipBookStorage} for the data file in {@code userPrefs}, kept in the data format chosen
+     * in {@code userPrefs}. Data last saved in the other format is read and converted.
+     */
+    private InternshipBookStorage initInternshipBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path internshipBookFilePath = userPrefs.getInternshipBookFilePath();
+        boolean isCompact = userPrefs.isCompactDataFile();
+        InternshipBookStorage binaryStorage = new BinaryInternshipBookStorage(
+                BinaryInternshipBookStorage.getBinaryFilePath(internshipBookFilePath));
+        InternshipBookStorage segmentedStorage = new SegmentedInternshipBookStorage(
+                SegmentedInternshipBookStorage.getSegmentDirectoryPath(internshipBookFilePath), isCompact,
+                SegmentedInternshipBookStorage.SEGMENT_SIZE);
+        switch (userPrefs.getDataFormat()) {
+        case BINARY:
+            return new ConvertingInternshipBookStorage(binaryStorage,
+                    new JsonInternshipBookStorage(internshipBookFilePath, isCompact), segmentedStorage);
+        case JOURNAL:
+            return new ConvertingInternshipBookStorage(new JournalInternshipBookStorage(internshipBookFilePath,
+                    isCompact, JournalInternshipBookStorage.DEFAULT_COMPACTION_THRESHOLD), binaryStorage,
+                    segmentedStorage);
+        case SEGMENTED:
+            return new ConvertingInternshipBookStorage(segmentedStorage,
+                    new JsonInternshipBookStorage(internshipBookFilePath, isCompact), binaryStorage);
+        case JSON:
+        default:
+            return new ConvertingInternshipBookStorage(new JsonInternshipBookStorage(internshipBookFilePath,
+                    isCompact), binaryStorage, segmentedStorage);
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s internship book and {@code userPrefs}. <br>
+     * The data from the sample internship book will be used instead if {@code storage}'s internship book is not found,
+     * or an empty internship book will be used instead if errors occur when reading {@code storage}'s internship book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyInternshipBook> internshipBookOptional;
+        ReadOnlyInternshipBook initialData;
+        try {
+            internshipBookOptional = storage.readInternshipBook();
+            if (!internshipBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample InternshipBook");
+                logger.info("Data file not found. Starting as a new user.");
+                isExistingUser = false;
+            }
+            initialData = internshipBookOptional.orElseGet(SampleDataUtil::getSampleInternshipBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty InternshipBook");
+            initialData = new InternshipBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty InternshipBook");
+            initialData = new InternshipBook();
+        }
+        // the archive is only read once a command needs it
+        return new ModelManager(initialData, userPrefs, new InternshipArchive(storage::readArchive));
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty InternshipBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
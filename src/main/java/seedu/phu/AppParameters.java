@@ -2,11 +2,11 @@ package seedu.phu;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 
-import javafx.application.Application;
 import seedu.phu.commons.core.LogsCenter;
 import seedu.phu.commons.util.FileUtil;
 
@@ -14,9 +14,14 @@ import seedu.phu.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** Value of the {@code batch} parameter that reads the commands from standard input. */
+    public static final String STANDARD_INPUT = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isHeadless;
+    private Path commandFilePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,11 +32,49 @@ public class AppParameters {
     }
 
     /**
-     * Parses the application command-line parameters.
+     * Returns true if the application should run the commands given on the command line without a GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    /**
+     * Returns the file to read the commands from when running without a GUI, or null to read them from standard
+     * input.
+     */
+    public Path getCommandFilePath() {
+        return commandFilePath;
+    }
+
+    /**
+     * Makes the application run without a GUI, reading commands from {@code commandFilePath}, or from standard input
+     * if it is null.
+     */
+    public void setHeadless(Path commandFilePath) {
+        this.isHeadless = true;
+        this.commandFilePath = commandFilePath;
+    }
+
+    /**
+     * Parses the arguments given to {@code main}, in the {@code --name=value} form that JavaFX uses for named
+     * parameters, without starting the JavaFX toolkit.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    /**
+     * Parses the named application command-line parameters.
      */
-    public static AppParameters parse(Application.Parameters parameters) {
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +83,16 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchParameter = namedParameters.get("batch");
+        if (batchParameter != null) {
+            if (!batchParameter.equals(STANDARD_INPUT) && !FileUtil.isValidPath(batchParameter)) {
+                logger.warning("Invalid command file path " + batchParameter
+                        + ". Reading commands from standard input.");
+                batchParameter = STANDARD_INPUT;
+            }
+            appParameters.setHeadless(batchParameter.equals(STANDARD_INPUT) ? null : Paths.get(batchParameter));
+        }
+
         return appParameters;
     }
 
@@ -54,11 +107,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isHeadless() == otherAppParameters.isHeadless()
+                && Objects.equals(getCommandFilePath(), otherAppParameters.getCommandFilePath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, commandFilePath);
     }
 }
@@ -0,0 +1,133 @@
+package seedu.phu;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.phu.commons.core.HelpText;
+import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.logic.Logic;
+import seedu.phu.logic.LogicManager;
+import seedu.phu.logic.commands.CommandResult;
+import seedu.phu.logic.commands.exceptions.CommandException;
+import seedu.phu.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a GUI, executing commands read from standard input or a command file and printing
+ * their results.
+ *
+ * The JavaFX toolkit is never started, so no window is created and startup only pays for reading the data. This
+ * suits scripts, scheduled jobs and benchmarks.
+ */
+public class HeadlessApp {
+
+    public static final String PROMPT = "> ";
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+
+    public HeadlessApp(Logic logic) {
+        this.logic = logic;
+    }
+
+    /**
+     * Starts the application described by {@code appParameters}, runs its commands and saves the data.
+     *
+     * @return the exit status of the process: 0 if every command succeeded and all data was saved, 1 otherwise.
+     */
+    public static int launch(AppParameters appParameters) {
+        logger.info("=============================[ Running InternshipBook headless ]=======================");
+        AppInitializer appInitializer = new AppInitializer(appParameters);
+        Path commandFilePath = appParameters.getCommandFilePath();
+        HeadlessApp app = new HeadlessApp(appInitializer.getLogic());
+
+        int failedCount;
+        boolean isSaved;
+        try (BufferedReader input = commandFilePath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(commandFilePath, StandardCharsets.UTF_8)) {
+            boolean isInteractive = commandFilePath == null && System.console() != null;
+            failedCount = app.run(input, System.out, System.err, isInteractive);
+        } catch (IOException e) {
+            System.err.println("Could not read commands: " + e);
+            failedCount = 1;
+        } finally {
+            isSaved = stop(appInitializer);
+        }
+        return failedCount == 0 && isSaved ? 0 : 1;
+    }
+
+    /**
+     * Stops {@code appInitializer}, printing the reason if its data could not be saved.
+     *
+     * @return true if the data was saved.
+     */
+    private static boolean stop(AppInitializer appInitializer) {
+        try {
+            appInitializer.stop();
+            return true;
+        } catch (IOException e) {
+            System.err.println(LogicManager.FILE_OPS_ERROR_MESSAGE + e);
+            return false;
+        }
+    }
+
+    /**
+     * Executes each line of {@code input} as a command until the input ends or an exit command is executed.
+     * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped.
+     *
+     * @param output receives the result of each command.
+     * @param errorOutput receives the error of each command that fails.
+     * @param isInteractive whether to print a prompt before reading each command.
+     * @return the number of commands that failed, counting those whose changes could not be saved.
+     */
+    public int run(BufferedReader input, PrintStream output, PrintStream errorOutput, boolean isInteractive)
+            throws IOException {
+        int failedCount = 0;
+        while (true) {
+            if (isInteractive) {
+                output.print(PROMPT);
+                output.flush();
+            }
+            String line = input.readLine();
+            if (line == null) {
+                return failedCount;
+            }
+
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                CommandResult result = logic.execute(commandText);
+                output.println(result.getFeedbackToUser());
+                if (isSaveFailure(result)) {
+                    failedCount++;
+                }
+                if (result.isShowHelp()) {
+                    output.println(HelpText.COMMAND_SUMMARY);
+                    output.println(HelpText.USER_GUIDE_MESSAGE);
+                }
+                if (result.isExit()) {
+                    return failedCount;
+                }
+            } catch (CommandException | ParseException e) {
+                errorOutput.println(e.getMessage());
+                failedCount++;
+            }
+        }
+    }
+
+    private static boolean isSaveFailure(CommandResult result) {
+        String feedback = result.getFeedbackToUser();
+        return feedback.contains(LogicManager.FILE_OPS_ERROR_MESSAGE)
+                || feedback.contains(LogicManager.EARLIER_FILE_OPS_ERROR_MESSAGE);
+    }
+}
@@ -17,9 +17,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --batch=FILE} (or {@code --batch=-} for standard input), the commands are run by {@code HeadlessApp}
+ * instead, without ever starting the JavaFX toolkit.
  */
 public class Main {
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(HeadlessApp.launch(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -0,0 +1,15 @@
+package seedu.phu.commons.core;
+
+/**
+ * The ways in which the internship book can be kept on disk.
+ */
+public enum DataFormat {
+    /** Rewrites the whole data file as json on every save. */
+    JSON,
+    /** Appends each change to a journal next to a json snapshot, folding the journal into the snapshot when long. */
+    JOURNAL,
+    /** Rewrites the whole data file on every save in a compact binary format, which is faster to read. */
+    BINARY,
+    /** Keeps the internships in a directory of json segment files, rewriting only the segments that changed. */
+    SEGMENTED
+}
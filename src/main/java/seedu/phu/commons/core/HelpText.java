@@ -0,0 +1,54 @@
+package seedu.phu.commons.core;
+
+/**
+ * Container for the help shown by the {@code help} command, both in the help window and when running without a GUI.
+ */
+public class HelpText {
+
+    public static final String WELCOME_MESSAGE = "Welcome to PleaseHireUs!\n";
+    public static final String USERGUIDE_URL = "https://ay2223s1-cs2103t-w17-4.github.io/tp/UserGuide.html";
+    public static final String USER_GUIDE_MESSAGE = "For more details refer to the user guide: " + USERGUIDE_URL;
+    public static final String COMMAND_SUMMARY_INTRO =
+            "Refer to the following table for a quick guide on how to use this app.";
+
+    public static final String COMMAND_SUMMARY =
+            "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Action                  | Undo | Format                                                            |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Add an internship       |  √   | add n/COMPANY_NAME p/POSITION [pr/APPLICATION_PROCESS] [d/DATE]   |\n"
+            + "|                         |      | [ph/PHONE] [e/EMAIL] [web/WEBSITE] [r/REMARK] [t/TAG]…            |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Clear all entries       |  √   | clear                                                             |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Delete an internship    |  √   | delete INDEX...                                                   |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| View internship details |  x   | view INDEX                                                        |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Edit internship details |  √   | edit INDEX [n/COMPANY_NAME] [p/POSITION] [pr/APPLICATION_PROCESS] |\n"
+            + "|                         |      | [d/DATE] [ph/PHONE] [e/EMAIL] [r/REMARK] [web/WEBSITE] [t/TAG]... |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Find internship(s)      |  x   | find [c/CATEGORY] [a/] KEYWORDS...                                |\n"
+            + "| containing keyword(s)   |      |                                                                   |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| List all internship(s)  |  x   | list [c/CATEGORY [DESCENDING]]                                    |\n"
+            + "| in specified order      |      |                                                                   |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Copy internship details |  x   | copy INDEX                                                        |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Archive closed          |  √   | archive d/DATE                                                    |\n"
+            + "| internship(s)           |      |                                                                   |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Run commands from file  |  √   | run FILE [rb/]                                                    |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Undo previous command   |  x   | undo                                                              |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Redo previous           |  √   | redo                                                              |\n"
+            + "| undone command          |      |                                                                   |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| Exit the program        |  x   | exit                                                              |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+\n"
+            + "| List available commands |  x   | help                                                              |\n"
+            + "| and link to User Guide  |      |                                                                   |\n"
+            + "+-------------------------+------+-------------------------------------------------------------------+";
+
+}
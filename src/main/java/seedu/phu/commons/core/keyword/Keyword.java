@@ -3,7 +3,7 @@ package seedu.phu.commons.core.keyword;
 import static java.util.Objects.requireNonNull;
 
 import seedu.phu.model.internship.ApplicationProcess;
-import seedu.phu.model.internship.Date;
+import seedu.phu.model.internship.DateRange;
 
 /**
  * Represent a String of keyword.
@@ -22,12 +22,21 @@ public class Keyword {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     public boolean isKeywordFound(String string) {
         return string.toLowerCase().contains(keyword.toLowerCase());
     }
 
+    /**
+     * Returns true if the keyword is a valid date, range of dates, month or year.
+     *
+     * @see DateRange#isValidDateRange(String)
+     */
     public boolean isDate() {
-        return Date.isValidDate(keyword);
+        return DateRange.isValidDateRange(keyword);
     }
 
     public boolean isValidApplicationProcess() {
@@ -2,6 +2,7 @@ package seedu.phu.commons.core.keyword;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -29,6 +30,13 @@ public class KeywordList {
         keywords.add(keyword);
     }
 
+    /**
+     * Returns an unmodifiable view of the Keywords in the collection.
+     */
+    public Set<Keyword> getKeywords() {
+        return Collections.unmodifiableSet(keywords);
+    }
+
     /**
      * Test if the string matches with any of the Keywords
      * in the collection.
@@ -79,7 +87,7 @@ public class KeywordList {
 
     /**
      * Tests if all the Keyword is a valid date in
-     * dd-mm-yyyy format
+     * dd-mm-yyyy format, range of dates, month or year
      *
      * @return the test result.
      */
@@ -0,0 +1,43 @@
+package seedu.phu.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the observers of an {@code ObservedList} and notifies them of changes.
+ */
+public abstract class AbstractObservedList<E> extends AbstractList<E> implements ObservedList<E> {
+
+    private final List<ListObserver<? super E>> observers = new ArrayList<>();
+
+    @Override
+    public void addObserver(ListObserver<? super E> observer) {
+        requireNonNull(observer);
+        observers.add(observer);
+    }
+
+    @Override
+    public void removeObserver(ListObserver<? super E> observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Returns true if any observer would be notified of a change.
+     * Lists can check this to skip building changes that nobody reads.
+     */
+    protected boolean hasObservers() {
+        return !observers.isEmpty();
+    }
+
+    /**
+     * Notifies every observer of {@code change}, in the order they were added.
+     */
+    protected void fireChange(ListChange<E> change) {
+        for (ListObserver<? super E> observer : new ArrayList<>(observers)) {
+            observer.onChanged(change);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.phu.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * An {@code ObservedList} of the elements of a source {@code ObservedList} that match a predicate, kept in the
+ * order of the source.
+ *
+ * The list remembers the source positions of its elements. A change to the source only tests the elements it added
+ * and shifts the positions behind it, and a new predicate only notifies the observers of the range of the list that
+ * actually differs, so neither costs a notification for every element.
+ */
+public class FilteredObservedList<E> extends AbstractObservedList<E> implements RandomAccess {
+
+    private final ObservedList<E> source;
+    private Predicate<? super E> predicate;
+
+    /** Source positions of the matching elements, in increasing order; only the first {@code size} are used. */
+    private int[] sourceIndices = new int[0];
+    private int size = 0;
+
+    /**
+     * Creates a list of every element of {@code source}.
+     */
+    public FilteredObservedList(ObservedList<E> source) {
+        this(source, null);
+    }
+
+    /**
+     * Creates a list of the elements of {@code source} that match {@code predicate}.
+     * A null predicate matches every element.
+     */
+    public FilteredObservedList(ObservedList<E> source, Predicate<? super E> predicate) {
+        requireNonNull(source);
+        this.source = source;
+        setPredicate(predicate);
+        source.addObserver(this::onSourceChanged);
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position in the source of the element at {@code index} of this list.
+     */
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size);
+        return sourceIndices[index];
+    }
+
+    /**
+     * Returns the predicate elements must match to be in this list, or null if every element is.
+     */
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Keeps only the elements of the source that match {@code predicate}, or every element if it is null.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        this.predicate = predicate;
+        int[] newIndices = new int[source.size()];
+        int newSize = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (matches(source.get(i))) {
+                newIndices[newSize++] = i;
+            }
+        }
+
+        if (!hasObservers()) {
+            sourceIndices = newIndices;
+            size = newSize;
+            modCount++;
+            return;
+        }
+
+        int start = 0;
+        int oldEnd = size;
+        int newEnd = newSize;
+        while (start < oldEnd && start < newEnd && sourceIndices[start] == newIndices[start]) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && sourceIndices[oldEnd - 1] == newIndices[newEnd - 1]) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<E> removed = elementsAt(sourceIndices, start, oldEnd);
+        List<E> added = elementsAt(newIndices, start, newEnd);
+        sourceIndices = newIndices;
+        size = newSize;
+        modCount++;
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            fireChange(ListChange.replaced(start, removed, added));
+        }
+    }
+
+    private boolean matches(E element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    private List<E> elementsAt(int[] indices, int start, int end) {
+        List<E> elements = new ArrayList<>(end - start);
+        for (int k = start; k < end; k++) {
+            elements.add(source.get(indices[k]));
+        }
+        return elements;
+    }
+
+    private void onSourceChanged(ListChange<? extends E> change) {
+        modCount++;
+        if (change.wasPermutated()) {
+            onSourcePermuted(change);
+        } else {
+            onSourceReplaced(change);
+        }
+    }
+
+    private void onSourceReplaced(ListChange<? extends E> change) {
+        int from = change.getFrom();
+        List<? extends E> sourceRemoved = change.getRemoved();
+        List<? extends E> sourceAdded = change.getAdded();
+        int start = lowerBound(from);
+        int end = lowerBound(from + sourceRemoved.size());
+
+        List<E> removed = new ArrayList<>(end - start);
+        for (int k = start; k < end; k++) {
+            removed.add(sourceRemoved.get(sourceIndices[k] - from));
+        }
+        List<E> added = new ArrayList<>();
+        int[] addedIndices = new int[sourceAdded.size()];
+        for (int i = 0; i < sourceAdded.size(); i++) {
+            if (matches(sourceAdded.get(i))) {
+                addedIndices[added.size()] = from + i;
+                added.add(sourceAdded.get(i));
+            }
+        }
+
+        int newSize = size - removed.size() + added.size();
+        int[] newIndices = newSize <= sourceIndices.length
+                ? sourceIndices
+                : Arrays.copyOf(sourceIndices, Math.max(newSize, sourceIndices.length * 2));
+        System.arraycopy(sourceIndices, end, newIndices, start + added.size(), size - end);
+        System.arraycopy(addedIndices, 0, newIndices, start, added.size());
+        int shift = sourceAdded.size() - sourceRemoved.size();
+        for (int k = start + added.size(); k < newSize; k++) {
+            newIndices[k] += shift;
+        }
+        sourceIndices = newIndices;
+        size = newSize;
+
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            fireChange(ListChange.replaced(start, removed, added));
+        }
+    }
+
+    private void onSourcePermuted(ListChange<? extends E> change) {
+        int from = change.getFrom();
+        int start = lowerBound(from);
+        int end = lowerBound(change.getTo());
+        int count = end - start;
+
+        int[] movedIndices = new int[count];
+        for (int k = start; k < end; k++) {
+            movedIndices[k - start] = change.getPermutation(sourceIndices[k]);
+        }
+        int[] sortedIndices = movedIndices.clone();
+        Arrays.sort(sortedIndices);
+
+        boolean isReordered = false;
+        int[] permutation = new int[count];
+        List<E> before = new ArrayList<>(count);
+        for (int k = start; k < end; k++) {
+            permutation[k - start] = start + Arrays.binarySearch(sortedIndices, movedIndices[k - start]);
+            isReordered |= permutation[k - start] != k;
+            before.add(change.getRemoved().get(sourceIndices[k] - from));
+        }
+        System.arraycopy(sortedIndices, 0, sourceIndices, start, count);
+        if (!isReordered) {
+            return;
+        }
+
+        List<E> after = new ArrayList<>(count);
+        for (int k = start; k < end; k++) {
+            after.add(change.getAdded().get(sourceIndices[k] - from));
+        }
+        fireChange(ListChange.permuted(start, before, after, permutation));
+    }
+
+    /**
+     * Returns the position in this list of the first element whose source position is at least {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sourceIndices[middle] < sourceIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
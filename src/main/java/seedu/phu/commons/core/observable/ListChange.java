@@ -0,0 +1,125 @@
+package seedu.phu.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.phu.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One change to a contiguous range of an {@code ObservedList}.
+ *
+ * Either the elements from {@code getFrom()} were replaced, in which case {@code getRemoved()} holds the elements that
+ * were there before and {@code getAdded()} the ones now there, or the range from {@code getFrom()} to {@code getTo()}
+ * was reordered, in which case {@code getRemoved()} and {@code getAdded()} hold the range before and after reordering.
+ * The elements are copied when the change is made, so a change can be read later, or on another thread, even if the
+ * list has changed again since.
+ */
+public final class ListChange<E> {
+
+    private final int from;
+    private final List<E> removed;
+    private final List<E> added;
+
+    /** New position of the element that was at {@code from + i}, or null if the range was not reordered. */
+    private final int[] permutation;
+
+    private ListChange(int from, List<? extends E> removed, List<? extends E> added, int[] permutation) {
+        checkArgument(from >= 0, "Change must start inside the list.");
+        this.from = from;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+        this.permutation = permutation;
+    }
+
+    /**
+     * Returns a change that replaced {@code removed} at {@code from} with {@code added}.
+     */
+    public static <E> ListChange<E> replaced(int from, List<? extends E> removed, List<? extends E> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        return new ListChange<>(from, removed, added, null);
+    }
+
+    /**
+     * Returns a change that reordered the range at {@code from} from {@code before} to {@code after}, so that the
+     * element that was at {@code from + i} is now at {@code permutation[i]}.
+     */
+    public static <E> ListChange<E> permuted(int from, List<? extends E> before, List<? extends E> after,
+            int[] permutation) {
+        requireNonNull(before);
+        requireNonNull(after);
+        checkArgument(before.size() == after.size() && after.size() == permutation.length,
+                "A reordering must keep the size of its range.");
+        return new ListChange<>(from, before, after, permutation.clone());
+    }
+
+    /**
+     * Returns the index of the first element changed.
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the index just past the elements now in the changed range.
+     */
+    public int getTo() {
+        return from + added.size();
+    }
+
+    /**
+     * Returns the elements that were in the changed range before the change.
+     */
+    public List<E> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the elements that are in the changed range after the change.
+     */
+    public List<E> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns true if the change only reordered the elements in its range.
+     */
+    public boolean wasPermutated() {
+        return permutation != null;
+    }
+
+    /**
+     * Returns the index that the element at {@code index} before a reordering was moved to.
+     *
+     * @throws IllegalStateException if this change did not reorder its range.
+     */
+    public int getPermutation(int index) {
+        if (permutation == null) {
+            throw new IllegalStateException("Not a reordering.");
+        }
+        return permutation[index - from];
+    }
+
+    /**
+     * Returns true if elements were added by this change.
+     */
+    public boolean wasAdded() {
+        return permutation == null && !added.isEmpty();
+    }
+
+    /**
+     * Returns true if elements were removed by this change.
+     */
+    public boolean wasRemoved() {
+        return permutation == null && !removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return wasPermutated()
+                ? "reordered " + from + " to " + getTo()
+                : "replaced " + removed + " at " + from + " with " + added;
+    }
+}
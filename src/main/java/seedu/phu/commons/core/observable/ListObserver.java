@@ -0,0 +1,12 @@
+package seedu.phu.commons.core.observable;
+
+/**
+ * Notified of every change made to an {@code ObservedList}.
+ */
+@FunctionalInterface
+public interface ListObserver<E> {
+    /**
+     * Called after {@code change} has been made to the observed list, on the thread that made it.
+     */
+    void onChanged(ListChange<? extends E> change);
+}
@@ -0,0 +1,208 @@
+package seedu.phu.commons.core.observable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An {@code ObservedList} backed by an array.
+ *
+ * Every method that changes the list notifies the observers once, with a single {@code ListChange} covering the whole
+ * change, so that replacing or sorting many elements does not cost one notification per element.
+ * The list is not synchronized; it must only be changed by one thread at a time.
+ */
+public class ObservedArrayList<E> extends AbstractObservedList<E> implements RandomAccess {
+
+    private final ArrayList<E> elements;
+
+    public ObservedArrayList() {
+        elements = new ArrayList<>();
+    }
+
+    /**
+     * Creates a list holding the elements of {@code initialElements}, in the order of its iterator.
+     */
+    public ObservedArrayList(Collection<? extends E> initialElements) {
+        elements = new ArrayList<>(initialElements);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = elements.set(index, element);
+        modCount++;
+        if (hasObservers()) {
+            fireChange(ListChange.replaced(index, List.of(previous), List.of(element)));
+        }
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        elements.add(index, element);
+        modCount++;
+        if (hasObservers()) {
+            fireChange(ListChange.replaced(index, List.of(), List.of(element)));
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = elements.remove(index);
+        modCount++;
+        if (hasObservers()) {
+            fireChange(ListChange.replaced(index, List.of(removed), List.of()));
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        replaceRange(index, index, toAdd);
+        return !toAdd.isEmpty();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        replaceRange(fromIndex, toIndex, List.of());
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     */
+    public void setAll(Collection<? extends E> replacement) {
+        replaceRange(0, size(), replacement);
+    }
+
+    /**
+     * Replaces the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}, as a single change.
+     */
+    public void replaceRange(int fromIndex, int toIndex, Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        List<E> range = elements.subList(fromIndex, toIndex);
+        if (range.isEmpty() && replacement.isEmpty()) {
+            return;
+        }
+
+        List<E> removed = hasObservers() ? new ArrayList<>(range) : List.of();
+        range.clear();
+        elements.addAll(fromIndex, replacement);
+        modCount++;
+        if (hasObservers()) {
+            fireChange(ListChange.replaced(fromIndex, removed, elements.subList(fromIndex,
+                    fromIndex + replacement.size())));
+        }
+    }
+
+    /**
+     * Sorts this list with {@code comparator}, keeping equal elements in their current order, and notifies the
+     * observers of the reordering.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        Integer[] order = new Integer[size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // object arrays are sorted stably
+        Arrays.sort(order, (first, second) -> comparator.compare(elements.get(first), elements.get(second)));
+
+        int[] permutation = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            permutation[order[i]] = i;
+        }
+        permute(permutation);
+    }
+
+    /**
+     * Reverses the order of this list, and notifies the observers of the reordering.
+     */
+    public void reverse() {
+        int[] permutation = new int[size()];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = permutation.length - 1 - i;
+        }
+        permute(permutation);
+    }
+
+    /**
+     * Returns an unmodifiable view of this list, whose observers are notified of the changes made to this list.
+     */
+    public ObservedList<E> asUnmodifiableList() {
+        return new UnmodifiableView();
+    }
+
+    /**
+     * Moves the element at {@code i} to {@code permutation[i]}.
+     */
+    private void permute(int[] permutation) {
+        modCount++;
+        int start = 0;
+        int end = permutation.length;
+        while (start < end && permutation[start] == start) {
+            start++;
+        }
+        while (end > start && permutation[end - 1] == end - 1) {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+
+        List<E> before = new ArrayList<>(elements.subList(start, end));
+        for (int i = start; i < end; i++) {
+            elements.set(permutation[i], before.get(i - start));
+        }
+        if (hasObservers()) {
+            fireChange(ListChange.permuted(start, before, elements.subList(start, end),
+                    Arrays.copyOfRange(permutation, start, end)));
+        }
+    }
+
+    /**
+     * A read-only view of the enclosing list that shares its observers.
+     */
+    private class UnmodifiableView extends AbstractList<E> implements ObservedList<E>, RandomAccess {
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public void addObserver(ListObserver<? super E> observer) {
+            ObservedArrayList.this.addObserver(observer);
+        }
+
+        @Override
+        public void removeObserver(ListObserver<? super E> observer) {
+            ObservedArrayList.this.removeObserver(observer);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.phu.commons.core.observable;
+
+import java.util.List;
+
+/**
+ * A list that tells its observers about every change made to it.
+ *
+ * Unlike JavaFX's {@code ObservableList}, this does not need a GUI toolkit, so the model can be loaded, searched and
+ * changed from any thread. Observers are called on the thread that made the change; views that must only be updated
+ * on a particular thread are expected to hand the change over themselves.
+ */
+public interface ObservedList<E> extends List<E> {
+
+    /**
+     * Registers {@code observer} to be notified after each change to this list.
+     */
+    void addObserver(ListObserver<? super E> observer);
+
+    /**
+     * Stops notifying {@code observer} of changes to this list.
+     */
+    void removeObserver(ListObserver<? super E> observer);
+}
@@ -1,9 +1,11 @@
 package seedu.phu.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
-import javafx.collections.ObservableList;
 import seedu.phu.commons.core.GuiSettings;
+import seedu.phu.commons.core.observable.ObservedList;
 import seedu.phu.logic.commands.CommandResult;
 import seedu.phu.logic.commands.exceptions.CommandException;
 import seedu.phu.logic.parser.exceptions.ParseException;
@@ -23,6 +25,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command in the background, after every command submitted before it has finished.
+     * The returned future is completed with the result of the command, or with the {@code CommandException} or
+     * {@code ParseException} it failed with. It is completed on the thread that ran the command, before the next
+     * command starts, so stages added to it before another command is submitted still see the model as this command
+     * left it.
+     *
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
     /**
      * Returns the InternshipBook.
      *
@@ -31,10 +44,10 @@ public interface Logic {
     ReadOnlyInternshipBook getInternshipBook();
 
     /** Returns an unmodifiable view of the filtered list of internships */
-    ObservableList<Internship> getFilteredInternshipList();
+    ObservedList<Internship> getFilteredInternshipList();
 
     /** Returns an unmodifiable view of the internship selected to be viewed */
-    ObservableList<Internship> getViewItem();
+    ObservedList<Internship> getViewItem();
 
     /**
      * Returns the user prefs' internship book file path.
@@ -50,4 +63,11 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Writes any changes to the internship book that have not been saved yet, waiting for the write to finish.
+     *
+     * @throws IOException if saving fails.
+     */
+    void flush() throws IOException;
 }
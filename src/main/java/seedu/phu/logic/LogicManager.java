@@ -2,60 +2,136 @@ package seedu.phu.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.phu.commons.core.GuiSettings;
 import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.core.observable.ObservedList;
+import seedu.phu.commons.exceptions.DataConversionException;
 import seedu.phu.logic.commands.Command;
 import seedu.phu.logic.commands.CommandHistory;
 import seedu.phu.logic.commands.CommandResult;
+import seedu.phu.logic.commands.UndoCommand;
 import seedu.phu.logic.commands.exceptions.CommandException;
 import seedu.phu.logic.parser.InternshipBookParser;
 import seedu.phu.logic.parser.exceptions.ParseException;
 import seedu.phu.model.Model;
 import seedu.phu.model.ReadOnlyInternshipBook;
 import seedu.phu.model.internship.Internship;
+import seedu.phu.storage.AsyncInternshipBookSaver;
 import seedu.phu.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * The internship book is only saved after commands that change it, and is written in the background.
+ * The archive is written before the internship book that its internships were moved out of, so that archived
+ * internships are still in the saved internship book until the archive holding them has been saved. Undoing an
+ * archive moves internships the other way, so the internship book is then written first, and the archive only once
+ * the internship book holding them has been saved.
+ * A background write that fails is reported with the next command, which says whether the failed write was of its
+ * own changes or of those of an earlier command, and the internship book is then saved again.
+ *
+ * Commands submitted with {@link #executeAsync(String)} run one at a time on a command thread, in the order they
+ * were submitted, so that undo and redo see them in the order the user entered them.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String EARLIER_FILE_OPS_ERROR_MESSAGE =
+            "Could not save the changes of an earlier command to file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final AsyncInternshipBookSaver internshipBookSaver;
     private final InternshipBookParser internshipBookParser;
+    private final Executor commandExecutor;
     private CommandHistory commandHistory;
+    private volatile CompletableFuture<CommandResult> lastSubmittedCommand = CompletableFuture.completedFuture(null);
+    private int savedArchiveModificationCount;
+    private long latestScheduledSnapshot;
+    private boolean isInternshipBookSaveHeldBack;
+    private boolean isArchiveSaveHeldBack;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new AsyncInternshipBookSaver(storage), createCommandThread());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, running writes to
+     * {@code storage} on {@code writeExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor writeExecutor) {
+        this(model, storage, new AsyncInternshipBookSaver(storage, writeExecutor), createCommandThread());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, running writes to
+     * {@code storage} on {@code writeExecutor} and commands submitted with {@link #executeAsync(String)} on
+     * {@code commandExecutor}, which must run them one at a time in the order they were submitted.
+     */
+    public LogicManager(Model model, Storage storage, Executor writeExecutor, Executor commandExecutor) {
+        this(model, storage, new AsyncInternshipBookSaver(storage, writeExecutor), commandExecutor);
+    }
+
+    private LogicManager(Model model, Storage storage, AsyncInternshipBookSaver internshipBookSaver,
+            Executor commandExecutor) {
         this.model = model;
         this.storage = storage;
+        this.internshipBookSaver = internshipBookSaver;
+        this.commandExecutor = commandExecutor;
+        this.savedArchiveModificationCount = model.getArchiveModificationCount();
         internshipBookParser = new InternshipBookParser();
-        commandHistory = new CommandHistory();
+        commandHistory = new CommandHistory(model.getUserPrefs().getUndoLimit());
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         commandHistory.addCommand(commandText);
         Command command = internshipBookParser.parseCommand(commandText);
+        int modificationCount = model.getModificationCount();
         commandResult = command.execute(model, commandHistory);
 
-        try {
-            storage.saveInternshipBook(model.getInternshipBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        isInternshipBookSaveHeldBack |= model.getModificationCount() != modificationCount;
+        // only undo takes internships out of the archive
+        isArchiveSaveHeldBack |= command instanceof UndoCommand
+                && model.getArchiveModificationCount() != savedArchiveModificationCount;
+        Optional<IOException> earlierSaveFailure = holdBackIfFailed(internshipBookSaver.takeFailure());
+        long firstSnapshotOfCommand = latestScheduledSnapshot + 1;
+        Optional<IOException> saveFailure = saveChanges()
+                .or(() -> holdBackIfFailed(internshipBookSaver.takeFailure(firstSnapshotOfCommand)));
+        if (earlierSaveFailure.isEmpty() && saveFailure.isEmpty()) {
+            return commandResult;
         }
 
-        return commandResult;
+        StringBuilder feedback = new StringBuilder(commandResult.getFeedbackToUser());
+        earlierSaveFailure.ifPresent(e -> feedback.append("\n").append(EARLIER_FILE_OPS_ERROR_MESSAGE).append(e));
+        saveFailure.ifPresent(e -> feedback.append("\n").append(FILE_OPS_ERROR_MESSAGE).append(e));
+        return new CommandResult(feedback.toString(), commandResult.isShowHelp(), commandResult.isExit());
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        lastSubmittedCommand = result;
+        commandExecutor.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (Throwable e) {
+                // errors complete the future too, so that neither the caller nor flush() waits for it forever
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
     }
 
     @Override
@@ -64,12 +140,12 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Internship> getFilteredInternshipList() {
+    public ObservedList<Internship> getFilteredInternshipList() {
         return model.getFilteredInternshipList();
     }
 
     @Override
-    public ObservableList<Internship> getViewItem() {
+    public ObservedList<Internship> getViewItem() {
         return model.getViewItem();
     }
 
@@ -87,4 +163,96 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void flush() throws IOException {
+        // commands already submitted are run first, so that their changes are saved too
+        lastSubmittedCommand.handle((result, failure) -> result).join();
+        synchronized (this) {
+            flushSaves();
+        }
+    }
+
+    private void flushSaves() throws IOException {
+        Optional<IOException> saveFailure = saveChanges();
+        if (saveFailure.isPresent()) {
+            throw saveFailure.get();
+        }
+        internshipBookSaver.flush();
+    }
+
+    /**
+     * Saves the archive if it changed, and schedules the internship book to be saved if it changed, in the order
+     * that keeps every internship in at least one of the saved files.
+     *
+     * @return the failure to save either of them, if any.
+     */
+    private Optional<IOException> saveChanges() {
+        if (!isArchiveSaveHeldBack) {
+            Optional<IOException> archiveFailure = saveArchiveIfChanged();
+            if (archiveFailure.isEmpty()) {
+                scheduleInternshipBookSave();
+            }
+            return archiveFailure;
+        }
+
+        scheduleInternshipBookSave();
+        try {
+            internshipBookSaver.flush();
+        } catch (IOException e) {
+            isInternshipBookSaveHeldBack = true;
+            return Optional.of(e);
+        }
+        Optional<IOException> archiveFailure = saveArchiveIfChanged();
+        isArchiveSaveHeldBack = archiveFailure.isPresent();
+        return archiveFailure;
+    }
+
+    private void scheduleInternshipBookSave() {
+        if (isInternshipBookSaveHeldBack) {
+            latestScheduledSnapshot = internshipBookSaver.schedule(model.getInternshipBook());
+            isInternshipBookSaveHeldBack = false;
+        }
+    }
+
+    /**
+     * Holds back saving the internship book until the next save if writing it failed, so that it is written again.
+     */
+    private Optional<IOException> holdBackIfFailed(Optional<IOException> writeFailure) {
+        isInternshipBookSaveHeldBack |= writeFailure.isPresent();
+        return writeFailure;
+    }
+
+    /**
+     * Saves the archive if it changed since it was last saved.
+     * The archive is written right away rather than in the background, as it only changes on request.
+     *
+     * @return the failure to save the archive, if any.
+     */
+    private Optional<IOException> saveArchiveIfChanged() {
+        int archiveModificationCount = model.getArchiveModificationCount();
+        if (archiveModificationCount == savedArchiveModificationCount) {
+            return Optional.empty();
+        }
+
+        try {
+            storage.saveArchive(model.getArchivedInternships());
+            savedArchiveModificationCount = archiveModificationCount;
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warning("Could not save archive: " + e);
+            return Optional.of(e);
+        } catch (DataConversionException e) {
+            // a changed archive has been loaded, so reading it again cannot fail
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Executor createCommandThread() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 }
@@ -0,0 +1,65 @@
+package seedu.phu.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.util.List;
+
+import seedu.phu.commons.core.Messages;
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.logic.commands.exceptions.CommandException;
+import seedu.phu.model.Model;
+import seedu.phu.model.internship.ClosedBeforePredicate;
+import seedu.phu.model.internship.Date;
+import seedu.phu.model.internship.Internship;
+
+/**
+ * Moves the internships that were accepted or rejected before a cutoff date from the internship book to the archive.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Moves the internships that were accepted or rejected and are dated before the given date "
+            + "to the archive.\n"
+            + "Archived internships can still be searched with " + FindCommand.COMMAND_WORD + " a/ KEYWORDS...\n"
+            + "Parameters: " + PREFIX_DATE + "DATE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DATE + "01-01-2023";
+
+    public static final String MESSAGE_ARCHIVE_SUCCESS = "Archived %1$d internship(s) closed before %2$s";
+    public static final String MESSAGE_NOTHING_TO_ARCHIVE = "No accepted or rejected internships are dated before %1$s";
+
+    private final Date cutoff;
+
+    public ArchiveCommand(Date cutoff) {
+        requireNonNull(cutoff);
+        this.cutoff = cutoff;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
+        requireNonNull(model);
+        List<Internship> archived;
+        try {
+            archived = model.archiveInternships(new ClosedBeforePredicate(cutoff));
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+
+        if (archived.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NOTHING_TO_ARCHIVE, cutoff.toDisplayFormat()));
+        }
+        model.commitInternshipBookChange();
+        commandHistory.setLastCommandAsModify();
+
+        return new CommandResult(String.format(MESSAGE_ARCHIVE_SUCCESS, archived.size(), cutoff.toDisplayFormat()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ArchiveCommand // instanceof handles nulls
+                && cutoff.equals(((ArchiveCommand) other).cutoff)); // state check
+    }
+}
@@ -5,21 +5,40 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.phu.model.VersionedInternshipBook;
+
 /**
  * Stores the history of commands that have been executed.
+ * Only the most recent commands are kept, and only as many modify commands as there are changes that can be undone.
  */
 public class CommandHistory {
+    private final int limit;
     private List<String> history;
+    private int evictedCommandCount;
     private List<Integer> modifyCommandIndexes;
+    private List<String> modifyCommands;
     private int currentStatePointer;
 
     /**
-     * Creates a new instance of CommandHistory.
+     * Creates a new instance of CommandHistory that keeps as many commands as can be undone by default.
      */
     public CommandHistory() {
+        this(VersionedInternshipBook.DEFAULT_UNDO_LIMIT);
+    }
+
+    /**
+     * Creates a new instance of CommandHistory.
+     *
+     * @param limit the number of recent commands, and of modify commands, to keep.
+     */
+    public CommandHistory(int limit) {
+        this.limit = limit;
         history = new ArrayList<>();
+        evictedCommandCount = 0;
         modifyCommandIndexes = new ArrayList<>();
         modifyCommandIndexes.add(-1);
+        modifyCommands = new ArrayList<>();
+        modifyCommands.add(null);
         currentStatePointer = 0;
     }
 
@@ -29,10 +48,14 @@ public class CommandHistory {
      * @param commandHistory an instance to be copied.
      */
     public CommandHistory(CommandHistory commandHistory) {
+        limit = commandHistory.limit;
         history = new ArrayList<>();
         history.addAll(commandHistory.history);
+        evictedCommandCount = commandHistory.evictedCommandCount;
         modifyCommandIndexes = new ArrayList<>();
         modifyCommandIndexes.addAll(commandHistory.modifyCommandIndexes);
+        modifyCommands = new ArrayList<>();
+        modifyCommands.addAll(commandHistory.modifyCommands);
         currentStatePointer = commandHistory.currentStatePointer;
     }
 
@@ -44,6 +67,10 @@ public class CommandHistory {
     public void addCommand(String commandText) {
         requireNonNull(commandText);
         history.add(commandText);
+        while (history.size() > Math.max(limit, 1)) {
+            history.remove(0);
+            evictedCommandCount++;
+        }
     }
 
     /**
@@ -54,8 +81,15 @@ public class CommandHistory {
         assert history.size() > 0;
 
         removeModifyCommandAfterCurrentPointer();
-        modifyCommandIndexes.add(history.size() - 1);
+        modifyCommandIndexes.add(evictedCommandCount + history.size() - 1);
+        modifyCommands.add(history.get(history.size() - 1));
         currentStatePointer++;
+
+        while (currentStatePointer > limit) {
+            modifyCommandIndexes.remove(1);
+            modifyCommands.remove(1);
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -66,7 +100,7 @@ public class CommandHistory {
     public String getPreviousModifyCommand() {
         assert currentStatePointer > 0;
 
-        String previousModifyCommand = history.get(modifyCommandIndexes.get(currentStatePointer));
+        String previousModifyCommand = modifyCommands.get(currentStatePointer);
         currentStatePointer--;
 
         return previousModifyCommand;
@@ -81,7 +115,7 @@ public class CommandHistory {
         assert currentStatePointer < modifyCommandIndexes.size() - 1;
 
         currentStatePointer++;
-        String nextModifyCommand = history.get(modifyCommandIndexes.get(currentStatePointer));
+        String nextModifyCommand = modifyCommands.get(currentStatePointer);
 
         return nextModifyCommand;
     }
@@ -91,6 +125,7 @@ public class CommandHistory {
 
         for (int i = 0; i < numberOfModifyCommandsToBeRemoved; i++) {
             modifyCommandIndexes.remove(currentStatePointer + 1);
+            modifyCommands.remove(currentStatePointer + 1);
         }
     }
 
@@ -1,14 +1,23 @@
 package seedu.phu.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_ARCHIVE;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.phu.commons.core.Messages;
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.logic.commands.exceptions.CommandException;
 import seedu.phu.model.Model;
 import seedu.phu.model.internship.ContainsKeywordsPredicate;
+import seedu.phu.model.internship.Internship;
 
 /**
  * Finds and lists all internships in internship book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Archived internships are only searched on request, and are listed in the result message rather than the displayed
+ * list, since they cannot be edited or deleted.
  */
 public class FindCommand extends Command {
 
@@ -17,27 +26,71 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all internships whose specified category"
             + " contain any of the specified keywords (case-insensitive) "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: find [c/CATEGORY] KEYWORDS...\n"
+            + "Add " + PREFIX_ARCHIVE + " to also search the archived internships.\n"
+            + "Parameters: find [c/CATEGORY] [" + PREFIX_ARCHIVE + "] KEYWORDS...\n"
             + "Example: " + COMMAND_WORD + " c/p engineer writer";
 
+    public static final String MESSAGE_ARCHIVED_MATCHES = "%1$d archived internships matched:\n%2$s";
+
     private final ContainsKeywordsPredicate predicate;
+    private final boolean isArchiveIncluded;
 
     public FindCommand(ContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that lists the internships matching {@code predicate}, and also the archived ones if
+     * {@code isArchiveIncluded}.
+     */
+    public FindCommand(ContainsKeywordsPredicate predicate, boolean isArchiveIncluded) {
         this.predicate = predicate;
+        this.isArchiveIncluded = isArchiveIncluded;
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory commandHistory) {
+    public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
         requireNonNull(model);
         model.updateFilteredInternshipList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_INTERNSHIPS_LISTED_OVERVIEW, model.getFilteredInternshipList().size()));
+        String listedMessage = String.format(Messages.MESSAGE_INTERNSHIPS_LISTED_OVERVIEW,
+                model.getFilteredInternshipList().size());
+        if (!isArchiveIncluded) {
+            return new CommandResult(listedMessage);
+        }
+
+        List<Internship> archivedMatches = new ArrayList<>();
+        try {
+            for (Internship internship : model.getArchivedInternships().getInternshipList()) {
+                // an archived internship that was added to the book again is already listed
+                if (predicate.test(internship) && !model.hasInternship(internship)) {
+                    archivedMatches.add(internship);
+                }
+            }
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+        return new CommandResult(listedMessage + "\n"
+                + String.format(MESSAGE_ARCHIVED_MATCHES, archivedMatches.size(), describe(archivedMatches)));
+    }
+
+    private static String describe(List<Internship> internships) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < internships.size(); i++) {
+            Internship internship = internships.get(i);
+            builder.append(i + 1).append(". ")
+                    .append(internship.getName()).append(", ")
+                    .append(internship.getPosition()).append(" (")
+                    .append(internship.getApplicationProcess()).append(", ")
+                    .append(internship.getDate().toDisplayFormat()).append(")\n");
+        }
+        return builder.toString();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && isArchiveIncluded == ((FindCommand) other).isArchiveIncluded); // state check
     }
 }
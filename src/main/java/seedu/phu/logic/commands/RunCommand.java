@@ -0,0 +1,145 @@
+package seedu.phu.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_ROLLBACK;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.phu.logic.commands.exceptions.CommandException;
+import seedu.phu.logic.parser.InternshipBookParser;
+import seedu.phu.logic.parser.exceptions.ParseException;
+import seedu.phu.model.Model;
+
+/**
+ * Runs the commands in a file, one per line, as a single change to the internship book.
+ *
+ * The commands are read and run one at a time, and the internship book is committed and saved once after the last
+ * of them, so undo reverts the whole file at once. A command that fails is reported with its line number and the
+ * rest still run, unless the run is asked to roll back, in which case the first failure undoes every change the
+ * file made.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, "
+            + "as a single change that can be undone at once.\n"
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped. "
+            + "With " + PREFIX_ROLLBACK + ", the first command that fails undoes every change made by the file.\n"
+            + "Parameters: FILE [" + PREFIX_ROLLBACK + "]\n"
+            + "Example: " + COMMAND_WORD + " fair-notes.txt " + PREFIX_ROLLBACK;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_PARTIAL_SUCCESS = "Ran %1$d command(s) from %2$s, %3$d failed:";
+    public static final String MESSAGE_ROLLED_BACK = "No changes were made, as a command in %1$s failed:";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOT_IN_FILE = "This command cannot be run from a file";
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read commands from %1$s: %2$s";
+
+    /** Commands that would undo the batch, escape it, or make changes that cannot be rolled back. */
+    private static final Set<Class<? extends Command>> COMMANDS_NOT_IN_FILE = Set.of(RunCommand.class,
+            UndoCommand.class, RedoCommand.class, ArchiveCommand.class, HelpCommand.class, ExitCommand.class);
+
+    private final Path filePath;
+    private final boolean isRolledBackOnFailure;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code filePath}.
+     *
+     * @param isRolledBackOnFailure whether the first command that fails undoes every change made by the file.
+     */
+    public RunCommand(Path filePath, boolean isRolledBackOnFailure) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isRolledBackOnFailure = isRolledBackOnFailure;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory commandHistory) throws CommandException {
+        requireNonNull(model);
+        List<String> failures = new ArrayList<>();
+        int ranCount;
+
+        model.startInternshipBookBatch();
+        try {
+            ranCount = runCommandsInFile(model, failures);
+        } catch (IOException e) {
+            model.rollBackInternshipBookBatch();
+            throw new CommandException(String.format(MESSAGE_UNREADABLE_FILE, filePath, e.getMessage()), e);
+        } catch (RuntimeException e) {
+            model.rollBackInternshipBookBatch();
+            throw e;
+        }
+
+        if (isRolledBackOnFailure && !failures.isEmpty()) {
+            model.rollBackInternshipBookBatch();
+            throw new CommandException(String.format(MESSAGE_ROLLED_BACK, filePath) + "\n" + failures.get(0));
+        }
+        if (model.endInternshipBookBatch()) {
+            commandHistory.setLastCommandAsModify();
+        }
+
+        if (failures.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, ranCount, filePath));
+        }
+        return new CommandResult(String.format(MESSAGE_PARTIAL_SUCCESS, ranCount, filePath, failures.size())
+                + "\n" + String.join("\n", failures));
+    }
+
+    /**
+     * Runs the commands in the file as they are read, adding the failure of each command that fails to
+     * {@code failures}. If the run is to be rolled back on failure, no commands are run after the first failure.
+     *
+     * @return the number of commands that succeeded.
+     */
+    private int runCommandsInFile(Model model, List<String> failures) throws IOException {
+        InternshipBookParser parser = new InternshipBookParser();
+        // the commands of the file are kept out of the history, which records the file as a single change
+        CommandHistory fileHistory = new CommandHistory();
+        int ranCount = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    Command command = parser.parseCommand(commandText);
+                    if (COMMANDS_NOT_IN_FILE.contains(command.getClass())) {
+                        throw new CommandException(MESSAGE_NOT_IN_FILE);
+                    }
+                    fileHistory.addCommand(commandText);
+                    command.execute(model, fileHistory);
+                    ranCount++;
+                } catch (CommandException | ParseException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                    if (isRolledBackOnFailure) {
+                        return ranCount;
+                    }
+                }
+            }
+        }
+        return ranCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && filePath.equals(((RunCommand) other).filePath)
+                && isRolledBackOnFailure == ((RunCommand) other).isRolledBackOnFailure); // state check
+    }
+}
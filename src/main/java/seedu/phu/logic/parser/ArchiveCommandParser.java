@@ -0,0 +1,30 @@
+package seedu.phu.logic.parser;
+
+import static seedu.phu.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_DATE;
+
+import seedu.phu.logic.commands.ArchiveCommand;
+import seedu.phu.logic.parser.exceptions.ParseException;
+import seedu.phu.model.internship.Date;
+
+/**
+ * Parses input arguments and creates a new ArchiveCommand object
+ */
+public class ArchiveCommandParser implements Parser<ArchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ArchiveCommand
+     * and returns an ArchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ArchiveCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE);
+
+        if (!argMultimap.getValue(PREFIX_DATE).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
+        }
+
+        Date cutoff = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        return new ArchiveCommand(cutoff);
+    }
+}
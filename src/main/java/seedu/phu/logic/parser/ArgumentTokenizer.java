@@ -3,7 +3,6 @@ package seedu.phu.logic.parser;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +11,15 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ *
+ * The arguments string is scanned once from left to right. After every space, a trie of the given prefixes is
+ * walked over the characters that follow, so each position is looked at no more times than the length of the
+ * longest prefix, however many prefixes there are.
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,104 +29,74 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
+        List<PrefixPosition> positions = findAllPrefixPositions(argsString, new PrefixTrie(prefixes));
         return extractArguments(argsString, positions);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Finds all zero-based prefix positions in the given arguments string, in the order they appear. A prefix is
+     * only recognized if there is a whitespace before it, and where several prefixes match at the same position,
+     * the longest one is taken.
+     *
+     * E.g if {@code argsString} = "e/hip/900" and the prefix is "p/", no position is found as there is no
+     * whitespace before "p/". However, if {@code argsString} = "e/hi p/900", position 5 is found.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to find in the arguments string
      * @return           List of zero-based prefix positions in the given arguments string
      */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+    private static List<PrefixPosition> findAllPrefixPositions(String argsString, PrefixTrie prefixes) {
         List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            Prefix prefix = prefixes.findLongestMatch(argsString, i);
+            if (prefix != null) {
+                positions.add(new PrefixPosition(prefix, i));
+            }
         }
-
         return positions;
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
     /**
      * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
      * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
      * {@code argsString}.
      *
      * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
+     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}, in ascending order
      * @return                ArgumentMultimap object that maps prefixes to their arguments
      */
     private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+
+        // The preamble runs from the start of the string to the first prefix
+        Prefix argPrefix = PREAMBLE;
+        int valueStartPos = 0;
+        for (PrefixPosition position : prefixPositions) {
+            argMultimap.put(argPrefix, extractArgumentValue(argsString, valueStartPos, position.getStartPosition()));
+            argPrefix = position.getPrefix();
+            valueStartPos = position.getStartPosition() + argPrefix.getPrefix().length();
         }
+        argMultimap.put(argPrefix, extractArgumentValue(argsString, valueStartPos, argsString.length()));
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the trimmed value of the argument between {@code valueStartPos} and {@code valueEndPos} in the
+     * arguments string.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static String extractArgumentValue(String argsString, int valueStartPos, int valueEndPos) {
+        // Trims as String#trim does, without copying the untrimmed value first
+        while (valueStartPos < valueEndPos && argsString.charAt(valueStartPos) <= ' ') {
+            valueStartPos++;
+        }
+        while (valueEndPos > valueStartPos && argsString.charAt(valueEndPos - 1) <= ' ') {
+            valueEndPos--;
+        }
+        return argsString.substring(valueStartPos, valueEndPos);
     }
 
     /**
@@ -145,4 +120,67 @@ public class ArgumentTokenizer {
         }
     }
 
+    /**
+     * A node of a trie over the characters of a set of prefixes. The node reached by following the characters of a
+     * prefix from the root holds that prefix.
+     */
+    private static class PrefixTrie {
+        private char[] labels = new char[0];
+        private PrefixTrie[] children = new PrefixTrie[0];
+        private Prefix prefix;
+
+        PrefixTrie(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                add(prefix);
+            }
+        }
+
+        private PrefixTrie() {
+        }
+
+        private void add(Prefix prefix) {
+            String text = prefix.getPrefix();
+            PrefixTrie node = this;
+            for (int i = 0; i < text.length(); i++) {
+                PrefixTrie child = node.getChild(text.charAt(i));
+                if (child == null) {
+                    child = new PrefixTrie();
+                    node.labels = Arrays.copyOf(node.labels, node.labels.length + 1);
+                    node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                    node.labels[node.labels.length - 1] = text.charAt(i);
+                    node.children[node.children.length - 1] = child;
+                }
+                node = child;
+            }
+            node.prefix = prefix;
+        }
+
+        private PrefixTrie getChild(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the longest prefix that {@code argsString} has at {@code fromIndex}, or null if there is none.
+         */
+        Prefix findLongestMatch(String argsString, int fromIndex) {
+            Prefix longestMatch = prefix;
+            PrefixTrie node = this;
+            for (int i = fromIndex; i < argsString.length(); i++) {
+                node = node.getChild(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
+        }
+    }
+
 }
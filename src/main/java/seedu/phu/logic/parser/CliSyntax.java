@@ -16,4 +16,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_REMARK = new Prefix("r/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_CATEGORY = new Prefix("c/");
+    public static final Prefix PREFIX_ARCHIVE = new Prefix("a/");
+    public static final Prefix PREFIX_ROLLBACK = new Prefix("rb/");
 }
@@ -0,0 +1,148 @@
+package seedu.phu.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.phu.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.phu.logic.commands.AddCommand;
+import seedu.phu.logic.commands.ArchiveCommand;
+import seedu.phu.logic.commands.ClearCommand;
+import seedu.phu.logic.commands.Command;
+import seedu.phu.logic.commands.CopyCommand;
+import seedu.phu.logic.commands.DeleteCommand;
+import seedu.phu.logic.commands.EditCommand;
+import seedu.phu.logic.commands.ExitCommand;
+import seedu.phu.logic.commands.FindCommand;
+import seedu.phu.logic.commands.HelpCommand;
+import seedu.phu.logic.commands.ListCommand;
+import seedu.phu.logic.commands.RedoCommand;
+import seedu.phu.logic.commands.RunCommand;
+import seedu.phu.logic.commands.UndoCommand;
+import seedu.phu.logic.commands.ViewCommand;
+
+/**
+ * Maps command words to the parsers of their commands.
+ *
+ * Each command is parsed by a single parser that is created when the command is registered and reused for every
+ * command entered, so parsers must not keep state between calls. Besides its command word, a command can be entered
+ * by any of its aliases. A command registered with {@link #registerShortenable(String, Parser)} can also be entered
+ * by any prefix of them that no other command shares, e.g. {@code li} for {@code list}. Commands that change or remove
+ * data are registered without this, so that a mistyped word never runs one by accident.
+ * Commands are registered while the app starts up, and only looked up after that.
+ */
+public class CommandRegistry {
+
+    /** Parsers by command word and alias, for looking up whole words. */
+    private final Map<String, Parser<? extends Command>> parsersByWord = new HashMap<>();
+
+    /** The same parsers in word order, so that the words sharing a prefix are next to each other. */
+    private final TreeMap<String, Parser<? extends Command>> sortedParsersByWord = new TreeMap<>();
+
+    /** The parsers of the commands that can be entered by a prefix of their words. */
+    private final Set<Parser<? extends Command>> shortenableParsers = new HashSet<>();
+
+    /**
+     * Returns a registry of the commands built into the app.
+     */
+    public static CommandRegistry withDefaultCommands() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.registerShortenable(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(ArchiveCommand.COMMAND_WORD, new ArchiveCommandParser());
+        registry.registerShortenable(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.registerShortenable(ListCommand.COMMAND_WORD, new ListCommandParser());
+        registry.registerShortenable(ViewCommand.COMMAND_WORD, new ViewCommandParser());
+        registry.registerShortenable(CopyCommand.COMMAND_WORD, new CopyCommandParser());
+        registry.registerShortenable(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.registerShortenable(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        registry.register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        registry.register(RunCommand.COMMAND_WORD, new RunCommandParser());
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} to parse the commands entered with {@code commandWord}, or with a prefix of it or of
+     * its aliases that no other command shares.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is empty, contains whitespace, or is already taken.
+     */
+    public void registerShortenable(String commandWord, Parser<? extends Command> parser) {
+        register(commandWord, parser);
+        shortenableParsers.add(parser);
+    }
+
+    /**
+     * Registers {@code parser} to parse the commands entered with {@code commandWord} in full.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is empty, contains whitespace, or is already taken.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!commandWord.isEmpty() && commandWord.chars().noneMatch(Character::isWhitespace),
+                "Command word must be a single word: " + commandWord);
+        checkArgument(!parsersByWord.containsKey(commandWord), "Command word is already taken: " + commandWord);
+        parsersByWord.put(commandWord, parser);
+        sortedParsersByWord.put(commandWord, parser);
+    }
+
+    /**
+     * Registers {@code alias} as another word for the command registered with {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if no command is registered with {@code commandWord}, or {@code alias} is not
+     *     a free single word.
+     */
+    public void registerAlias(String alias, String commandWord) {
+        requireNonNull(commandWord);
+        Parser<? extends Command> parser = parsersByWord.get(commandWord);
+        checkArgument(parser != null, "No command registered with: " + commandWord);
+        register(alias, parser);
+    }
+
+    /**
+     * Returns the parser of the command entered with {@code word}, which is a command word, an alias, or a prefix of
+     * them that only one command has and that command is shortenable, or an empty {@code Optional} if there is no
+     * such command.
+     */
+    public Optional<Parser<? extends Command>> find(String word) {
+        requireNonNull(word);
+        Parser<? extends Command> parser = parsersByWord.get(word);
+        if (parser != null || word.isEmpty()) {
+            return Optional.ofNullable(parser);
+        }
+
+        SortedMap<String, Parser<? extends Command>> completions =
+                sortedParsersByWord.subMap(word, word + Character.MAX_VALUE);
+        if (!isSingleCommand(completions.values())) {
+            return Optional.empty();
+        }
+        Parser<? extends Command> completion = completions.get(completions.firstKey());
+        return shortenableParsers.contains(completion) ? Optional.of(completion) : Optional.empty();
+    }
+
+    /**
+     * Returns true if {@code parsers} are not empty and all belong to the same command.
+     */
+    private static boolean isSingleCommand(Collection<Parser<? extends Command>> parsers) {
+        Parser<? extends Command> first = null;
+        for (Parser<? extends Command> parser : parsers) {
+            if (first == null) {
+                first = parser;
+            } else if (parser != first) {
+                return false;
+            }
+        }
+        return first != null;
+    }
+}
@@ -14,7 +14,8 @@ import seedu.phu.model.internship.FindableCategory;
  */
 public class FindCommandParser implements Parser<FindCommand> {
     public static final String INVALID_DATE_MESSAGE =
-            "For the date category, all the keywords must be a valid date in dd-mm-yyyy format";
+            "For the date category, all the keywords must be a valid date in dd-mm-yyyy format, "
+            + "a range of dates in dd-mm-yyyy..dd-mm-yyyy format, a month in mm-yyyy format or a year in yyyy format";
 
     public static final String INVALID_PROCESS_MESSAGE =
             "For the application process category, "
@@ -32,6 +33,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         String lastCategoryString = null;
         FindableCategory category = FindableCategory.COMPANY_NAME;
         KeywordList keywords = new KeywordList();
+        boolean isArchiveIncluded = false;
 
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -48,6 +50,11 @@ public class FindCommandParser implements Parser<FindCommand> {
                 continue;
             }
 
+            if (splittedArgs[i].equals(String.valueOf(CliSyntax.PREFIX_ARCHIVE))) {
+                isArchiveIncluded = true;
+                continue;
+            }
+
             keywords.addKeyword(new Keyword(splittedArgs[i]));
         }
 
@@ -69,6 +76,6 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(INVALID_PROCESS_MESSAGE);
         }
 
-        return new FindCommand(new ContainsKeywordsPredicate(keywords, category));
+        return new FindCommand(new ContainsKeywordsPredicate(keywords, category), isArchiveIncluded);
     }
 }
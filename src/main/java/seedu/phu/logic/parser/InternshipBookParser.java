@@ -1,35 +1,35 @@
 package seedu.phu.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.phu.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.phu.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import seedu.phu.logic.commands.AddCommand;
-import seedu.phu.logic.commands.ClearCommand;
 import seedu.phu.logic.commands.Command;
-import seedu.phu.logic.commands.CopyCommand;
-import seedu.phu.logic.commands.DeleteCommand;
-import seedu.phu.logic.commands.EditCommand;
-import seedu.phu.logic.commands.ExitCommand;
-import seedu.phu.logic.commands.FindCommand;
 import seedu.phu.logic.commands.HelpCommand;
-import seedu.phu.logic.commands.ListCommand;
-import seedu.phu.logic.commands.RedoCommand;
-import seedu.phu.logic.commands.UndoCommand;
-import seedu.phu.logic.commands.ViewCommand;
 import seedu.phu.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The command word is looked up in a {@code CommandRegistry}, whose parser then parses the rest of the input.
  */
 public class InternshipBookParser {
 
+    private final CommandRegistry registry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser for the commands built into the app.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public InternshipBookParser() {
+        this(CommandRegistry.withDefaultCommands());
+    }
+
+    /**
+     * Creates a parser for the commands in {@code registry}.
+     */
+    public InternshipBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -39,55 +39,39 @@ public class InternshipBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String input = userInput.trim();
+        int wordEnd = 0;
+        while (wordEnd < input.length() && !isWhitespace(input.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        if (wordEnd == 0 || hasLineBreak(input, wordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
-
-        case CopyCommand.COMMAND_WORD:
-            return new CopyCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
+        final String commandWord = input.substring(0, wordEnd);
+        final String arguments = input.substring(wordEnd);
+        Parser<? extends Command> parser = registry.find(commandWord)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_COMMAND));
+        return parser.parse(arguments);
+    }
 
+    /**
+     * Returns true if {@code c} separates the command word from its arguments.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if the arguments from {@code start} span more than one line, which a command cannot.
+     */
+    private static boolean hasLineBreak(String input, int start) {
+        for (int i = start; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
-
 }
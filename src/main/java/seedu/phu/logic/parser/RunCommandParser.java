@@ -0,0 +1,34 @@
+package seedu.phu.logic.parser;
+
+import static seedu.phu.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_ROLLBACK;
+
+import java.nio.file.Paths;
+
+import seedu.phu.commons.util.FileUtil;
+import seedu.phu.logic.commands.RunCommand;
+import seedu.phu.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ROLLBACK);
+        String filePath = argMultimap.getPreamble();
+        boolean isRolledBackOnFailure = argMultimap.getValue(PREFIX_ROLLBACK).isPresent();
+
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)
+                || !argMultimap.getValue(PREFIX_ROLLBACK).orElse("").isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        return new RunCommand(Paths.get(filePath), isRolledBackOnFailure);
+    }
+}
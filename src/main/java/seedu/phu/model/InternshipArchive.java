@@ -0,0 +1,135 @@
+package seedu.phu.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.model.internship.Internship;
+
+/**
+ * Holds the closed internships that were moved out of the internship book, so that finding, sorting and saving the
+ * internships still being worked on no longer pays for them.
+ *
+ * The archived internships are only read from their store the first time they are needed, so neither starting the
+ * app nor the commands that leave the archive alone ever load them.
+ */
+public class InternshipArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(InternshipArchive.class);
+
+    /**
+     * Reads the archived internships from wherever they are kept.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Returns the archived internships, or an empty {@code Optional} if nothing has been archived yet.
+         */
+        Optional<ReadOnlyInternshipBook> load() throws DataConversionException, IOException;
+    }
+
+    private final Loader loader;
+
+    /** The archived internships, or null until they are first needed. */
+    private InternshipBook internships;
+    private int modificationCount;
+
+    /**
+     * Creates an archive whose internships are read with {@code loader} the first time they are needed.
+     */
+    public InternshipArchive(Loader loader) {
+        requireNonNull(loader);
+        this.loader = loader;
+    }
+
+    /**
+     * Creates an archive that starts out empty.
+     */
+    public InternshipArchive() {
+        this(Optional::empty);
+    }
+
+    /**
+     * Returns true if the archived internships have been read from their store.
+     */
+    public boolean isLoaded() {
+        return internships != null;
+    }
+
+    /**
+     * Returns the archived internships, reading them from their store if this is the first time they are needed.
+     *
+     * @throws DataConversionException if the archived internships cannot be read.
+     */
+    public ReadOnlyInternshipBook getInternships() throws DataConversionException {
+        return load();
+    }
+
+    /**
+     * Adds {@code toArchive} to the end of the archive. An internship that was archived before is replaced by the one
+     * with the same identity in {@code toArchive}.
+     *
+     * @throws DataConversionException if the archived internships cannot be read, in which case nothing is added.
+     */
+    public void addInternships(List<Internship> toArchive) throws DataConversionException {
+        requireNonNull(toArchive);
+        InternshipBook archived = load();
+        if (toArchive.isEmpty()) {
+            return;
+        }
+
+        if (toArchive.stream().noneMatch(archived::hasInternship)) {
+            toArchive.forEach(archived::addInternship);
+        } else {
+            InternshipBook incoming = new InternshipBook();
+            toArchive.forEach(incoming::addInternship);
+            List<Internship> merged = new ArrayList<>();
+            for (Internship internship : archived.getInternshipList()) {
+                if (!incoming.hasInternship(internship)) {
+                    merged.add(internship);
+                }
+            }
+            merged.addAll(toArchive);
+            archived.setInternships(merged);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the archived internships with {@code internships}, as when undoing or redoing an earlier change.
+     * The archived internships must have been read from their store already.
+     */
+    public void setInternships(List<Internship> internships) {
+        requireNonNull(internships);
+        assert isLoaded();
+        this.internships.setInternships(internships);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times the archive was changed so far.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    private InternshipBook load() throws DataConversionException {
+        if (internships != null) {
+            return internships;
+        }
+
+        logger.info("Loading archived internships");
+        try {
+            internships = loader.load().map(InternshipBook::new).orElseGet(InternshipBook::new);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+        return internships;
+    }
+}
@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
+import seedu.phu.commons.core.observable.ObservedList;
+import seedu.phu.model.internship.ApplicationProcess.ApplicationProcessState;
+import seedu.phu.model.internship.ContainsKeywordsPredicate;
+import seedu.phu.model.internship.DateRange;
 import seedu.phu.model.internship.Internship;
 import seedu.phu.model.internship.UniqueInternshipList;
 
@@ -48,12 +52,25 @@ public class InternshipBook implements ReadOnlyInternshipBook {
         this.internships.setInternships(internships);
     }
 
+    /**
+     * Replaces the internships from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}, leaving the rest of the internship list untouched.
+     */
+    void replaceInternships(int fromIndex, int toIndex, List<Internship> replacement) {
+        internships.replaceRange(fromIndex, toIndex, replacement);
+    }
+
     /**
      * Resets the existing data of this {@code InternshipBook} with {@code newData}.
+     * Data from another {@code InternshipBook} is already known to be unique and is copied without re-validation.
      */
     public void resetData(ReadOnlyInternshipBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof InternshipBook) {
+            internships.setInternships(((InternshipBook) newData).internships);
+            return;
+        }
         setInternships(newData.getInternshipList());
     }
 
@@ -95,17 +112,32 @@ public class InternshipBook implements ReadOnlyInternshipBook {
         internships.remove(key);
     }
 
+    /**
+     * Returns a predicate that agrees with {@code predicate} on the internships in this book, answered from the
+     * book's search index where possible.
+     */
+    public Predicate<Internship> toIndexedPredicate(ContainsKeywordsPredicate predicate) {
+        return internships.toIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns the number of changes made to this book so far.
+     */
+    public int getModificationCount() {
+        return internships.getModificationCount();
+    }
+
     //// util methods
 
     @Override
     public String toString() {
-        return internships.asUnmodifiableObservableList().size() + " internships";
+        return internships.asUnmodifiableObservedList().size() + " internships";
         // TODO: refine later
     }
 
     @Override
-    public ObservableList<Internship> getInternshipList() {
-        return internships.asUnmodifiableObservableList();
+    public ObservedList<Internship> getInternshipList() {
+        return internships.asUnmodifiableObservedList();
     }
 
     @Override
@@ -118,6 +150,13 @@ public class InternshipBook implements ReadOnlyInternshipBook {
         internships.reverseList();
     }
 
+    @Override
+    public int countInternships(ApplicationProcessState state, DateRange range) {
+        requireNonNull(state);
+        requireNonNull(range);
+        return internships.countInternships(state, range);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
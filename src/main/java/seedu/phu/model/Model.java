@@ -1,10 +1,12 @@
 package seedu.phu.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.phu.commons.core.GuiSettings;
+import seedu.phu.commons.core.observable.ObservedList;
+import seedu.phu.commons.exceptions.DataConversionException;
 import seedu.phu.model.internship.ComparableCategory;
 import seedu.phu.model.internship.Internship;
 
@@ -53,6 +55,12 @@ public interface Model {
     /** Returns the InternshipBook */
     ReadOnlyInternshipBook getInternshipBook();
 
+    /**
+     * Returns the number of changes made to the internship book so far.
+     * The internship book has changed in between two calls if and only if they return different counts.
+     */
+    int getModificationCount();
+
     /**
      * Returns true if a internship with the same identity as {@code internship} exists in the internship book.
      */
@@ -78,8 +86,29 @@ public interface Model {
      */
     void setInternship(Internship target, Internship editedInternship);
 
+    /**
+     * Moves the internships that satisfy {@code predicate} out of the internship book and into the archive.
+     *
+     * @return the internships that were archived, in the order they appeared in the internship book.
+     * @throws DataConversionException if the archive cannot be read, in which case nothing is archived.
+     */
+    List<Internship> archiveInternships(Predicate<Internship> predicate) throws DataConversionException;
+
+    /**
+     * Returns the archived internships, reading them from their store if this is the first time they are needed.
+     *
+     * @throws DataConversionException if the archive cannot be read.
+     */
+    ReadOnlyInternshipBook getArchivedInternships() throws DataConversionException;
+
+    /**
+     * Returns the number of changes made to the archive so far.
+     * The archive has changed in between two calls if and only if they return different counts.
+     */
+    int getArchiveModificationCount();
+
     /** Returns an unmodifiable view of the filtered internship list */
-    ObservableList<Internship> getFilteredInternshipList();
+    ObservedList<Internship> getFilteredInternshipList();
 
     /**
      * Updates the filter of the filtered internship list to filter by the given {@code predicate}.
@@ -127,7 +156,25 @@ public interface Model {
      */
     void commitInternshipBookChange();
 
-    ObservableList<Internship> getViewItem();
+    /**
+     * Starts a batch of changes to the internship book, which are saved in the history as a single change.
+     * Changes committed while the batch is open are held back until it ends.
+     */
+    void startInternshipBookBatch();
+
+    /**
+     * Ends the open batch of changes, saving them in the history as a single change if any of them were committed.
+     *
+     * @return true if a change was saved in the history.
+     */
+    boolean endInternshipBookBatch();
+
+    /**
+     * Ends the open batch of changes, undoing every change made to the internship book since it started.
+     */
+    void rollBackInternshipBookBatch();
+
+    ObservedList<Internship> getViewItem();
 
     void updateViewItem(Predicate<Internship> predicate);
 }
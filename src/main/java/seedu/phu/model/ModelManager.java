@@ -10,38 +10,61 @@ import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.phu.commons.core.GuiSettings;
 import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.core.observable.FilteredObservedList;
+import seedu.phu.commons.core.observable.ObservedList;
+import seedu.phu.commons.exceptions.DataConversionException;
 import seedu.phu.model.internship.ComparableCategory;
+import seedu.phu.model.internship.ContainsKeywordsPredicate;
 import seedu.phu.model.internship.ExactMatchPredicate;
 import seedu.phu.model.internship.Internship;
 import seedu.phu.model.internship.NameContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the internship book data.
+ *
+ * The archive takes part in undo and redo: each commit that archived internships remembers the archived internships
+ * before and after it, so undoing it takes them out of the archive again and redoing it puts them back.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedInternshipBook versionedInternshipBook;
+    private final InternshipArchive archive;
     private final UserPrefs userPrefs;
-    private final FilteredList<Internship> filteredInternships;
-    private final FilteredList<Internship> viewItem;
+    private final FilteredObservedList<Internship> filteredInternships;
+    private final FilteredObservedList<Internship> viewItem;
+
+    /** The archive changes of the commits that can be undone, oldest first, with null for commits that left it. */
+    private final List<ArchiveChange> undoableArchiveChanges = new ArrayList<>();
+    /** The archive changes of the commits that can be redone, most recently undone last. */
+    private final List<ArchiveChange> redoableArchiveChanges = new ArrayList<>();
+    /** The archived internships before the changes not committed yet, or null if the archive has not changed. */
+    private List<Internship> archiveBeforeCommit;
 
     /**
-     * Initializes a ModelManager with the given internshipBook and userPrefs.
+     * Initializes a ModelManager with the given internshipBook and userPrefs, and an empty archive.
      */
     public ModelManager(ReadOnlyInternshipBook internshipBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(internshipBook, userPrefs);
+        this(internshipBook, userPrefs, new InternshipArchive());
+    }
+
+    /**
+     * Initializes a ModelManager with the given internshipBook, userPrefs and archive.
+     */
+    public ModelManager(ReadOnlyInternshipBook internshipBook, ReadOnlyUserPrefs userPrefs,
+            InternshipArchive archive) {
+        requireAllNonNull(internshipBook, userPrefs, archive);
 
         logger.fine("Initializing with internship book: " + internshipBook + " and user prefs " + userPrefs);
 
         this.userPrefs = new UserPrefs(userPrefs);
-        versionedInternshipBook = new VersionedInternshipBook(internshipBook);
-        filteredInternships = new FilteredList<>(versionedInternshipBook.getInternshipList());
-        viewItem = new FilteredList<>(versionedInternshipBook.getInternshipList());
+        this.archive = archive;
+        versionedInternshipBook = new VersionedInternshipBook(internshipBook, this.userPrefs.getHistoryMode(),
+                this.userPrefs.getUndoLimit());
+        filteredInternships = new FilteredObservedList<>(versionedInternshipBook.getInternshipList());
+        viewItem = new FilteredObservedList<>(versionedInternshipBook.getInternshipList());
         updateViewItem(new NameContainsKeywordsPredicate(new ArrayList<>()));
     }
 
@@ -96,6 +119,11 @@ public class ModelManager implements Model {
         return versionedInternshipBook;
     }
 
+    @Override
+    public int getModificationCount() {
+        return versionedInternshipBook.getModificationCount();
+    }
+
     @Override
     public boolean hasInternship(Internship internship) {
         requireNonNull(internship);
@@ -120,6 +148,40 @@ public class ModelManager implements Model {
         versionedInternshipBook.setInternship(target, editedInternship);
     }
 
+    //=========== Archive ====================================================================================
+
+    @Override
+    public List<Internship> archiveInternships(Predicate<Internship> predicate) throws DataConversionException {
+        requireNonNull(predicate);
+        List<Internship> toArchive = new ArrayList<>();
+        List<Internship> toKeep = new ArrayList<>();
+        for (Internship internship : versionedInternshipBook.getInternshipList()) {
+            (predicate.test(internship) ? toArchive : toKeep).add(internship);
+        }
+        if (toArchive.isEmpty()) {
+            return toArchive;
+        }
+
+        // the archive is added to first, so that a failure to read it leaves the internship book untouched
+        List<Internship> archiveBefore = new ArrayList<>(archive.getInternships().getInternshipList());
+        archive.addInternships(toArchive);
+        if (archiveBeforeCommit == null) {
+            archiveBeforeCommit = archiveBefore;
+        }
+        versionedInternshipBook.setInternships(toKeep);
+        return toArchive;
+    }
+
+    @Override
+    public ReadOnlyInternshipBook getArchivedInternships() throws DataConversionException {
+        return archive.getInternships();
+    }
+
+    @Override
+    public int getArchiveModificationCount() {
+        return archive.getModificationCount();
+    }
+
     @Override
     public void viewInternship(Internship internship) {
         List<Internship> internshipList = new ArrayList<>();
@@ -135,18 +197,21 @@ public class ModelManager implements Model {
      * {@code versionedInternshipBook}
      */
     @Override
-    public ObservableList<Internship> getFilteredInternshipList() {
+    public ObservedList<Internship> getFilteredInternshipList() {
         return filteredInternships;
     }
 
     @Override
     public void updateFilteredInternshipList(Predicate<Internship> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof ContainsKeywordsPredicate) {
+            predicate = versionedInternshipBook.toIndexedPredicate((ContainsKeywordsPredicate) predicate);
+        }
         filteredInternships.setPredicate(predicate);
     }
 
     @Override
-    public ObservableList<Internship> getViewItem() {
+    public ObservedList<Internship> getViewItem() {
         return viewItem;
     }
 
@@ -188,16 +253,90 @@ public class ModelManager implements Model {
     @Override
     public void undoInternshipBook() {
         versionedInternshipBook.undo();
+        revertUncommittedArchiveChange();
+        ArchiveChange change = undoableArchiveChanges.remove(undoableArchiveChanges.size() - 1);
+        redoableArchiveChanges.add(change);
+        if (change != null) {
+            archive.setInternships(change.before);
+        }
     }
 
     @Override
     public void redoInternshipBook() {
         versionedInternshipBook.redo();
+        revertUncommittedArchiveChange();
+        ArchiveChange change = redoableArchiveChanges.remove(redoableArchiveChanges.size() - 1);
+        undoableArchiveChanges.add(change);
+        if (change != null) {
+            archive.setInternships(change.after);
+        }
     }
 
     @Override
     public void commitInternshipBookChange() {
-        versionedInternshipBook.commitChange();
+        if (versionedInternshipBook.commitChange()) {
+            commitArchiveChange();
+        }
+        logger.fine(() -> "Undo history holds " + versionedInternshipBook.getHistorySize() + " states using about "
+                + versionedInternshipBook.estimateHistoryMemoryUsage() / 1024 + " KB");
+    }
+
+    @Override
+    public void startInternshipBookBatch() {
+        versionedInternshipBook.startBatch();
+    }
+
+    @Override
+    public boolean endInternshipBookBatch() {
+        if (!versionedInternshipBook.endBatch()) {
+            return false;
+        }
+        commitArchiveChange();
+        return true;
+    }
+
+    @Override
+    public void rollBackInternshipBookBatch() {
+        versionedInternshipBook.rollBackBatch();
+        revertUncommittedArchiveChange();
+    }
+
+    /**
+     * Remembers the archive change made since the last commit alongside the commit just made, evicting the oldest
+     * archive changes beyond the number of changes that can be undone.
+     */
+    private void commitArchiveChange() {
+        ArchiveChange change = null;
+        if (archiveBeforeCommit != null) {
+            change = new ArchiveChange(archiveBeforeCommit, getLoadedArchivedInternships());
+            archiveBeforeCommit = null;
+        }
+
+        redoableArchiveChanges.clear();
+        undoableArchiveChanges.add(change);
+        while (undoableArchiveChanges.size() > userPrefs.getUndoLimit()) {
+            undoableArchiveChanges.remove(0);
+        }
+    }
+
+    /**
+     * Puts back the archived internships as of the last commit, as the uncommitted changes of the internship book
+     * are discarded too.
+     */
+    private void revertUncommittedArchiveChange() {
+        if (archiveBeforeCommit != null) {
+            archive.setInternships(archiveBeforeCommit);
+            archiveBeforeCommit = null;
+        }
+    }
+
+    private List<Internship> getLoadedArchivedInternships() {
+        try {
+            return new ArrayList<>(archive.getInternships().getInternshipList());
+        } catch (DataConversionException e) {
+            // a changed archive has been loaded, so reading it again cannot fail
+            throw new AssertionError(e);
+        }
     }
 
     @Override
@@ -219,4 +358,16 @@ public class ModelManager implements Model {
                 && filteredInternships.equals(other.filteredInternships);
     }
 
+    /**
+     * The archived internships before and after a commit that changed the archive.
+     */
+    private static class ArchiveChange {
+        private final List<Internship> before;
+        private final List<Internship> after;
+
+        ArchiveChange(List<Internship> before, List<Internship> after) {
+            this.before = before;
+            this.after = after;
+        }
+    }
 }
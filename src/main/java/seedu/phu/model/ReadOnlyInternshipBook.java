@@ -2,7 +2,9 @@ package seedu.phu.model;
 
 import java.util.Comparator;
 
-import javafx.collections.ObservableList;
+import seedu.phu.commons.core.observable.ObservedList;
+import seedu.phu.model.internship.ApplicationProcess.ApplicationProcessState;
+import seedu.phu.model.internship.DateRange;
 import seedu.phu.model.internship.Internship;
 
 /**
@@ -14,10 +16,20 @@ public interface ReadOnlyInternshipBook {
      * Returns an unmodifiable view of the internships list.
      * This list will not contain any duplicate internships.
      */
-    ObservableList<Internship> getInternshipList();
+    ObservedList<Internship> getInternshipList();
 
     void sortInternshipList(Comparator<Internship> comparator);
 
     void reverseList();
 
+    /**
+     * Returns the number of internships in {@code state} dated within {@code range}.
+     */
+    default int countInternships(ApplicationProcessState state, DateRange range) {
+        return (int) getInternshipList().stream()
+                .filter(internship -> internship.getApplicationProcess().value == state)
+                .filter(internship -> range.contains(internship.getDate().value))
+                .count();
+    }
+
 }
@@ -2,7 +2,9 @@ package seedu.phu.model;
 
 import java.nio.file.Path;
 
+import seedu.phu.commons.core.DataFormat;
 import seedu.phu.commons.core.GuiSettings;
+import seedu.phu.model.history.HistoryMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getInternshipBookFilePath();
 
+    DataFormat getDataFormat();
+
+    boolean isCompactDataFile();
+
+    HistoryMode getHistoryMode();
+
+    int getUndoLimit();
+
 }
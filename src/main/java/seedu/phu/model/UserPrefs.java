@@ -1,12 +1,15 @@
 package seedu.phu.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.phu.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.phu.commons.core.DataFormat;
 import seedu.phu.commons.core.GuiSettings;
+import seedu.phu.model.history.HistoryMode;
 
 /**
  * Represents User's preferences.
@@ -15,6 +18,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path internshipBookFilePath = Paths.get("data" , "internshipbook.json");
+    private DataFormat dataFormat = DataFormat.JSON;
+    private boolean compactDataFile = false;
+    private HistoryMode historyMode = HistoryMode.SNAPSHOT;
+    private int undoLimit = VersionedInternshipBook.DEFAULT_UNDO_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setInternshipBookFilePath(newUserPrefs.getInternshipBookFilePath());
+        setDataFormat(newUserPrefs.getDataFormat());
+        setCompactDataFile(newUserPrefs.isCompactDataFile());
+        setHistoryMode(newUserPrefs.getHistoryMode());
+        setUndoLimit(newUserPrefs.getUndoLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +67,41 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.internshipBookFilePath = internshipBookFilePath;
     }
 
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    public void setDataFormat(DataFormat dataFormat) {
+        requireNonNull(dataFormat);
+        this.dataFormat = dataFormat;
+    }
+
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    public HistoryMode getHistoryMode() {
+        return historyMode;
+    }
+
+    public void setHistoryMode(HistoryMode historyMode) {
+        requireNonNull(historyMode);
+        this.historyMode = historyMode;
+    }
+
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        checkArgument(undoLimit >= 0, "Undo limit must not be negative.");
+        this.undoLimit = undoLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +114,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && internshipBookFilePath.equals(o.internshipBookFilePath);
+                && internshipBookFilePath.equals(o.internshipBookFilePath)
+                && dataFormat.equals(o.dataFormat)
+                && compactDataFile == o.compactDataFile
+                && historyMode.equals(o.historyMode)
+                && undoLimit == o.undoLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, internshipBookFilePath);
+        return Objects.hash(guiSettings, internshipBookFilePath, dataFormat, compactDataFile, historyMode, undoLimit);
     }
 
     @Override
@@ -81,6 +131,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + internshipBookFilePath);
+        sb.append("\nLocal data file format : " + dataFormat);
+        sb.append("\nCompact data file : " + compactDataFile);
+        sb.append("\nUndo history mode : " + historyMode);
+        sb.append("\nUndo limit : " + undoLimit);
         return sb.toString();
     }
 
@@ -1,48 +1,120 @@
 package seedu.phu.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-
+import java.util.function.Consumer;
+
+import seedu.phu.commons.core.observable.ListChange;
+import seedu.phu.model.history.DeltaHistory;
+import seedu.phu.model.history.HistoryMode;
+import seedu.phu.model.history.ListEdit;
+import seedu.phu.model.history.SnapshotHistory;
+import seedu.phu.model.history.UndoHistory;
 import seedu.phu.model.internship.Internship;
 
 /**
  * {@code InternshipBook} that keeps track of its own history.
  * Reused from https://github.com/se-edu/addressbook-level4 with minor modifications
  *
+ * Every change to the internship list is recorded as a {@code ListEdit} in an {@code UndoHistory}, which decides
+ * how states are kept according to the {@code HistoryMode}. Undo and redo apply the edits returned by the history,
+ * so the internship list only sees the part of the list that differs between the two states.
+ *
+ * While a batch is open, the commits asked for are held back and made as a single commit when the batch ends, so
+ * that the whole batch is undone at once.
+ *
  * @@author se-edu
  */
 public class VersionedInternshipBook extends InternshipBook {
 
-    private final List<ReadOnlyInternshipBook> internshipBookStateList;
-    private int currentStatePointer;
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+
+    private final UndoHistory<Internship> history;
+    private boolean isRecordingSuspended = false;
+    private boolean isBatchOpen = false;
+    private boolean isBatchCommitHeldBack = false;
 
     /**
-     * Constructs a new instance of VersionedInternshipBook.
+     * Constructs a new instance of VersionedInternshipBook that keeps snapshots of its states.
      *
      * @param initialState initial state of the internship book
      */
     public VersionedInternshipBook(ReadOnlyInternshipBook initialState) {
+        this(initialState, HistoryMode.SNAPSHOT, DEFAULT_UNDO_LIMIT);
+    }
+
+    /**
+     * Constructs a new instance of VersionedInternshipBook.
+     *
+     * @param initialState initial state of the internship book
+     * @param historyMode how the states of the internship book are kept
+     * @param undoLimit the number of changes that can be undone; older states are discarded
+     */
+    public VersionedInternshipBook(ReadOnlyInternshipBook initialState, HistoryMode historyMode, int undoLimit) {
         super(initialState);
 
-        internshipBookStateList = new ArrayList<>();
-        internshipBookStateList.add(new InternshipBook(initialState));
-        currentStatePointer = 0;
+        switch (historyMode) {
+        case DELTA:
+            history = new DeltaHistory<>(undoLimit);
+            break;
+        case SNAPSHOT:
+        default:
+            history = new SnapshotHistory<>(getInternshipList(), undoLimit);
+            break;
+        }
+        getInternshipList().addObserver(this::recordChange);
+    }
+
+    /**
+     * Saves the current {@code InternshipBook} state in the history.
+     * Undone states are removed from the history.
+     *
+     * @return false if the commit was held back by an open batch.
+     */
+    public boolean commitChange() {
+        if (isBatchOpen) {
+            isBatchCommitHeldBack = true;
+            return false;
+        }
+        history.commit();
+        return true;
     }
 
     /**
-     * Saves a copy of the current {@code InternshipBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Opens a batch, holding back every commit until {@code endBatch()} or {@code rollBackBatch()} is called.
      */
-    public void commitChange() {
-        removeStatesAfterCurrentPointer();
-        internshipBookStateList.add(new InternshipBook(this));
-        currentStatePointer++;
+    public void startBatch() {
+        assert !isBatchOpen;
+        isBatchOpen = true;
+    }
+
+    /**
+     * Closes the open batch, saving the current state in the history if a commit was held back while it was open.
+     *
+     * @return true if the current state was saved.
+     */
+    public boolean endBatch() {
+        assert isBatchOpen;
+        isBatchOpen = false;
+        if (!isBatchCommitHeldBack) {
+            return false;
+        }
+
+        isBatchCommitHeldBack = false;
+        history.commit();
+        return true;
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        internshipBookStateList.subList(currentStatePointer + 1,
-                internshipBookStateList.size()).clear();
+    /**
+     * Closes the open batch, restoring the internship book to its state before the batch was opened.
+     */
+    public void rollBackBatch() {
+        assert isBatchOpen;
+        isBatchOpen = false;
+        isBatchCommitHeldBack = false;
+        applyEdits(history.revert());
     }
 
     /**
@@ -53,8 +125,7 @@ public class VersionedInternshipBook extends InternshipBook {
             throw new NoUndoableStateException();
         }
 
-        currentStatePointer--;
-        resetData(internshipBookStateList.get(currentStatePointer));
+        applyEdits(history.undo());
     }
 
     /**
@@ -65,34 +136,83 @@ public class VersionedInternshipBook extends InternshipBook {
             throw new NoRedoableStateException();
         }
 
-        currentStatePointer++;
-        resetData(internshipBookStateList.get(currentStatePointer));
+        applyEdits(history.redo());
     }
 
     /**
      * Returns true if {@code undo()} has internship book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has internship book states to redo.
      */
     public boolean canRedo() {
-        return internshipBookStateList.size() > currentStatePointer + 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the number of states held in the history, including the current one.
+     */
+    public int getHistorySize() {
+        return history.getStateCount();
+    }
+
+    /**
+     * Returns a rough estimate of the bytes of memory held by the history, not counting the internships.
+     * This takes time linear in the size of the history.
+     */
+    public long estimateHistoryMemoryUsage() {
+        return history.estimateMemoryUsage();
+    }
+
+    private void applyEdits(List<ListEdit<Internship>> edits) {
+        isRecordingSuspended = true;
+        try {
+            for (ListEdit<Internship> edit : edits) {
+                replaceInternships(edit.getIndex(), edit.getIndex() + edit.getRemoved().size(), edit.getAdded());
+            }
+        } finally {
+            isRecordingSuspended = false;
+        }
+    }
+
+    /**
+     * Records a change of the internship list in the history.
+     * A reordering is recorded like any other change, as the range before and after it.
+     */
+    private void recordChange(ListChange<? extends Internship> change) {
+        if (isRecordingSuspended) {
+            return;
+        }
+
+        history.record(new ListEdit<>(change.getFrom(), change.getRemoved(), change.getAdded()));
     }
 
     @Override
     public void sortInternshipList(Comparator<Internship> comparator) {
-        super.sortInternshipList(comparator);
-        internshipBookStateList.get(currentStatePointer).sortInternshipList(comparator);
+        reorder(list -> list.sort(comparator), () -> super.sortInternshipList(comparator));
     }
 
     @Override
     public void reverseList() {
-        super.reverseList();
-        internshipBookStateList.get(currentStatePointer).reverseList();
+        reorder(Collections::reverse, super::reverseList);
+    }
+
+    /**
+     * Reorders the internship list without creating a new state, recording the reordering as a single edit.
+     */
+    private void reorder(Consumer<List<Internship>> reordering, Runnable reorderInternshipList) {
+        List<Internship> before = new ArrayList<>(getInternshipList());
+        isRecordingSuspended = true;
+        try {
+            reorderInternshipList.run();
+        } finally {
+            isRecordingSuspended = false;
+        }
+        history.recordReordering(new ListEdit<>(0, before, getInternshipList()), reordering);
     }
 
     @Override
@@ -111,8 +231,7 @@ public class VersionedInternshipBook extends InternshipBook {
 
         // state check
         return super.equals(otherVersionedInternshipBook)
-                // && internshipBookStateList.equals(otherVersionedInternshipBook.internshipBookStateList)
-                && currentStatePointer == otherVersionedInternshipBook.currentStatePointer;
+                && history.getCurrentStatePointer() == otherVersionedInternshipBook.history.getCurrentStatePointer();
     }
 
     /**
@@ -0,0 +1,149 @@
+package seedu.phu.model.history;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An {@code UndoHistory} that keeps only the edits made by each commit.
+ * Undoing a commit applies the inverses of its edits in reverse order, so memory grows with the size of the
+ * edits rather than the size of the list.
+ *
+ * @param <E> type of the elements in the list.
+ */
+public class DeltaHistory<E> implements UndoHistory<E> {
+
+    /** Rough size of an edit: the edit and its two lists, without their elements. */
+    private static final long BYTES_PER_EDIT = 96;
+    private static final long BYTES_PER_ELEMENT_REFERENCE = 8;
+    private static final long BYTES_PER_STATE = 40;
+
+    private final int maxUndoableStates;
+
+    /** The edits of each commit; the edits at position i turn state i into state i + 1. */
+    private final List<List<ListEdit<E>>> committedEdits = new ArrayList<>();
+    private List<ListEdit<E>> uncommittedEdits = new ArrayList<>();
+    private int currentStatePointer = 0;
+
+    /**
+     * Creates a history whose only state is the current state of the list.
+     *
+     * @param maxUndoableStates the number of states kept before the current one.
+     */
+    public DeltaHistory(int maxUndoableStates) {
+        this.maxUndoableStates = maxUndoableStates;
+    }
+
+    @Override
+    public void record(ListEdit<E> edit) {
+        uncommittedEdits.add(edit);
+    }
+
+    @Override
+    public void commit() {
+        committedEdits.subList(currentStatePointer, committedEdits.size()).clear();
+        committedEdits.add(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
+        currentStatePointer++;
+
+        while (currentStatePointer > maxUndoableStates) {
+            committedEdits.remove(0);
+            currentStatePointer--;
+        }
+    }
+
+    @Override
+    public List<ListEdit<E>> revert() {
+        return discardUncommittedEdits();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return committedEdits.size() > currentStatePointer;
+    }
+
+    @Override
+    public List<ListEdit<E>> undo() {
+        assert canUndo();
+        List<ListEdit<E>> edits = discardUncommittedEdits();
+        currentStatePointer--;
+        edits.addAll(inversesOf(committedEdits.get(currentStatePointer)));
+        return edits;
+    }
+
+    @Override
+    public List<ListEdit<E>> redo() {
+        assert canRedo();
+        List<ListEdit<E>> edits = discardUncommittedEdits();
+        edits.addAll(committedEdits.get(currentStatePointer));
+        currentStatePointer++;
+        return edits;
+    }
+
+    /**
+     * Appends {@code reorderingEdit} to the edits that led to the current state, and prepends its inverse to the
+     * edits that lead away from it, so that undo and redo still see every other state in its own order.
+     */
+    @Override
+    public void recordReordering(ListEdit<E> reorderingEdit, Consumer<List<E>> reordering) {
+        if (!uncommittedEdits.isEmpty()) {
+            record(reorderingEdit);
+            return;
+        }
+
+        if (currentStatePointer > 0) {
+            committedEdits.get(currentStatePointer - 1).add(reorderingEdit);
+        }
+        if (currentStatePointer < committedEdits.size()) {
+            committedEdits.get(currentStatePointer).add(0, reorderingEdit.inverse());
+        }
+    }
+
+    @Override
+    public int getCurrentStatePointer() {
+        return currentStatePointer;
+    }
+
+    @Override
+    public int getStateCount() {
+        return committedEdits.size() + 1;
+    }
+
+    @Override
+    public long estimateMemoryUsage() {
+        long bytes = getStateCount() * BYTES_PER_STATE;
+        for (List<ListEdit<E>> edits : committedEdits) {
+            bytes += estimateMemoryUsage(edits);
+        }
+        return bytes + estimateMemoryUsage(uncommittedEdits);
+    }
+
+    private static long estimateMemoryUsage(List<? extends ListEdit<?>> edits) {
+        long bytes = 0;
+        for (ListEdit<?> edit : edits) {
+            bytes += BYTES_PER_EDIT + edit.getElementCount() * BYTES_PER_ELEMENT_REFERENCE;
+        }
+        return bytes;
+    }
+
+    private List<ListEdit<E>> discardUncommittedEdits() {
+        List<ListEdit<E>> edits = inversesOf(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
+        return edits;
+    }
+
+    private static <E> List<ListEdit<E>> inversesOf(List<ListEdit<E>> edits) {
+        List<ListEdit<E>> inverses = new ArrayList<>(edits.size());
+        for (ListEdit<E> edit : edits) {
+            inverses.add(edit.inverse());
+        }
+        Collections.reverse(inverses);
+        return inverses;
+    }
+}
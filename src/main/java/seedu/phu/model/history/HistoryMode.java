@@ -0,0 +1,11 @@
+package seedu.phu.model.history;
+
+/**
+ * The ways in which the undo history of the internship book can be kept.
+ */
+public enum HistoryMode {
+    /** Keeps every committed state, sharing unchanged internships between states. */
+    SNAPSHOT,
+    /** Keeps only the edits made by each commit and undoes them by applying their inverses. */
+    DELTA
+}
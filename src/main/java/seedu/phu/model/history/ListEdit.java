@@ -0,0 +1,103 @@
+package seedu.phu.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable edit of a list that replaces the elements {@code removed} starting at {@code index} with the
+ * elements {@code added}.
+ * Adding, removing and setting an element are edits with one element in {@code added}, {@code removed} or both.
+ *
+ * @param <E> type of the elements in the edited list.
+ */
+public final class ListEdit<E> {
+
+    private final int index;
+    private final List<E> removed;
+    private final List<E> added;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ListEdit(int index, List<? extends E> removed, List<? extends E> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        this.index = index;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<E> getRemoved() {
+        return removed;
+    }
+
+    public List<E> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the edit that undoes this edit.
+     */
+    public ListEdit<E> inverse() {
+        return new ListEdit<>(index, added, removed);
+    }
+
+    /**
+     * Returns the number of elements referenced by this edit.
+     */
+    public int getElementCount() {
+        return removed.size() + added.size();
+    }
+
+    /**
+     * Returns {@code list} with this edit applied.
+     */
+    public PersistentList<E> applyTo(PersistentList<E> list) {
+        if (getElementCount() > list.size()) {
+            // rebuilding is cheaper than path copying for edits this large
+            List<E> elements = list.toList();
+            elements.subList(index, index + removed.size()).clear();
+            elements.addAll(index, added);
+            return PersistentList.of(elements);
+        }
+
+        PersistentList<E> result = list;
+        for (int i = 0; i < removed.size(); i++) {
+            result = result.remove(index);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            result = result.add(index + i, added.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListEdit // instanceof handles nulls
+                && index == ((ListEdit<?>) other).index
+                && removed.equals(((ListEdit<?>) other).removed)
+                && added.equals(((ListEdit<?>) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "At " + index + ": " + removed + " -> " + added;
+    }
+}
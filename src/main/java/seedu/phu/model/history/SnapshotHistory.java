@@ -0,0 +1,162 @@
+package seedu.phu.model.history;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An {@code UndoHistory} that keeps every committed state as a {@code PersistentList}.
+ * Neighbouring states share every unchanged element, so each recorded edit costs O(log n) extra memory and a
+ * commit costs O(1).
+ *
+ * @param <E> type of the elements in the list.
+ */
+public class SnapshotHistory<E> implements UndoHistory<E> {
+
+    /** Rough size of a tree node: an object header, three references and two ints. */
+    private static final long BYTES_PER_NODE = 32;
+    private static final long BYTES_PER_STATE = 16;
+
+    private final List<PersistentList<E>> stateList = new ArrayList<>();
+    private final int maxUndoableStates;
+    private int currentStatePointer;
+
+    /** Mirrors the current list, including edits that have not been committed yet. */
+    private PersistentList<E> workingState;
+
+    /**
+     * Creates a history whose only state is {@code initialState}.
+     *
+     * @param maxUndoableStates the number of states kept before the current one.
+     */
+    public SnapshotHistory(List<? extends E> initialState, int maxUndoableStates) {
+        this.maxUndoableStates = maxUndoableStates;
+        workingState = PersistentList.of(initialState);
+        stateList.add(workingState);
+        currentStatePointer = 0;
+    }
+
+    @Override
+    public void record(ListEdit<E> edit) {
+        workingState = edit.applyTo(workingState);
+    }
+
+    @Override
+    public void commit() {
+        stateList.subList(currentStatePointer + 1, stateList.size()).clear();
+        stateList.add(workingState);
+        currentStatePointer++;
+
+        while (currentStatePointer > maxUndoableStates) {
+            stateList.remove(0);
+            currentStatePointer--;
+        }
+    }
+
+    @Override
+    public List<ListEdit<E>> revert() {
+        return moveTo(stateList.get(currentStatePointer));
+    }
+
+    @Override
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return stateList.size() > currentStatePointer + 1;
+    }
+
+    @Override
+    public List<ListEdit<E>> undo() {
+        assert canUndo();
+        currentStatePointer--;
+        return moveTo(stateList.get(currentStatePointer));
+    }
+
+    @Override
+    public List<ListEdit<E>> redo() {
+        assert canRedo();
+        currentStatePointer++;
+        return moveTo(stateList.get(currentStatePointer));
+    }
+
+    @Override
+    public void recordReordering(ListEdit<E> reorderingEdit, Consumer<List<E>> reordering) {
+        boolean isCommitted = workingState == stateList.get(currentStatePointer);
+        record(reorderingEdit);
+        if (isCommitted) {
+            stateList.set(currentStatePointer, workingState);
+            return;
+        }
+
+        List<E> currentState = stateList.get(currentStatePointer).toList();
+        reordering.accept(currentState);
+        stateList.set(currentStatePointer, PersistentList.of(currentState));
+    }
+
+    @Override
+    public int getCurrentStatePointer() {
+        return currentStatePointer;
+    }
+
+    @Override
+    public int getStateCount() {
+        return stateList.size();
+    }
+
+    /**
+     * Counts the distinct tree nodes of every state, so that nodes shared between states are only counted once.
+     */
+    @Override
+    public long estimateMemoryUsage() {
+        List<PersistentList<E>> states = new ArrayList<>(stateList);
+        states.add(workingState);
+        return PersistentList.countDistinctNodes(states) * BYTES_PER_NODE + states.size() * BYTES_PER_STATE;
+    }
+
+    /**
+     * Makes {@code state} the working state.
+     *
+     * @return a single edit replacing the range between the longest common prefix and suffix of the working state
+     *     and {@code state}, or no edits if they hold the same elements.
+     */
+    private List<ListEdit<E>> moveTo(PersistentList<E> state) {
+        PersistentList<E> current = workingState;
+        workingState = state;
+        int maxCommonLength = Math.min(current.size(), state.size());
+
+        int prefixLength = 0;
+        Iterator<E> currentIterator = current.iterator();
+        Iterator<E> stateIterator = state.iterator();
+        while (prefixLength < maxCommonLength && currentIterator.next() == stateIterator.next()) {
+            prefixLength++;
+        }
+
+        int suffixLength = 0;
+        Iterator<E> currentDescendingIterator = current.descendingIterator();
+        Iterator<E> stateDescendingIterator = state.descendingIterator();
+        while (suffixLength < maxCommonLength - prefixLength
+                && currentDescendingIterator.next() == stateDescendingIterator.next()) {
+            suffixLength++;
+        }
+
+        if (prefixLength + suffixLength == current.size() && current.size() == state.size()) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new ListEdit<>(prefixLength,
+                range(current, prefixLength, current.size() - suffixLength),
+                range(state, prefixLength, state.size() - suffixLength)));
+    }
+
+    private static <E> List<E> range(PersistentList<E> list, int from, int to) {
+        List<E> elements = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            elements.add(list.get(i));
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.phu.model.history;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The undo history of a list, which is told about every edit of the list and answers undo and redo requests with
+ * the edits that take the list to the requested state.
+ * A history keeps at most a fixed number of undoable states, evicting the oldest states beyond that.
+ *
+ * @param <E> type of the elements in the list.
+ */
+public interface UndoHistory<E> {
+
+    /**
+     * Records an edit that has been made to the list since the last commit.
+     */
+    void record(ListEdit<E> edit);
+
+    /**
+     * Saves the current state of the list, discarding any states that have been undone.
+     */
+    void commit();
+
+    /**
+     * Discards the edits recorded since the last commit.
+     *
+     * @return the edits that turn the current list back into the last committed state, to be applied in order.
+     */
+    List<ListEdit<E>> revert();
+
+    /**
+     * Returns true if there is a committed state before the current one.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone state after the current one.
+     */
+    boolean canRedo();
+
+    /**
+     * Moves to the previous committed state.
+     *
+     * @return the edits that turn the current list into that state, to be applied in order.
+     */
+    List<ListEdit<E>> undo();
+
+    /**
+     * Moves to the next undone state.
+     *
+     * @return the edits that turn the current list into that state, to be applied in order.
+     */
+    List<ListEdit<E>> redo();
+
+    /**
+     * Records that the list has been reordered without creating a new state.
+     * The current committed state is reordered along with it, while every other state keeps its own order.
+     *
+     * @param reorderingEdit the edit that reordered the list.
+     * @param reordering reorders a list the same way, for histories that have to reorder a saved state.
+     */
+    void recordReordering(ListEdit<E> reorderingEdit, Consumer<List<E>> reordering);
+
+    /**
+     * Returns the number of committed states before the current one.
+     */
+    int getCurrentStatePointer();
+
+    /**
+     * Returns the number of states held, including the current one.
+     */
+    int getStateCount();
+
+    /**
+     * Returns a rough estimate of the bytes of memory held by the history itself, not counting the elements.
+     * This may take time linear in the size of the history.
+     */
+    long estimateMemoryUsage();
+}
@@ -0,0 +1,34 @@
+package seedu.phu.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.phu.model.internship.ApplicationProcess.ApplicationProcessState;
+
+/**
+ * Tests that a {@code Internship} was accepted or rejected, and is dated before the given cutoff.
+ */
+public class ClosedBeforePredicate implements Predicate<Internship> {
+    private final Date cutoff;
+
+    public ClosedBeforePredicate(Date cutoff) {
+        requireNonNull(cutoff);
+        this.cutoff = cutoff;
+    }
+
+    @Override
+    public boolean test(Internship internship) {
+        ApplicationProcessState state = internship.getApplicationProcess().value;
+        return (state == ApplicationProcessState.ACCEPTED || state == ApplicationProcessState.REJECTED)
+                && internship.getDate().value.isBefore(cutoff.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClosedBeforePredicate // instanceof handles nulls
+                && cutoff.equals(((ClosedBeforePredicate) other).cutoff)); // state check
+    }
+
+}
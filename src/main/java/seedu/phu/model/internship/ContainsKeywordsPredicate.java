@@ -2,9 +2,14 @@ package seedu.phu.model.internship;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.phu.commons.core.keyword.Keyword;
 import seedu.phu.commons.core.keyword.KeywordList;
 import seedu.phu.model.tag.Tag;
 
@@ -16,6 +21,12 @@ public class ContainsKeywordsPredicate implements Predicate<Internship> {
     private final KeywordList keywords;
     private final FindableCategory category;
 
+    /** Keywords of the date category that are valid date ranges, parsed once. */
+    private final List<DateRange> dateRanges = new ArrayList<>();
+
+    /** Keywords of the date category that are not valid date ranges, which are matched as text instead. */
+    private final KeywordList dateTextKeywords = new KeywordList();
+
     /**
      * Constructs a predicate with the given keywords and category.
      *
@@ -28,6 +39,36 @@ public class ContainsKeywordsPredicate implements Predicate<Internship> {
 
         this.keywords = keywords;
         this.category = category;
+
+        if (category == FindableCategory.DATE) {
+            for (Keyword keyword : keywords.getKeywords()) {
+                Optional<DateRange> dateRange = DateRange.parse(keyword.getKeyword());
+                if (dateRange.isPresent()) {
+                    dateRanges.add(dateRange.get());
+                } else {
+                    dateTextKeywords.addKeyword(keyword);
+                }
+            }
+        }
+    }
+
+    public KeywordList getKeywords() {
+        return keywords;
+    }
+
+    public FindableCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the date ranges to find if this predicate is on the date category and every keyword is a valid
+     * date range, or an empty {@code Optional} otherwise.
+     */
+    public Optional<List<DateRange>> getDateRanges() {
+        if (category != FindableCategory.DATE || !dateTextKeywords.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Collections.unmodifiableList(dateRanges));
     }
 
     @Override
@@ -67,7 +108,8 @@ public class ContainsKeywordsPredicate implements Predicate<Internship> {
     }
 
     private boolean testDate(Date date) {
-        return keywords.isAnyKeywordFound(date.toInputFormat());
+        return dateRanges.stream().anyMatch(dateRange -> dateRange.contains(date.value))
+                || (!dateTextKeywords.isEmpty() && dateTextKeywords.isAnyKeywordFound(date.toInputFormat()));
     }
 
     private boolean testPosition(Position position) {
@@ -20,6 +20,8 @@ public class Date extends ComparableModel {
 
     public static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("dd MMM uuuu");
 
+    private static final DateTimeFormatter INPUT_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
     public final LocalDate value;
 
     /**
@@ -59,7 +61,7 @@ public class Date extends ComparableModel {
      * Returns a string representation of the date in input format.
      */
     public String toInputFormat() {
-        return value.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        return INPUT_FORMATTER.format(value);
     }
 
     /**
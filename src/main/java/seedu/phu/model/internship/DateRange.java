@@ -0,0 +1,102 @@
+package seedu.phu.model.internship;
+
+import static seedu.phu.commons.util.AppUtil.checkArgument;
+import static seedu.phu.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Optional;
+
+/**
+ * Represents an inclusive range of dates used to find internships by date.
+ * A range can be written as a single date (dd-mm-yyyy), two dates joined by {@value #RANGE_SEPARATOR}
+ * (dd-mm-yyyy..dd-mm-yyyy), a month (mm-yyyy) or a year (yyyy).
+ */
+public class DateRange {
+    public static final String RANGE_SEPARATOR = "..";
+
+    public static final String MESSAGE_CONSTRAINTS = "Date range should be a date in dd-mm-yyyy format, "
+            + "a range of dates in dd-mm-yyyy" + RANGE_SEPARATOR + "dd-mm-yyyy format with the first date not after "
+            + "the second, a month in mm-yyyy format or a year in yyyy format";
+
+    private static final DateTimeFormatter MONTH_FORMATTER =
+            DateTimeFormatter.ofPattern("MM-uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    private static final String YEAR_REGEX = "\\d{4}";
+
+    public final LocalDate start;
+    public final LocalDate end;
+
+    /**
+     * Constructs a {@code DateRange} from {@code start} to {@code end}, both inclusive.
+     */
+    public DateRange(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        checkArgument(!end.isBefore(start), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns true if a given string is a valid date range.
+     */
+    public static boolean isValidDateRange(String test) {
+        return parse(test).isPresent();
+    }
+
+    /**
+     * Parses {@code text} as a date range, or returns an empty {@code Optional} if it is not a valid date range.
+     */
+    public static Optional<DateRange> parse(String text) {
+        try {
+            int separatorIndex = text.indexOf(RANGE_SEPARATOR);
+            if (separatorIndex != -1) {
+                LocalDate start = LocalDate.parse(text.substring(0, separatorIndex), Date.DEFAULT_FORMATTER);
+                LocalDate end = LocalDate.parse(text.substring(separatorIndex + RANGE_SEPARATOR.length()),
+                        Date.DEFAULT_FORMATTER);
+                return end.isBefore(start) ? Optional.empty() : Optional.of(new DateRange(start, end));
+            }
+            if (text.matches(YEAR_REGEX)) {
+                Year year = Year.parse(text);
+                return Optional.of(new DateRange(year.atDay(1), year.atMonth(12).atEndOfMonth()));
+            }
+            if (Date.isValidDate(text)) {
+                LocalDate date = LocalDate.parse(text, Date.DEFAULT_FORMATTER);
+                return Optional.of(new DateRange(date, date));
+            }
+            YearMonth month = YearMonth.parse(text, MONTH_FORMATTER);
+            return Optional.of(new DateRange(month.atDay(1), month.atEndOfMonth()));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if {@code date} falls within this range.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    @Override
+    public String toString() {
+        return start + RANGE_SEPARATOR + end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DateRange // instanceof handles nulls
+                && start.equals(((DateRange) other).start)
+                && end.equals(((DateRange) other).end)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return start.hashCode() * 31 + end.hashCode();
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.phu.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.phu.model.internship.ApplicationProcess.ApplicationProcessState;
+
+/**
+ * An index of internships by date, split by application process state, kept in step with the list that owns it.
+ * Dates are keyed by epoch day, so the internships within a {@code DateRange} are found by a range scan over the
+ * days that hold internships rather than by testing every internship.
+ */
+class InternshipDateIndex {
+
+    private final Map<ApplicationProcessState, NavigableMap<Long, Set<Internship>>> internshipsByDay =
+            new EnumMap<>(ApplicationProcessState.class);
+
+    InternshipDateIndex() {
+        for (ApplicationProcessState state : ApplicationProcessState.values()) {
+            internshipsByDay.put(state, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code internship} to the index.
+     */
+    void add(Internship internship) {
+        requireNonNull(internship);
+        daysOf(internship).computeIfAbsent(epochDayOf(internship), unused -> newIdentitySet()).add(internship);
+    }
+
+    /**
+     * Removes {@code internship} from the index. {@code internship} must be the same instance that was added.
+     */
+    void remove(Internship internship) {
+        requireNonNull(internship);
+        NavigableMap<Long, Set<Internship>> days = daysOf(internship);
+        long epochDay = epochDayOf(internship);
+        Set<Internship> internships = days.get(epochDay);
+        if (internships != null && internships.remove(internship) && internships.isEmpty()) {
+            days.remove(epochDay);
+        }
+    }
+
+    /**
+     * Clears the index and adds every internship in {@code internships}.
+     */
+    void rebuild(Collection<Internship> internships) {
+        internshipsByDay.values().forEach(Map::clear);
+        internships.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of indexed internships in {@code state} dated within {@code range}.
+     */
+    int count(ApplicationProcessState state, DateRange range) {
+        requireNonNull(state);
+        requireNonNull(range);
+        return subMap(internshipsByDay.get(state), range).values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Returns the indexed internships dated within any of {@code ranges}, compared by identity.
+     */
+    Set<Internship> find(Collection<DateRange> ranges) {
+        requireNonNull(ranges);
+        Set<Internship> matches = newIdentitySet();
+        for (NavigableMap<Long, Set<Internship>> days : internshipsByDay.values()) {
+            for (DateRange range : ranges) {
+                subMap(days, range).values().forEach(matches::addAll);
+            }
+        }
+        return matches;
+    }
+
+    private NavigableMap<Long, Set<Internship>> daysOf(Internship internship) {
+        return internshipsByDay.get(internship.getApplicationProcess().value);
+    }
+
+    private static long epochDayOf(Internship internship) {
+        return internship.getDate().value.toEpochDay();
+    }
+
+    private static NavigableMap<Long, Set<Internship>> subMap(NavigableMap<Long, Set<Internship>> days,
+            DateRange range) {
+        return days.subMap(range.start.toEpochDay(), true, range.end.toEpochDay(), true);
+    }
+
+    private static Set<Internship> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
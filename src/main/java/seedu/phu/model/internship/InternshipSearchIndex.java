@@ -0,0 +1,245 @@
+package seedu.phu.model.internship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.phu.model.tag.Tag;
+
+/**
+ * An inverted index from the words in the company names, positions and tags of internships to the internships that
+ * contain them, kept in step with the list that owns it.
+ *
+ * A keyword matches an internship when it is a substring of one of its words, in the same way as
+ * {@code ContainsKeywordsPredicate}. Keywords never contain whitespace, so a keyword found in a field is always found
+ * within a single word of it, and a search only needs to look through the distinct words rather than every internship.
+ *
+ * A keyword that is a whole word is looked up directly in the word postings. Each distinct word is further indexed
+ * by its trigrams (substrings of length {@value #GRAM_LENGTH}), which are only used to find the longer words that
+ * contain a keyword. A keyword of at least that length can only be found in words holding all of its trigrams, so
+ * only the words in the intersection of its trigram postings are checked. Shorter keywords are checked against every
+ * distinct word.
+ */
+class InternshipSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<FindableCategory, Map<String, Set<Internship>>> postings = new EnumMap<>(FindableCategory.class);
+    private final Map<FindableCategory, Map<String, Set<String>>> gramPostings =
+            new EnumMap<>(FindableCategory.class);
+
+    InternshipSearchIndex() {
+        for (FindableCategory category : Arrays.asList(
+                FindableCategory.COMPANY_NAME, FindableCategory.POSITION, FindableCategory.TAG)) {
+            postings.put(category, new HashMap<>());
+            gramPostings.put(category, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns true if searches in {@code category} can be answered from the index.
+     */
+    boolean isIndexed(FindableCategory category) {
+        return postings.containsKey(category);
+    }
+
+    /**
+     * Adds the words of {@code internship} to the index.
+     */
+    void add(Internship internship) {
+        requireNonNull(internship);
+        for (Map.Entry<FindableCategory, Map<String, Set<Internship>>> entry : postings.entrySet()) {
+            Map<String, Set<Internship>> wordPostings = entry.getValue();
+            for (String word : wordsOf(internship, entry.getKey())) {
+                Set<Internship> internships = wordPostings.get(word);
+                if (internships == null) {
+                    internships = newIdentitySet();
+                    wordPostings.put(word, internships);
+                    addGrams(gramPostings.get(entry.getKey()), word);
+                }
+                internships.add(internship);
+            }
+        }
+    }
+
+    /**
+     * Removes the words of {@code internship} from the index. {@code internship} must be the same instance that was
+     * added.
+     */
+    void remove(Internship internship) {
+        requireNonNull(internship);
+        for (Map.Entry<FindableCategory, Map<String, Set<Internship>>> entry : postings.entrySet()) {
+            Map<String, Set<Internship>> wordPostings = entry.getValue();
+            for (String word : wordsOf(internship, entry.getKey())) {
+                Set<Internship> internships = wordPostings.get(word);
+                if (internships != null && internships.remove(internship) && internships.isEmpty()) {
+                    wordPostings.remove(word);
+                    removeGrams(gramPostings.get(entry.getKey()), word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the index and adds every internship in {@code internships}.
+     */
+    void rebuild(Collection<Internship> internships) {
+        postings.values().forEach(Map::clear);
+        gramPostings.values().forEach(Map::clear);
+        internships.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed internships in which any of {@code keywords} is found in {@code category}, compared by
+     * identity. Returns an empty {@code Optional} if the search cannot be answered from the index, in which case the
+     * internships have to be tested one by one.
+     */
+    Optional<Set<Internship>> find(FindableCategory category, Collection<String> keywords) {
+        requireNonNull(category);
+        requireNonNull(keywords);
+        if (!isIndexed(category)) {
+            return Optional.empty();
+        }
+
+        Set<String> foldedKeywords = new HashSet<>();
+        for (String keyword : keywords) {
+            if (keyword.isEmpty() || WHITESPACE.matcher(keyword).find()) {
+                return Optional.empty();
+            }
+            foldedKeywords.add(keyword.toLowerCase());
+        }
+
+        Map<String, Set<Internship>> wordPostings = postings.get(category);
+        Set<Internship> matches = newIdentitySet();
+        Set<String> matchedWords = new HashSet<>();
+        List<String> shortKeywords = new ArrayList<>();
+        for (String keyword : foldedKeywords) {
+            Set<Internship> exactMatches = wordPostings.get(keyword);
+            if (exactMatches != null) {
+                matches.addAll(exactMatches);
+            }
+            if (keyword.length() < GRAM_LENGTH) {
+                shortKeywords.add(keyword);
+                continue;
+            }
+            for (String word : candidateWords(gramPostings.get(category), keyword)) {
+                if (!foldedKeywords.contains(word) && word.contains(keyword)) {
+                    matchedWords.add(word);
+                }
+            }
+        }
+        if (!shortKeywords.isEmpty()) {
+            for (String word : wordPostings.keySet()) {
+                if (!foldedKeywords.contains(word) && shortKeywords.stream().anyMatch(word::contains)) {
+                    matchedWords.add(word);
+                }
+            }
+        }
+
+        // words equal to a keyword were already looked up above
+        matchedWords.forEach(word -> matches.addAll(wordPostings.get(word)));
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns the words holding every trigram of {@code keyword}, which is at least {@value #GRAM_LENGTH} long.
+     * The returned words may still not contain {@code keyword} itself.
+     */
+    private static Set<String> candidateWords(Map<String, Set<String>> wordsByGram, String keyword) {
+        List<Set<String>> gramWords = new ArrayList<>();
+        for (String gram : gramsOf(keyword)) {
+            Set<String> words = wordsByGram.get(gram);
+            if (words == null) {
+                return Collections.emptySet();
+            }
+            gramWords.add(words);
+        }
+
+        gramWords.sort(Comparator.comparingInt(Set::size));
+        Set<String> candidates = new HashSet<>(gramWords.get(0));
+        for (int i = 1; i < gramWords.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(gramWords.get(i));
+        }
+        return candidates;
+    }
+
+    private static void addGrams(Map<String, Set<String>> wordsByGram, String word) {
+        for (String gram : gramsOf(word)) {
+            wordsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    private static void removeGrams(Map<String, Set<String>> wordsByGram, String word) {
+        for (String gram : gramsOf(word)) {
+            Set<String> words = wordsByGram.get(gram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                wordsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct substrings of length {@value #GRAM_LENGTH} of {@code word}.
+     */
+    private static Set<String> gramsOf(String word) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the distinct lower-cased words of {@code internship} in {@code category}. A tag counts as one word.
+     */
+    private static Set<String> wordsOf(Internship internship, FindableCategory category) {
+        Set<String> words = new HashSet<>();
+        switch (category) {
+        case COMPANY_NAME:
+            addWords(internship.getName().toString(), words);
+            break;
+
+        case POSITION:
+            addWords(internship.getPosition().toString(), words);
+            break;
+
+        case TAG:
+            for (Tag tag : internship.getTags()) {
+                words.add(tag.getTagName().toLowerCase());
+            }
+            break;
+
+        default:
+            // Only indexed categories are passed in
+            break;
+        }
+        return words;
+    }
+
+    private static void addWords(String text, Set<String> words) {
+        for (String word : WHITESPACE.split(text.toLowerCase())) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+    }
+
+    private static Set<Internship> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -25,11 +25,22 @@ public class Position extends ComparableModel {
      * @param position A valid position.
      */
     public Position(String position) {
+        this(position, false);
+    }
+
+    private Position(String position, boolean isTrusted) {
         requireNonNull(position);
-        checkArgument(isValidPosition(position), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidPosition(position), MESSAGE_CONSTRAINTS);
         positionName = position;
     }
 
+    /**
+     * Returns a {@code Position} of {@code position}, taking it to be a valid position.
+     */
+    public static Position fromTrusted(String position) {
+        return new Position(position, true);
+    }
+
     /**
      * Returns true if a given string is a valid position.
      */
@@ -2,28 +2,54 @@ package seedu.phu.model.internship;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
-import javafx.collections.ObservableList;
+import seedu.phu.commons.core.observable.ListChange;
+import seedu.phu.commons.core.observable.ObservedList;
 
 /**
  * A class representing the logic for the statistic bar.
+ *
+ * The number of internships in each application process state is counted once, and then kept up to date from the
+ * internships added to and removed from the list, so a change only costs the size of the change.
+ * Views can listen to a {@code Statistic} to be notified, once per list change, after the counts are updated.
+ * Listeners are called on the thread that changed the list.
  */
 public class Statistic {
     private static final ApplicationProcess.ApplicationProcessState[] states =
             ApplicationProcess.ApplicationProcessState.values();
-    private ObservableList<Internship> internships;
+    private final ObservedList<Internship> internships;
+    private final int[] counts = new int[states.length];
+    private final List<Runnable> listeners = new ArrayList<>();
 
     /**
      * Constructs a Statistic instance representing the
      * list of internships.
      *
-     * @param internships an ObservableList.
+     * @param internships an ObservedList.
      */
-    public Statistic(ObservableList<Internship> internships) {
+    public Statistic(ObservedList<Internship> internships) {
         requireNonNull(internships);
         this.internships = internships;
+        recount();
+        internships.addObserver(this::updateCounts);
+    }
+
+    /**
+     * Returns the number of internships in {@code state}.
+     */
+    public int getCount(ApplicationProcess.ApplicationProcessState state) {
+        return counts[state.ordinal()];
+    }
+
+    /**
+     * Returns the total number of internships.
+     */
+    public int getTotal() {
+        return internships.size();
     }
 
     /**
@@ -32,14 +58,14 @@ public class Statistic {
      * @return a Map instance
      */
     public Map<ApplicationProcess.ApplicationProcessState, Double> getWidth() {
-        Map<ApplicationProcess.ApplicationProcessState, Double> statesWidth = new HashMap<>();
-        Map<ApplicationProcess.ApplicationProcessState, Integer> statesNum = getGroupedData();
-        int totalNum = internships.size();
+        Map<ApplicationProcess.ApplicationProcessState, Double> statesWidth =
+                new EnumMap<>(ApplicationProcess.ApplicationProcessState.class);
+        int totalNum = getTotal();
 
         assert totalNum > 0;
 
         for (ApplicationProcess.ApplicationProcessState s : states) {
-            double width = (double) statesNum.get(s) / totalNum * 100;
+            double width = (double) getCount(s) / totalNum * 100;
             statesWidth.put(s, width);
         }
 
@@ -52,21 +78,50 @@ public class Statistic {
      * @return a Map instance
      */
     public Map<ApplicationProcess.ApplicationProcessState, Integer> getGroupedData() {
-        Map<ApplicationProcess.ApplicationProcessState, Integer> map = new HashMap<>();
-        ApplicationProcess.ApplicationProcessState[] states = ApplicationProcess.ApplicationProcessState.values();
+        Map<ApplicationProcess.ApplicationProcessState, Integer> map =
+                new EnumMap<>(ApplicationProcess.ApplicationProcessState.class);
 
         for (ApplicationProcess.ApplicationProcessState process : states) {
-            int num = 0;
+            map.put(process, getCount(process));
+        }
+
+        return map;
+    }
+
+    /**
+     * Registers {@code listener} to be notified after the counts are updated for a change to the list.
+     */
+    public void addListener(Runnable listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
 
-            for (Internship i : internships) {
-                if (i.getApplicationProcess().equals(new ApplicationProcess(process.name()))) {
-                    ++num;
-                }
-            }
+    /**
+     * Stops notifying {@code listener} of updates to the counts.
+     */
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
 
-            map.put(process, num);
+    private void updateCounts(ListChange<? extends Internship> change) {
+        if (!change.wasPermutated()) {
+            change.getRemoved().forEach(internship -> counts[ordinalOf(internship)]--);
+            change.getAdded().forEach(internship -> counts[ordinalOf(internship)]++);
         }
 
-        return map;
+        for (Runnable listener : new ArrayList<>(listeners)) {
+            listener.run();
+        }
+    }
+
+    private void recount() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        internships.forEach(internship -> counts[ordinalOf(internship)]++);
+    }
+
+    private static int ordinalOf(Internship internship) {
+        return internship.getApplicationProcess().value.ordinal();
     }
 }
@@ -3,13 +3,24 @@ package seedu.phu.model.internship;
 import static java.util.Objects.requireNonNull;
 import static seedu.phu.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.phu.commons.core.keyword.Keyword;
+import seedu.phu.commons.core.observable.ObservedArrayList;
+import seedu.phu.commons.core.observable.ObservedList;
+import seedu.phu.model.internship.ApplicationProcess.ApplicationProcessState;
 import seedu.phu.model.internship.exceptions.DuplicateInternshipException;
 import seedu.phu.model.internship.exceptions.InternshipNotFoundException;
 
@@ -23,20 +34,40 @@ import seedu.phu.model.internship.exceptions.InternshipNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity lookups are answered from a hash index that maps the case-folded name and position of every internship
+ * to its position in the list, so that {@code contains}, {@code setInternship} and {@code remove} do not scan the
+ * whole list. Positions behind a removal are refreshed lazily, the next time a lookup needs them.
+ *
+ * The words of every internship are also kept in an {@code InternshipSearchIndex}, and their dates in an
+ * {@code InternshipDateIndex}, so that keyword and date searches can be answered without testing every internship.
+ *
  * @see Internship#isSameInternship(Internship)
  */
 public class UniqueInternshipList implements Iterable<Internship> {
 
-    private final ObservableList<Internship> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Internship> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservedArrayList<Internship> internalList = new ObservedArrayList<>();
+    private final ObservedList<Internship> internalUnmodifiableList = internalList.asUnmodifiableList();
+
+    private final Map<IdentityKey, Integer> identityIndex = new HashMap<>();
+
+    /** Positions stored in {@code identityIndex} are known to be accurate for every list index below this value. */
+    private int indexedPrefixLength = 0;
+
+    private final InternshipSearchIndex searchIndex = new InternshipSearchIndex();
+    private final InternshipDateIndex dateIndex = new InternshipDateIndex();
+
+    /**
+     * Number of changes made to this list so far. It is counted before the backing list is changed, since observers
+     * of the backing list are notified during the change and must not trust predicates from before it.
+     */
+    private int modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent internship as the given argument.
      */
     public boolean contains(Internship toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameInternship);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -48,7 +79,13 @@ public class UniqueInternshipList implements Iterable<Internship> {
         if (contains(toAdd)) {
             throw new DuplicateInternshipException();
         }
+        modificationCount++;
         internalList.add(toAdd);
+        identityIndex.put(new IdentityKey(toAdd), internalList.size() - 1);
+        addToIndexes(toAdd);
+        if (indexedPrefixLength == internalList.size() - 1) {
+            indexedPrefixLength = internalList.size();
+        }
     }
 
     /**
@@ -60,25 +97,41 @@ public class UniqueInternshipList implements Iterable<Internship> {
     public void setInternship(Internship target, Internship editedInternship) {
         requireAllNonNull(target, editedInternship);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new InternshipNotFoundException();
         }
 
-        if (!target.isSameInternship(editedInternship) && contains(editedInternship)) {
+        boolean isSameIdentity = target.isSameInternship(editedInternship);
+        if (!isSameIdentity && contains(editedInternship)) {
             throw new DuplicateInternshipException();
         }
 
-        internalList.set(index, editedInternship);
+        modificationCount++;
+        removeFromIndexes(internalList.set(index, editedInternship));
+        addToIndexes(editedInternship);
+        if (!isSameIdentity) {
+            identityIndex.remove(new IdentityKey(target));
+            identityIndex.put(new IdentityKey(editedInternship), index);
+        }
     }
 
-
+    /**
+     * Sorts the list with the given {@code comparator}.
+     */
     public void sortInternship(Comparator<Internship> comparator) {
+        modificationCount++;
         internalList.sort(comparator);
+        indexedPrefixLength = 0;
     };
 
+    /**
+     * Reverses the order of the list.
+     */
     public void reverseList() {
-        Collections.reverse(internalList);
+        modificationCount++;
+        internalList.reverse();
+        indexedPrefixLength = 0;
     }
 
     /**
@@ -87,14 +140,31 @@ public class UniqueInternshipList implements Iterable<Internship> {
      */
     public void remove(Internship toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new InternshipNotFoundException();
         }
+
+        modificationCount++;
+        removeFromIndexes(internalList.remove(index));
+        identityIndex.remove(new IdentityKey(toRemove));
+        indexedPrefixLength = Math.min(indexedPrefixLength, index);
     }
 
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     * {@code replacement} already guarantees uniqueness, so it is not validated again and its identity index is
+     * copied rather than rebuilt. Positions in the copy that {@code replacement} has not refreshed yet are refreshed
+     * in the copy only, so {@code replacement} is left unchanged.
+     */
     public void setInternships(UniqueInternshipList replacement) {
         requireNonNull(replacement);
+        modificationCount++;
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        reindexFrom(replacement.indexedPrefixLength);
+        rebuildIndexes();
     }
 
     /**
@@ -103,23 +173,98 @@ public class UniqueInternshipList implements Iterable<Internship> {
      */
     public void setInternships(List<Internship> internships) {
         requireAllNonNull(internships);
-        if (!internshipsAreUnique(internships)) {
-            throw new DuplicateInternshipException();
-        }
+        Map<IdentityKey, Integer> newIndex = buildIndex(internships);
 
+        modificationCount++;
         internalList.setAll(internships);
+        identityIndex.clear();
+        identityIndex.putAll(newIndex);
+        indexedPrefixLength = internalList.size();
+        rebuildIndexes();
+    }
+
+    /**
+     * Replaces the internships from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}, leaving the rest of the list untouched.
+     *
+     * @throws DuplicateInternshipException if the resulting list would contain duplicate internships.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<Internship> replacement) {
+        requireAllNonNull(replacement);
+        reindexFrom(indexedPrefixLength);
+        List<Internship> replaced = internalList.subList(fromIndex, toIndex);
+        replaced.forEach(internship -> identityIndex.remove(new IdentityKey(internship)));
+
+        List<IdentityKey> addedKeys = new ArrayList<>();
+        Map<Integer, Integer> duplicatePositions = new LinkedHashMap<>();
+        for (int i = 0; i < replacement.size(); i++) {
+            IdentityKey key = new IdentityKey(replacement.get(i));
+            Integer existingPosition = identityIndex.putIfAbsent(key, fromIndex + i);
+            if (existingPosition == null) {
+                addedKeys.add(key);
+            } else {
+                duplicatePositions.put(fromIndex + i, existingPosition);
+            }
+        }
+        if (!duplicatePositions.isEmpty()) {
+            addedKeys.forEach(identityIndex::remove);
+            reindexFrom(fromIndex);
+            throw new DuplicateInternshipException(duplicatePositions);
+        }
+
+        modificationCount++;
+        replaced.forEach(this::removeFromIndexes);
+        replacement.forEach(this::addToIndexes);
+        internalList.replaceRange(fromIndex, toIndex, replacement);
+        if (toIndex - fromIndex != replacement.size()) {
+            indexedPrefixLength = Math.min(indexedPrefixLength, fromIndex);
+        }
+    }
+
+    /**
+     * Returns a predicate that agrees with {@code predicate} on every internship in this list.
+     * Matches are looked up once in the search or date index, when they can answer {@code predicate}, and are trusted
+     * until this list next changes; after that the returned predicate tests {@code predicate} itself.
+     */
+    public Predicate<Internship> toIndexedPredicate(ContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Optional<Set<Internship>> matches = findInIndexes(predicate);
+        if (!matches.isPresent()) {
+            return predicate;
+        }
+
+        Set<Internship> matchedInternships = matches.get();
+        int searchedModificationCount = modificationCount;
+        return internship -> modificationCount == searchedModificationCount
+                ? matchedInternships.contains(internship)
+                : predicate.test(internship);
+    }
+
+    /**
+     * Returns the number of internships in {@code state} dated within {@code range}.
+     */
+    public int countInternships(ApplicationProcessState state, DateRange range) {
+        return dateIndex.count(state, range);
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     * The count only ever grows, so an unchanged count means the list has not been modified in between.
+     */
+    public int getModificationCount() {
+        return modificationCount;
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ObservedList}.
      */
-    public ObservableList<Internship> asUnmodifiableObservableList() {
+    public ObservedList<Internship> asUnmodifiableObservedList() {
         return internalUnmodifiableList;
     }
 
     @Override
     public Iterator<Internship> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -151,16 +296,126 @@ public class UniqueInternshipList implements Iterable<Internship> {
     }
 
     /**
-     * Returns true if {@code internships} contains only unique internships.
+     * Returns the position of the internship equal to {@code target}, or -1 if there is none.
      */
-    private boolean internshipsAreUnique(List<Internship> internships) {
-        for (int i = 0; i < internships.size() - 1; i++) {
-            for (int j = i + 1; j < internships.size(); j++) {
-                if (internships.get(i).isSameInternship(internships.get(j))) {
-                    return false;
-                }
+    private int indexOf(Internship target) {
+        Integer index = identityIndex.get(new IdentityKey(target));
+        if (index == null) {
+            return -1;
+        }
+
+        if (!isIndexedAt(index, target)) {
+            reindexFrom(indexedPrefixLength);
+            index = identityIndex.get(new IdentityKey(target));
+        }
+        return internalList.get(index).equals(target) ? index : -1;
+    }
+
+    private boolean isIndexedAt(int index, Internship target) {
+        return index < internalList.size() && internalList.get(index).isSameInternship(target);
+    }
+
+    /**
+     * Refreshes the stored positions of every internship from {@code start} onwards.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            identityIndex.put(new IdentityKey(internalList.get(i)), i);
+        }
+        indexedPrefixLength = internalList.size();
+    }
+
+    /**
+     * Returns true if the identity index holds exactly the internships in the list, each at its current position.
+     */
+    boolean isIndexConsistent() {
+        reindexFrom(indexedPrefixLength);
+        if (identityIndex.size() != internalList.size()) {
+            return false;
+        }
+        for (int i = 0; i < internalList.size(); i++) {
+            Integer index = identityIndex.get(new IdentityKey(internalList.get(i)));
+            if (index == null || index != i) {
+                return false;
             }
         }
         return true;
     }
+
+    private void addToIndexes(Internship internship) {
+        searchIndex.add(internship);
+        dateIndex.add(internship);
+    }
+
+    private void removeFromIndexes(Internship internship) {
+        searchIndex.remove(internship);
+        dateIndex.remove(internship);
+    }
+
+    private void rebuildIndexes() {
+        searchIndex.rebuild(internalList);
+        dateIndex.rebuild(internalList);
+    }
+
+    /**
+     * Returns the internships matching {@code predicate}, looked up in the search or date index, or an empty
+     * {@code Optional} if the predicate cannot be answered from them.
+     */
+    private Optional<Set<Internship>> findInIndexes(ContainsKeywordsPredicate predicate) {
+        if (predicate.getCategory() == FindableCategory.DATE) {
+            return predicate.getDateRanges().map(dateIndex::find);
+        }
+
+        List<String> keywords = predicate.getKeywords().getKeywords().stream()
+                .map(Keyword::getKeyword)
+                .collect(Collectors.toList());
+        return searchIndex.find(predicate.getCategory(), keywords);
+    }
+
+    /**
+     * Builds the identity index of {@code internships} in a single pass.
+     *
+     * @throws DuplicateInternshipException listing every duplicate if {@code internships} are not unique.
+     */
+    private static Map<IdentityKey, Integer> buildIndex(List<Internship> internships) {
+        Map<IdentityKey, Integer> index = new HashMap<>();
+        Map<Integer, Integer> duplicatePositions = new LinkedHashMap<>();
+        for (int i = 0; i < internships.size(); i++) {
+            Integer firstPosition = index.putIfAbsent(new IdentityKey(internships.get(i)), i);
+            if (firstPosition != null) {
+                duplicatePositions.put(i, firstPosition);
+            }
+        }
+
+        if (!duplicatePositions.isEmpty()) {
+            throw new DuplicateInternshipException(duplicatePositions);
+        }
+        return index;
+    }
+
+    /**
+     * The identity of an internship, folded to lower case to agree with {@code Internship#isSameInternship}.
+     */
+    private static final class IdentityKey {
+        private final String name;
+        private final String position;
+
+        IdentityKey(Internship internship) {
+            name = internship.getName().fullName.toLowerCase(Locale.ROOT);
+            position = internship.getPosition().positionName.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof IdentityKey
+                            && name.equals(((IdentityKey) other).name)
+                            && position.equals(((IdentityKey) other).position));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, position);
+        }
+    }
 }
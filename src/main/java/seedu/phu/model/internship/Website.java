@@ -40,11 +40,23 @@ public class Website {
      * @param website A valid website internship.
      */
     public Website(String website) {
+        this(website, false);
+    }
+
+    private Website(String website, boolean isTrusted) {
         requireNonNull(website);
-        checkArgument(isValidWebsite(website), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidWebsite(website), MESSAGE_CONSTRAINTS);
         value = website;
     }
 
+    /**
+     * Returns a {@code Website} of {@code website} without checking its length or matching it against either
+     * validation regex.
+     */
+    public static Website fromTrusted(String website) {
+        return new Website(website, true);
+    }
+
     /**
      * Returns true if a given string is a valid website.
      */
@@ -1,11 +1,49 @@
 package seedu.phu.model.internship.exceptions;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * Signals that the operation will result in duplicate Internships (Internships are considered duplicates
  * if they have the same identity).
  */
 public class DuplicateInternshipException extends RuntimeException {
+    private static final String MESSAGE_DUPLICATE = "Operation would result in duplicate internships";
+
+    private final Map<Integer, Integer> duplicatePositions;
+
     public DuplicateInternshipException() {
-        super("Operation would result in duplicate internships");
+        super(MESSAGE_DUPLICATE);
+        duplicatePositions = Collections.emptyMap();
+    }
+
+    /**
+     * Constructs a {@code DuplicateInternshipException} reporting every duplicate found in a bulk operation.
+     *
+     * @param duplicatePositions maps the zero-based position of each duplicate to the position of the earlier
+     *                           internship it duplicates, in the order the duplicates were found.
+     */
+    public DuplicateInternshipException(Map<Integer, Integer> duplicatePositions) {
+        super(MESSAGE_DUPLICATE + ": " + describe(duplicatePositions));
+        this.duplicatePositions = Collections.unmodifiableMap(new LinkedHashMap<>(duplicatePositions));
+    }
+
+    /**
+     * Returns the zero-based position of each duplicate, mapped to the position of the earlier internship it
+     * duplicates. Empty if the positions are not known.
+     */
+    public Map<Integer, Integer> getDuplicatePositions() {
+        return duplicatePositions;
+    }
+
+    /**
+     * Returns a one-based description of {@code duplicatePositions}, e.g. "entry 3 duplicates entry 1".
+     */
+    public static String describe(Map<Integer, Integer> duplicatePositions) {
+        return duplicatePositions.entrySet().stream()
+                .map(entry -> "entry " + (entry.getKey() + 1) + " duplicates entry " + (entry.getValue() + 1))
+                .collect(Collectors.joining(", "));
     }
 }
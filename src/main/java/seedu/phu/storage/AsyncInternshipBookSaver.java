@@ -0,0 +1,184 @@
+package seedu.phu.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.core.observable.ObservedArrayList;
+import seedu.phu.commons.core.observable.ObservedList;
+import seedu.phu.commons.util.StringUtil;
+import seedu.phu.model.ReadOnlyInternshipBook;
+import seedu.phu.model.internship.Internship;
+
+/**
+ * Saves the internship book in the background, so that commands do not wait for the data file to be written.
+ *
+ * Each call to {@link #schedule(ReadOnlyInternshipBook)} takes a snapshot of the book and replaces any snapshot that
+ * has not been written yet, so a burst of changes is written once, with the latest data. Snapshots are numbered in
+ * the order they were scheduled, so that the failure of a write can be told apart from the failure of an earlier one.
+ * Write failures are kept until they are collected with {@link #takeFailure()}, and {@link #flush()} writes any
+ * pending snapshot on the calling thread.
+ */
+public class AsyncInternshipBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncInternshipBookSaver.class);
+
+    private final InternshipBookStorage storage;
+    private final Executor writeExecutor;
+
+    /** Held for the whole of each write, so that writes never overlap and happen in the order they were taken. */
+    private final Object writeLock = new Object();
+
+    /** Guards the fields below. Never held while writing, so scheduling does not wait for a write in progress. */
+    private final Object lock = new Object();
+    private ReadOnlyInternshipBook pendingSnapshot;
+    private long scheduledSnapshotCount;
+    private long pendingSnapshotNumber;
+    private IOException failure;
+    private long writtenSnapshotNumber;
+
+    /**
+     * Creates a saver that writes to {@code storage} on a dedicated background thread.
+     */
+    public AsyncInternshipBookSaver(InternshipBookStorage storage) {
+        this(storage, createWriterThread());
+    }
+
+    /**
+     * Creates a saver that writes to {@code storage} by running write tasks on {@code writeExecutor}.
+     */
+    public AsyncInternshipBookSaver(InternshipBookStorage storage, Executor writeExecutor) {
+        requireNonNull(storage);
+        requireNonNull(writeExecutor);
+        this.storage = storage;
+        this.writeExecutor = writeExecutor;
+    }
+
+    /**
+     * Schedules {@code internshipBook} to be written in the background.
+     * The book is copied immediately, so it may keep changing while it waits to be written.
+     *
+     * @return the number of the snapshot taken, which is greater than that of every snapshot taken before it.
+     */
+    public long schedule(ReadOnlyInternshipBook internshipBook) {
+        requireNonNull(internshipBook);
+        Snapshot snapshot = new Snapshot(internshipBook);
+        boolean isWriteQueued;
+        long snapshotNumber;
+        synchronized (lock) {
+            isWriteQueued = pendingSnapshot != null;
+            pendingSnapshot = snapshot;
+            snapshotNumber = ++scheduledSnapshotCount;
+            pendingSnapshotNumber = snapshotNumber;
+        }
+        if (!isWriteQueued) {
+            writeExecutor.execute(this::writePending);
+        }
+        return snapshotNumber;
+    }
+
+    /**
+     * Writes any snapshot that has not been written yet, waiting for a write already in progress to finish first.
+     *
+     * @throws IOException if a write failed and the failure has not been collected yet.
+     */
+    public void flush() throws IOException {
+        writePending();
+        Optional<IOException> uncollectedFailure = takeFailure();
+        if (uncollectedFailure.isPresent()) {
+            throw uncollectedFailure.get();
+        }
+    }
+
+    /**
+     * Returns the failure of the latest write, if it failed and has not been returned before.
+     */
+    public Optional<IOException> takeFailure() {
+        synchronized (lock) {
+            Optional<IOException> latestFailure = Optional.ofNullable(failure);
+            failure = null;
+            return latestFailure;
+        }
+    }
+
+    /**
+     * Returns the failure of the latest write, if it failed, has not been returned before, and wrote the snapshot
+     * numbered {@code snapshotNumber} or a later one. The failure to write an earlier snapshot is left to be collected.
+     */
+    public Optional<IOException> takeFailure(long snapshotNumber) {
+        synchronized (lock) {
+            if (writtenSnapshotNumber < snapshotNumber) {
+                return Optional.empty();
+            }
+            return takeFailure();
+        }
+    }
+
+    private void writePending() {
+        synchronized (writeLock) {
+            ReadOnlyInternshipBook snapshot;
+            long snapshotNumber;
+            synchronized (lock) {
+                snapshot = pendingSnapshot;
+                snapshotNumber = pendingSnapshotNumber;
+                pendingSnapshot = null;
+            }
+            if (snapshot == null) {
+                return;
+            }
+
+            IOException writeFailure = null;
+            try {
+                storage.saveInternshipBook(snapshot);
+            } catch (IOException ioe) {
+                logger.warning("Failed to save internship book: " + StringUtil.getDetails(ioe));
+                writeFailure = ioe;
+            }
+            synchronized (lock) {
+                failure = writeFailure;
+                writtenSnapshotNumber = snapshotNumber;
+            }
+        }
+    }
+
+    private static ExecutorService createWriterThread() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "internship-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * An unchanging copy of the internships of a book at the time it was scheduled to be saved.
+     */
+    private static class Snapshot implements ReadOnlyInternshipBook {
+        private final ObservedList<Internship> internships;
+
+        Snapshot(ReadOnlyInternshipBook internshipBook) {
+            internships = new ObservedArrayList<>(internshipBook.getInternshipList()).asUnmodifiableList();
+        }
+
+        @Override
+        public ObservedList<Internship> getInternshipList() {
+            return internships;
+        }
+
+        @Override
+        public void sortInternshipList(Comparator<Internship> comparator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void reverseList() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
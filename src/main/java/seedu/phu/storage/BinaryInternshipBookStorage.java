@@ -0,0 +1,366 @@
+package seedu.phu.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.commons.util.FileUtil;
+import seedu.phu.model.ReadOnlyInternshipBook;
+import seedu.phu.model.internship.ApplicationProcess;
+import seedu.phu.model.internship.ApplicationProcess.ApplicationProcessState;
+import seedu.phu.model.internship.Date;
+import seedu.phu.model.internship.Email;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.model.internship.Name;
+import seedu.phu.model.internship.Phone;
+import seedu.phu.model.internship.Position;
+import seedu.phu.model.internship.Remark;
+import seedu.phu.model.internship.Website;
+import seedu.phu.model.tag.Tag;
+
+/**
+ * A class to access InternshipBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a table of every distinct string in
+ * the book, then the internships, and ends with the CRC32 checksum of everything before it. Each internship refers to
+ * its text fields by their position in the string table, and holds its date as an epoch day and its application
+ * process state as an ordinal. Reading validates and creates each distinct value once, and shares it between the
+ * internships that hold it.
+ */
+public class BinaryInternshipBookStorage implements InternshipBookStorage {
+
+    /** The first four bytes of every binary internship book file, "PHUB" in ASCII. */
+    public static final int MAGIC = 0x50485542;
+    public static final short FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary internship book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary internship book format version %d "
+            + "is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary internship book is corrupted: "
+            + "checksum does not match.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Binary internship book is corrupted: "
+            + "%s %d is out of range.";
+    public static final String MESSAGE_TRUNCATED = "Binary internship book is corrupted: it ends too early.";
+    public static final String MESSAGE_TRAILING_DATA = "Binary internship book is corrupted: "
+            + "unexpected data after the checksum.";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final int TEXT_FIELD_COUNT = 6;
+    private static final ApplicationProcessState[] STATES = ApplicationProcessState.values();
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryInternshipBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryInternshipBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getInternshipBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipBook> readInternshipBook() throws DataConversionException, IOException {
+        return readInternshipBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternshipBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not a valid binary internship book.
+     */
+    @Override
+    public Optional<ReadOnlyInternshipBook> readInternshipBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decodeInternshipBook(FileUtil.readToBuffer(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveInternshipBook(ReadOnlyInternshipBook internshipBook) throws IOException {
+        saveInternshipBook(internshipBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternshipBook(ReadOnlyInternshipBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveInternshipBook(ReadOnlyInternshipBook internshipBook, Path filePath) throws IOException {
+        requireNonNull(internshipBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeInternshipBook(internshipBook, out));
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format.
+     */
+    static void writeInternshipBook(ReadOnlyInternshipBook source, OutputStream out) throws IOException {
+        List<Internship> internships = source.getInternshipList();
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Function<String, Integer> newStringId = string -> {
+            strings.add(string);
+            return strings.size() - 1;
+        };
+        for (Internship internship : internships) {
+            for (String string : stringsOf(internship)) {
+                stringIds.computeIfAbsent(string, newStringId);
+            }
+        }
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+
+        data.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        data.writeInt(internships.size());
+        for (Internship internship : internships) {
+            List<String> internshipStrings = stringsOf(internship);
+            for (int i = 0; i < TEXT_FIELD_COUNT; i++) {
+                data.writeInt(stringIds.get(internshipStrings.get(i)));
+            }
+            data.writeInt(Math.toIntExact(internship.getDate().value.toEpochDay()));
+            data.writeByte(internship.getApplicationProcess().value.ordinal());
+            data.writeInt(internshipStrings.size() - TEXT_FIELD_COUNT);
+            for (int i = TEXT_FIELD_COUNT; i < internshipStrings.size(); i++) {
+                data.writeInt(stringIds.get(internshipStrings.get(i)));
+            }
+        }
+
+        data.flush();
+        data.writeLong(checkedOut.getChecksum().getValue());
+        data.flush();
+    }
+
+    /**
+     * Returns the internship book held in {@code content}, the content of a binary data file.
+     *
+     * @throws IllegalValueException if {@code content} is not a valid binary internship book, or any internship
+     *     violates its data constraints.
+     */
+    public static ReadOnlyInternshipBook decodeInternshipBook(ByteBuffer content) throws IllegalValueException {
+        return JsonSerializableInternshipBook.toInternshipBook(readInternships(content));
+    }
+
+    /**
+     * Reads the internships of a binary internship book from {@code content}, without checking them for
+     * duplicates. The position of {@code content} is left unchanged.
+     *
+     * @throws IllegalValueException if {@code content} does not hold a valid binary internship book, or any
+     *     internship violates its data constraints.
+     */
+    static List<Internship> readInternships(ByteBuffer content) throws IllegalValueException {
+        ByteBuffer data = content.duplicate().order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (data.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            short version = data.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int checksumPosition = data.limit() - Long.BYTES;
+            if (checksumPosition < data.position()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            ByteBuffer checkedContent = content.duplicate();
+            checkedContent.limit(checksumPosition);
+            CRC32 checksum = new CRC32();
+            checksum.update(checkedContent);
+            if (data.getLong(checksumPosition) != checksum.getValue()) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            data.limit(checksumPosition);
+
+            String[] strings = new String[readCount(data, "string count")];
+            byte[] stringBytes = new byte[0];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readCount(data, "string length");
+                if (length > stringBytes.length) {
+                    stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+                }
+                data.get(stringBytes, 0, length);
+                strings[i] = new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+            }
+
+            ValueDecoder decoder = new ValueDecoder(strings);
+            int internshipCount = readCount(data, "internship count");
+            List<Internship> internships = new ArrayList<>();
+            for (int i = 0; i < internshipCount; i++) {
+                internships.add(decoder.decodeInternship(data));
+            }
+
+            if (data.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_TRAILING_DATA);
+            }
+            return internships;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+    }
+
+    /**
+     * Returns the text fields of {@code internship} in the order they are written, followed by its tag names.
+     */
+    private static List<String> stringsOf(Internship internship) {
+        List<String> strings = new ArrayList<>(TEXT_FIELD_COUNT + internship.getTags().size());
+        strings.add(internship.getName().fullName);
+        strings.add(internship.getPosition().positionName);
+        strings.add(internship.getPhone().value);
+        strings.add(internship.getEmail().value);
+        strings.add(internship.getRemark().value);
+        strings.add(internship.getWebsite().value);
+        internship.getTags().forEach(tag -> strings.add(tag.tagName));
+        return strings;
+    }
+
+    /**
+     * Reads a count, which cannot exceed the number of bytes left in {@code data} since each counted item takes at
+     * least one byte.
+     */
+    private static int readCount(ByteBuffer data, String description) throws IllegalValueException {
+        int count = data.getInt();
+        if (count < 0 || count > data.remaining()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, description, count));
+        }
+        return count;
+    }
+
+    /**
+     * Turns the references of a binary internship book into model values, validating and creating each distinct value
+     * only once.
+     */
+    private static class ValueDecoder {
+        private final String[] strings;
+        private final Name[] names;
+        private final Position[] positions;
+        private final Phone[] phones;
+        private final Email[] emails;
+        private final Remark[] remarks;
+        private final Website[] websites;
+        private final Tag[] tags;
+        private final ApplicationProcess[] applicationProcesses = new ApplicationProcess[STATES.length];
+        private final Map<Integer, Date> dates = new HashMap<>();
+
+        ValueDecoder(String[] strings) {
+            this.strings = strings;
+            names = new Name[strings.length];
+            positions = new Position[strings.length];
+            phones = new Phone[strings.length];
+            emails = new Email[strings.length];
+            remarks = new Remark[strings.length];
+            websites = new Website[strings.length];
+            tags = new Tag[strings.length];
+        }
+
+        Internship decodeInternship(ByteBuffer data) throws IllegalValueException {
+            Name name = decode(names, data.getInt(), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::new);
+            Position position = decode(positions, data.getInt(), Position::isValidPosition,
+                    Position.MESSAGE_CONSTRAINTS, Position::new);
+            Phone phone = decode(phones, data.getInt(), Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS, Phone::new);
+            Email email = decode(emails, data.getInt(), Email::isValidEmail, Email.MESSAGE_CONSTRAINTS, Email::new);
+            Remark remark = decode(remarks, data.getInt(), unused -> true, null, Remark::new);
+            Website website = decode(websites, data.getInt(), Website::isValidWebsite, Website.MESSAGE_CONSTRAINTS,
+                    Website::new);
+            Date date = dates.computeIfAbsent(data.getInt(), epochDay -> new Date(LocalDate.ofEpochDay(epochDay)));
+            ApplicationProcess applicationProcess = decodeApplicationProcess(Byte.toUnsignedInt(data.get()));
+
+            int tagCount = readCount(data, "tag count");
+            Set<Tag> internshipTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                internshipTags.add(decode(tags, data.getInt(), Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS,
+                        Tag::new));
+            }
+            return new Internship(name, phone, email, remark, position, applicationProcess, date, website,
+                    internshipTags);
+        }
+
+        private <T> T decode(T[] values, int id, Predicate<String> isValid, String constraints,
+                Function<String, T> factory) throws IllegalValueException {
+            if (id < 0 || id >= strings.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, "string", id));
+            }
+            if (values[id] == null) {
+                if (!isValid.test(strings[id])) {
+                    throw new IllegalValueException(constraints);
+                }
+                values[id] = factory.apply(strings[id]);
+            }
+            return values[id];
+        }
+
+        private ApplicationProcess decodeApplicationProcess(int ordinal) throws IllegalValueException {
+            if (ordinal >= STATES.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, "state", ordinal));
+            }
+            if (applicationProcesses[ordinal] == null) {
+                applicationProcesses[ordinal] = new ApplicationProcess(STATES[ordinal].name());
+            }
+            return applicationProcesses[ordinal];
+        }
+    }
+}
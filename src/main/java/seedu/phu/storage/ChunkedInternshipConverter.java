@@ -0,0 +1,155 @@
+package seedu.phu.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.phu.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.model.internship.Internship;
+
+/**
+ * Converts a sequence of {@code JsonAdaptedInternship} into the model's {@code Internship} objects on a
+ * {@code ForkJoinPool}, so that the validation of a large book is spread over the available cores.
+ *
+ * Internships are collected into chunks as they are added, and each full chunk is converted on the pool while the
+ * caller carries on reading. Chunks are joined in the order they were added, so the results keep the input order and
+ * a failure is reported for the first invalid internship even if a later chunk failed sooner. Only a few chunks per
+ * worker are left unjoined at any time, so the Jackson-friendly form of the whole book is never held at once.
+ */
+class ChunkedInternshipConverter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+    public static final String MESSAGE_INVALID_ENTRY = "Entry %d is invalid: %s";
+
+    private static final int CHUNKS_IN_FLIGHT_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final boolean isTrusted;
+    private final int maxChunksInFlight;
+    private final Deque<ConversionTask> chunksInFlight = new ArrayDeque<>();
+    private final List<Internship> converted = new ArrayList<>();
+
+    private List<JsonAdaptedInternship> currentChunk;
+    private int addedCount;
+
+    /**
+     * Creates a converter that converts chunks of {@link #DEFAULT_CHUNK_SIZE} internships on the common pool.
+     *
+     * @param isTrusted whether the internships were written by this app and left unchanged since, so that their
+     *                  fields need not be validated again.
+     */
+    ChunkedInternshipConverter(boolean isTrusted) {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, isTrusted);
+    }
+
+    /**
+     * Creates a converter that converts chunks of {@code chunkSize} internships on {@code pool}.
+     *
+     * @param isTrusted whether the internships were written by this app and left unchanged since, so that their
+     *                  fields need not be validated again.
+     */
+    ChunkedInternshipConverter(ForkJoinPool pool, int chunkSize, boolean isTrusted) {
+        requireNonNull(pool);
+        checkArgument(chunkSize > 0, "Chunk size must be positive.");
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.isTrusted = isTrusted;
+        this.maxChunksInFlight = pool.getParallelism() * CHUNKS_IN_FLIGHT_PER_WORKER;
+        this.currentChunk = new ArrayList<>(chunkSize);
+    }
+
+    /**
+     * Adds {@code internship} to be converted after the internships added before it.
+     *
+     * @throws IllegalValueException if an internship added earlier has already been found to be invalid.
+     */
+    void add(JsonAdaptedInternship internship) throws IllegalValueException {
+        requireNonNull(internship);
+        currentChunk.add(internship);
+        addedCount++;
+        if (currentChunk.size() < chunkSize) {
+            return;
+        }
+
+        ConversionTask task = new ConversionTask(currentChunk, addedCount - currentChunk.size(), isTrusted);
+        currentChunk = new ArrayList<>(chunkSize);
+        chunksInFlight.addLast(task);
+        pool.execute(task);
+        if (chunksInFlight.size() > maxChunksInFlight) {
+            joinOldestChunk();
+        }
+    }
+
+    /**
+     * Converts the internships that are still waiting, and returns every converted internship in the order it was
+     * added.
+     *
+     * @throws IllegalValueException naming the first added internship that violates its data constraints.
+     */
+    List<Internship> finish() throws IllegalValueException {
+        // the last partial chunk is converted here, while the pool works through the full ones
+        ConversionTask lastTask = new ConversionTask(currentChunk, addedCount - currentChunk.size(), isTrusted);
+        currentChunk = new ArrayList<>();
+        List<Internship> lastChunk = lastTask.compute();
+
+        while (!chunksInFlight.isEmpty()) {
+            joinOldestChunk();
+        }
+        if (lastTask.failure != null) {
+            throw lastTask.failure;
+        }
+        converted.addAll(lastChunk);
+        return converted;
+    }
+
+    private void joinOldestChunk() throws IllegalValueException {
+        ConversionTask task = chunksInFlight.removeFirst();
+        List<Internship> chunk = task.join();
+        if (task.failure != null) {
+            chunksInFlight.forEach(pending -> pending.cancel(false));
+            chunksInFlight.clear();
+            throw task.failure;
+        }
+        converted.addAll(chunk);
+    }
+
+    /**
+     * Converts one chunk of internships, stopping at the first invalid one.
+     * The failure is kept rather than thrown, since {@code RecursiveTask} cannot throw checked exceptions.
+     */
+    private static class ConversionTask extends RecursiveTask<List<Internship>> {
+        private final List<JsonAdaptedInternship> chunk;
+        private final int firstIndex;
+        private final boolean isTrusted;
+        private IllegalValueException failure;
+
+        ConversionTask(List<JsonAdaptedInternship> chunk, int firstIndex, boolean isTrusted) {
+            this.chunk = chunk;
+            this.firstIndex = firstIndex;
+            this.isTrusted = isTrusted;
+        }
+
+        @Override
+        protected List<Internship> compute() {
+            List<Internship> modelInternships = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    JsonAdaptedInternship internship = chunk.get(i);
+                    modelInternships.add(isTrusted ? internship.toTrustedModelType() : internship.toModelType());
+                } catch (IllegalValueException ive) {
+                    failure = new IllegalValueException(
+                            String.format(MESSAGE_INVALID_ENTRY, firstIndex + i + 1, ive.getMessage()), ive);
+                    break;
+                }
+            }
+            return modelInternships;
+        }
+    }
+}
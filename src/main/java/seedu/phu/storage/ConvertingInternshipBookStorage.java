@@ -0,0 +1,101 @@
+package seedu.phu.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.model.ReadOnlyInternshipBook;
+
+/**
+ * A storage that keeps InternshipBook data in the format of one storage, but reads it from a storage of another
+ * format when that storage's file was written more recently.
+ * This converts the data from one format to the other on the next save, so that changing the data format in the
+ * user preferences, in either direction, loses no data.
+ */
+public class ConvertingInternshipBookStorage implements InternshipBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ConvertingInternshipBookStorage.class);
+
+    private final InternshipBookStorage storage;
+    private final List<InternshipBookStorage> otherFormatStorages;
+
+    /**
+     * Creates a storage that saves to {@code storage} and reads from whichever of {@code storage} and
+     * {@code otherFormatStorages} holds the most recently written file.
+     */
+    public ConvertingInternshipBookStorage(InternshipBookStorage storage,
+            InternshipBookStorage... otherFormatStorages) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.otherFormatStorages = Arrays.asList(otherFormatStorages);
+    }
+
+    @Override
+    public Path getInternshipBookFilePath() {
+        return storage.getInternshipBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipBook> readInternshipBook() throws DataConversionException, IOException {
+        InternshipBookStorage newestStorage = storage;
+        Optional<FileTime> newestTime = getLastModifiedTime(storage.getInternshipBookFilePath());
+        for (InternshipBookStorage otherFormatStorage : otherFormatStorages) {
+            Optional<FileTime> time = getLastModifiedTime(otherFormatStorage.getInternshipBookFilePath());
+            if (time.isPresent() && (!newestTime.isPresent() || time.get().compareTo(newestTime.get()) > 0)) {
+                newestStorage = otherFormatStorage;
+                newestTime = time;
+            }
+        }
+
+        if (newestStorage != storage) {
+            logger.info("Converting " + newestStorage.getInternshipBookFilePath() + " into "
+                    + storage.getInternshipBookFilePath());
+        }
+        return newestStorage.readInternshipBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipBook> readInternshipBook(Path filePath)
+            throws DataConversionException, IOException {
+        return storage.readInternshipBook(filePath);
+    }
+
+    @Override
+    public void saveInternshipBook(ReadOnlyInternshipBook internshipBook) throws IOException {
+        storage.saveInternshipBook(internshipBook);
+    }
+
+    @Override
+    public void saveInternshipBook(ReadOnlyInternshipBook internshipBook, Path filePath) throws IOException {
+        storage.saveInternshipBook(internshipBook, filePath);
+    }
+
+    /**
+     * Returns the time that the data file at {@code filePath}, the journal kept next to it, or the manifest of the
+     * segment directory at {@code filePath} was last written, or an empty {@code Optional} if there is no such file.
+     */
+    private static Optional<FileTime> getLastModifiedTime(Path filePath) throws IOException {
+        Optional<FileTime> lastModifiedTime = Optional.empty();
+        for (Path path : new Path[] {filePath, JournalInternshipBookStorage.getJournalFilePath(filePath),
+                SegmentedInternshipBookStorage.getManifestFilePath(filePath)}) {
+            if (!Files.isRegularFile(path)) {
+                continue;
+            }
+            FileTime time = Files.getLastModifiedTime(path);
+            if (!lastModifiedTime.isPresent() || time.compareTo(lastModifiedTime.get()) > 0) {
+                lastModifiedTime = Optional.of(time);
+            }
+        }
+        return lastModifiedTime;
+    }
+
+}
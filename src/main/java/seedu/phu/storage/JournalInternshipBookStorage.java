@@ -0,0 +1,249 @@
+package seedu.phu.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.phu.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.commons.util.FileUtil;
+import seedu.phu.commons.util.JsonUtil;
+import seedu.phu.model.ReadOnlyInternshipBook;
+import seedu.phu.model.internship.Internship;
+
+/**
+ * A class to access InternshipBook data stored as a json snapshot and a journal of the changes made since the
+ * snapshot was written.
+ *
+ * Each save appends one line to the journal describing the internships that changed since the previous save, so it
+ * costs the size of the change rather than the size of the book. Reading loads the snapshot and replays the journal.
+ * Once the journal outgrows both the compaction threshold and the snapshot, the next save writes a fresh snapshot and
+ * deletes the journal. The journal starts with the checksum of the snapshot it applies to, so a journal left behind
+ * by an interrupted compaction is recognised and ignored, as is a last entry cut short by an interrupted append.
+ */
+public class JournalInternshipBookStorage implements InternshipBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalInternshipBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final boolean isCompact;
+    private final long compactionThreshold;
+
+    /** The internships as of the latest save or read, or null if the next save must write a fresh snapshot. */
+    private List<Internship> savedInternships;
+    private long snapshotChecksum;
+    private long snapshotBytes;
+    private long journalBytes;
+
+    public JournalInternshipBookStorage(Path filePath) {
+        this(filePath, false, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compacts the journal once it grows past
+     * {@code compactionThreshold} bytes and the size of the snapshot.
+     *
+     * @param isCompact whether to write snapshots without the line breaks and indentation that make them readable.
+     */
+    public JournalInternshipBookStorage(Path filePath, boolean isCompact, long compactionThreshold) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold >= 0, "Compaction threshold must not be negative.");
+        this.filePath = filePath;
+        this.journalPath = getJournalFilePath(filePath);
+        this.isCompact = isCompact;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getInternshipBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipBook> readInternshipBook() throws DataConversionException, IOException {
+        return readInternshipBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInternshipBook()}.
+     *
+     * @param filePath location of the snapshot, with its journal next to it. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyInternshipBook> readInternshipBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer snapshot = FileUtil.readToBuffer(filePath);
+            long checksum = JsonInternshipBookStorage.checksumOf(snapshot);
+            List<Internship> internships = JsonInternshipBookStorage.readInternships(filePath, snapshot, checksum);
+            boolean isJournalIntact = replayJournal(getJournalFilePath(filePath), checksum, internships);
+            ReadOnlyInternshipBook internshipBook = JsonSerializableInternshipBook.toInternshipBook(internships);
+
+            if (filePath.equals(this.filePath)) {
+                savedInternships = isJournalIntact ? new ArrayList<>(internshipBook.getInternshipList()) : null;
+                snapshotChecksum = checksum;
+                snapshotBytes = Files.size(filePath);
+                journalBytes = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+            }
+            return Optional.of(internshipBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from journaled file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveInternshipBook(ReadOnlyInternshipBook internshipBook) throws IOException {
+        saveInternshipBook(internshipBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInternshipBook(ReadOnlyInternshipBook)}.
+     * Only the file of this storage is journaled; other files are written as a whole.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveInternshipBook(ReadOnlyInternshipBook internshipBook, Path filePath)
+            throws IOException {
+        requireNonNull(internshipBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonInternshipBookStorage.writeInternshipBook(internshipBook, filePath, isCompact);
+            return;
+        }
+
+        List<Internship> internships = internshipBook.getInternshipList();
+        if (savedInternships == null) {
+            compact(internshipBook);
+            return;
+        }
+
+        int start = 0;
+        int savedEnd = savedInternships.size();
+        int end = internships.size();
+        while (start < savedEnd && start < end && savedInternships.get(start) == internships.get(start)) {
+            start++;
+        }
+        while (savedEnd > start && end > start && savedInternships.get(savedEnd - 1) == internships.get(end - 1)) {
+            savedEnd--;
+            end--;
+        }
+        if (start == savedEnd && start == end) {
+            return;
+        }
+
+        String entry = JsonUtil.toJsonLine(JsonAdaptedJournalEntry.of(start, savedEnd - start,
+                internships.subList(start, end))) + "\n";
+        long entryBytes = entry.getBytes(StandardCharsets.UTF_8).length;
+        if (journalBytes + entryBytes > Math.max(compactionThreshold, snapshotBytes)) {
+            compact(internshipBook);
+            return;
+        }
+
+        List<Internship> previouslySaved = savedInternships;
+        // a failed append may leave part of a line behind, so nothing is appended after it
+        savedInternships = null;
+        if (journalBytes == 0) {
+            String header = JsonUtil.toJsonLine(new JsonAdaptedJournalHeader(snapshotChecksum)) + "\n";
+            FileUtil.appendToFile(journalPath, header);
+            journalBytes += header.getBytes(StandardCharsets.UTF_8).length;
+        }
+        FileUtil.appendToFile(journalPath, entry);
+        journalBytes += entryBytes;
+        savedInternships = previouslySaved;
+        savedInternships.subList(start, savedEnd).clear();
+        savedInternships.addAll(start, internships.subList(start, end));
+    }
+
+    /**
+     * Writes {@code internshipBook} as a fresh snapshot and deletes the journal, which the snapshot now includes.
+     */
+    private void compact(ReadOnlyInternshipBook internshipBook) throws IOException {
+        savedInternships = null;
+        snapshotChecksum = JsonInternshipBookStorage.writeInternshipBook(internshipBook, filePath, isCompact);
+        Files.deleteIfExists(journalPath);
+
+        snapshotBytes = Files.size(filePath);
+        journalBytes = 0;
+        savedInternships = new ArrayList<>(internshipBook.getInternshipList());
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalPath} to {@code internships}, if the journal belongs to the
+     * snapshot with {@code checksum}.
+     *
+     * @return false if the journal was left unapplied or its last entry was cut short, so it must not be appended to.
+     * @throws IOException if an entry other than the last one cannot be read.
+     * @throws IllegalValueException if an entry does not fit {@code internships}.
+     */
+    private static boolean replayJournal(Path journalPath, long checksum, List<Internship> internships)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return true;
+        }
+
+        String journal = FileUtil.readFromFile(journalPath);
+        String[] lines = journal.split("\n");
+        JsonAdaptedJournalHeader header;
+        try {
+            header = JsonUtil.fromJsonString(lines[0], JsonAdaptedJournalHeader.class);
+        } catch (IOException e) {
+            logger.warning("Ignoring unreadable journal " + journalPath + ": " + e);
+            return false;
+        }
+        if (header.getBaseChecksum() != checksum) {
+            logger.info("Ignoring journal " + journalPath + " left behind by an earlier snapshot");
+            return false;
+        }
+
+        for (int i = 1; i < lines.length; i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i < lines.length - 1) {
+                    throw e;
+                }
+                logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                return false;
+            }
+            entry.applyTo(internships);
+        }
+        return journal.endsWith("\n");
+    }
+
+}
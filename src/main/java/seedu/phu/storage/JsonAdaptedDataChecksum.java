@@ -0,0 +1,33 @@
+package seedu.phu.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly content of the checksum file kept next to a json data file, recording the checksum of the data
+ * file as it was last written by this app and the format version it was written in.
+ */
+class JsonAdaptedDataChecksum {
+
+    private final int formatVersion;
+    private final long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedDataChecksum} for a data file of the given format version and checksum.
+     */
+    @JsonCreator
+    public JsonAdaptedDataChecksum(@JsonProperty("formatVersion") int formatVersion,
+            @JsonProperty("checksum") long checksum) {
+        this.formatVersion = formatVersion;
+        this.checksum = checksum;
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+}
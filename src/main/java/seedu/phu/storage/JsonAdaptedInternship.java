@@ -1,5 +1,6 @@
 package seedu.phu.storage;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -161,4 +162,23 @@ class JsonAdaptedInternship {
                 modelApplicationProcess, modelDate, modelWebsite, modelTags);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted internship object into the model's {@code Internship} object without
+     * validating its fields. Only for internships read from a data file that this app wrote and that has not been
+     * changed since, whose fields were all validated before they were saved. This is the contract of the
+     * {@code fromTrusted} factories of the fields and tags, which are only meant to be called in this conversion.
+     *
+     * @throws RuntimeException if a field is missing or cannot be read after all.
+     */
+    public Internship toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+
+        return new Internship(Name.fromTrusted(name), Phone.fromTrusted(phone), Email.fromTrusted(email),
+                new Remark(remark), Position.fromTrusted(position), new ApplicationProcess(applicationProcess),
+                new Date(LocalDate.parse(date, Date.DEFAULT_FORMATTER)), Website.fromTrusted(website), modelTags);
+    }
+
 }
@@ -0,0 +1,68 @@
+package seedu.phu.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.model.internship.Internship;
+
+/**
+ * Jackson-friendly version of one change to the internship list: {@code removedCount} internships starting at
+ * {@code index} were replaced by the {@code added} internships.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal entry at index %d removing %d internship(s) "
+            + "does not fit a list of %d internship(s).";
+
+    private final int index;
+    private final int removedCount;
+    private final List<JsonAdaptedInternship> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("index") int index, @JsonProperty("removedCount") int removedCount,
+            @JsonProperty("added") List<JsonAdaptedInternship> added) {
+        this.index = index;
+        this.removedCount = removedCount;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given change into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry of(int index, int removedCount, List<Internship> added) {
+        return new JsonAdaptedJournalEntry(index, removedCount,
+                added.stream().map(JsonAdaptedInternship::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies this change to {@code internships}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code internships}, or an added internship
+     *     violates its data constraints.
+     */
+    public void applyTo(List<Internship> internships) throws IllegalValueException {
+        if (index < 0 || removedCount < 0 || index + removedCount > internships.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_RANGE, index, removedCount,
+                    internships.size()));
+        }
+
+        List<Internship> modelInternships = new ArrayList<>(added.size());
+        for (JsonAdaptedInternship jsonAdaptedInternship : added) {
+            modelInternships.add(jsonAdaptedInternship.toModelType());
+        }
+        List<Internship> changedRange = internships.subList(index, index + removedCount);
+        changedRange.clear();
+        changedRange.addAll(modelInternships);
+    }
+
+}
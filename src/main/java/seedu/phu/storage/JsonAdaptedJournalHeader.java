@@ -0,0 +1,25 @@
+package seedu.phu.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly first line of a journal, naming the snapshot that the journal's entries apply to.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final long baseChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for a snapshot with the given checksum.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("baseChecksum") long baseChecksum) {
+        this.baseChecksum = baseChecksum;
+    }
+
+    public long getBaseChecksum() {
+        return baseChecksum;
+    }
+
+}
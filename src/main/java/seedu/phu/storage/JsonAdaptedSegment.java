@@ -0,0 +1,31 @@
+package seedu.phu.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly entry of a segment manifest, naming one segment file and the checksum it was written with.
+ */
+class JsonAdaptedSegment {
+
+    private final String file;
+    private final long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegment} for the segment file {@code file} written with {@code checksum}.
+     */
+    @JsonCreator
+    public JsonAdaptedSegment(@JsonProperty("file") String file, @JsonProperty("checksum") long checksum) {
+        this.file = file;
+        this.checksum = checksum;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.phu.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a segmented internship book, listing its segment files in the order of their
+ * internships.
+ */
+class JsonAdaptedSegmentManifest {
+
+    private final int formatVersion;
+    private final long nextSegmentId;
+    private final List<JsonAdaptedSegment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("formatVersion") int formatVersion,
+            @JsonProperty("nextSegmentId") long nextSegmentId,
+            @JsonProperty("segments") List<JsonAdaptedSegment> segments) {
+        this.formatVersion = formatVersion;
+        this.nextSegmentId = nextSegmentId;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public long getNextSegmentId() {
+        return nextSegmentId;
+    }
+
+    public List<JsonAdaptedSegment> getSegments() {
+        return segments;
+    }
+
+}
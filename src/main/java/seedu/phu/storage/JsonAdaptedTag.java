@@ -45,4 +45,12 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object without validating it.
+     * Only safe where {@link JsonAdaptedInternship#toTrustedModelType()} is.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.fromTrusted(tagName);
+    }
+
 }
@@ -3,9 +3,16 @@ package seedu.phu.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 import seedu.phu.commons.core.LogsCenter;
 import seedu.phu.commons.exceptions.DataConversionException;
@@ -13,18 +20,45 @@ import seedu.phu.commons.exceptions.IllegalValueException;
 import seedu.phu.commons.util.FileUtil;
 import seedu.phu.commons.util.JsonUtil;
 import seedu.phu.model.ReadOnlyInternshipBook;
+import seedu.phu.model.internship.Internship;
 
 /**
  * A class to access InternshipBook data stored as a json file on the hard disk.
+ * The file is written one internship at a time, so that it is never held in memory as a whole, and parsed straight
+ * from its memory-mapped content.
+ *
+ * Every save also records the checksum and format version of the file in a checksum file next to it. A file whose
+ * content still matches that record was written by this app and not changed since, so it is read without validating
+ * its fields again. Any other file, such as one edited by hand, is validated in full.
  */
 public class JsonInternshipBookStorage implements InternshipBookStorage {
 
+    public static final String CHECKSUM_FILE_SUFFIX = ".checksum";
+
     private static final Logger logger = LogsCenter.getLogger(JsonInternshipBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonInternshipBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath}.
+     *
+     * @param isCompact whether to write the file without the line breaks and indentation that make it readable.
+     */
+    public JsonInternshipBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns the path of the checksum file kept next to the data file at {@code filePath}.
+     */
+    public static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_FILE_SUFFIX);
     }
 
     public Path getInternshipBookFilePath() {
@@ -32,7 +66,7 @@ public class JsonInternshipBookStorage implements InternshipBookStorage {
     }
 
     @Override
-    public Optional<ReadOnlyInternshipBook> readInternshipBook() throws DataConversionException {
+    public Optional<ReadOnlyInternshipBook> readInternshipBook() throws DataConversionException, IOException {
         return readInternshipBook(filePath);
     }
 
@@ -42,23 +76,121 @@ public class JsonInternshipBookStorage implements InternshipBookStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyInternshipBook> readInternshipBook(Path filePath) throws DataConversionException {
+    public Optional<ReadOnlyInternshipBook> readInternshipBook(Path filePath)
+            throws DataConversionException, IOException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableInternshipBook> jsonInternshipBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableInternshipBook.class);
-        if (!jsonInternshipBook.isPresent()) {
+        if (Files.exists(JournalInternshipBookStorage.getJournalFilePath(filePath))) {
+            logger.info("Replaying the journal kept next to " + filePath);
+            return new JournalInternshipBookStorage(filePath).readInternshipBook();
+        }
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonInternshipBook.get().toModelType());
+            ByteBuffer content = FileUtil.readToBuffer(filePath);
+            return Optional.of(JsonSerializableInternshipBook.toInternshipBook(
+                    readInternships(filePath, content, checksumOf(content))));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Returns the internships held in {@code content}, the content of the json data file at {@code filePath}, without
+     * checking them for duplicates. Their fields are only validated if {@code checksum} does not match the checksum
+     * recorded when the file was written.
+     *
+     * @throws IOException if {@code content} does not hold an internship book in json.
+     * @throws IllegalValueException naming the first internship that violates its data constraints.
+     */
+    static List<Internship> readInternships(Path filePath, ByteBuffer content, long checksum)
+            throws IOException, IllegalValueException {
+        return readInternships(filePath, content, hasRecordedChecksum(filePath, checksum));
+    }
+
+    /**
+     * Returns the internships held in {@code content}, the content of the json data file at {@code filePath}, without
+     * checking them for duplicates. Their fields are only validated if the file is not {@code isTrusted} to be
+     * unchanged since this app wrote it, or if it cannot be read without validation after all.
+     *
+     * @throws IOException if {@code content} does not hold an internship book in json.
+     * @throws IllegalValueException naming the first internship that violates its data constraints.
+     */
+    static List<Internship> readInternships(Path filePath, ByteBuffer content, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        if (isTrusted) {
+            try {
+                return JsonSerializableInternshipBook.readInternships(
+                        new ByteBufferBackedInputStream(content.duplicate()), true);
+            } catch (IllegalValueException | RuntimeException e) {
+                logger.warning("Validating " + filePath + " in full, as it could not be read as written: " + e);
+            }
+        }
+        return JsonSerializableInternshipBook.readInternships(new ByteBufferBackedInputStream(content.duplicate()));
+    }
+
+    /**
+     * Returns the CRC32 checksum of {@code content}, whose position is left unchanged.
+     */
+    static long checksumOf(ByteBuffer content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.duplicate());
+        return crc.getValue();
+    }
+
+    /**
+     * Writes {@code internshipBook} to the json data file at {@code filePath}, followed by its checksum file.
+     *
+     * @return the checksum of the written data file.
+     */
+    static long writeInternshipBook(ReadOnlyInternshipBook internshipBook, Path filePath, boolean isCompact)
+            throws IOException {
+        long checksum = writeInternships(internshipBook.getInternshipList(), filePath, isCompact);
+        FileUtil.writeToFileAtomically(getChecksumFilePath(filePath), JsonUtil.toJsonString(
+                new JsonAdaptedDataChecksum(JsonSerializableInternshipBook.FORMAT_VERSION, checksum)));
+        return checksum;
+    }
+
+    /**
+     * Writes {@code internships} to a json data file at {@code filePath}, without a checksum file.
+     *
+     * @return the checksum of the written data file.
+     */
+    static long writeInternships(List<Internship> internships, Path filePath, boolean isCompact) throws IOException {
+        CRC32 crc = new CRC32();
+        FileUtil.writeToFileAtomically(filePath, out -> JsonSerializableInternshipBook.writeInternships(
+                internships, new CheckedOutputStream(out, crc), isCompact));
+        return crc.getValue();
+    }
+
+    /**
+     * Returns true if the checksum file next to {@code filePath} records {@code checksum} in the current format.
+     */
+    private static boolean hasRecordedChecksum(Path filePath, long checksum) {
+        Path checksumPath = getChecksumFilePath(filePath);
+        if (!Files.exists(checksumPath)) {
+            return false;
+        }
+
+        try {
+            JsonAdaptedDataChecksum recorded = JsonUtil.fromJsonString(FileUtil.readFromFile(checksumPath),
+                    JsonAdaptedDataChecksum.class);
+            return recorded.getFormatVersion() == JsonSerializableInternshipBook.FORMAT_VERSION
+                    && recorded.getChecksum() == checksum;
+        } catch (IOException e) {
+            logger.warning("Ignoring unreadable checksum file " + checksumPath + ": " + e);
+            return false;
+        }
+    }
+
     @Override
     public void saveInternshipBook(ReadOnlyInternshipBook internshipBook) throws IOException {
         saveInternshipBook(internshipBook, filePath);
@@ -73,8 +205,8 @@ public class JsonInternshipBookStorage implements InternshipBookStorage {
         requireNonNull(internshipBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableInternshipBook(internshipBook), filePath);
+        writeInternshipBook(internshipBook, filePath, isCompact);
+        Files.deleteIfExists(JournalInternshipBookStorage.getJournalFilePath(filePath));
     }
 
 }
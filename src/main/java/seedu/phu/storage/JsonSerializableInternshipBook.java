@@ -1,5 +1,8 @@
 package seedu.phu.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,11 +10,17 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.commons.util.JsonUtil;
 import seedu.phu.model.InternshipBook;
 import seedu.phu.model.ReadOnlyInternshipBook;
 import seedu.phu.model.internship.Internship;
+import seedu.phu.model.internship.exceptions.DuplicateInternshipException;
 
 /**
  * An Immutable InternshipBook that is serializable to JSON format.
@@ -20,6 +29,16 @@ import seedu.phu.model.internship.Internship;
 class JsonSerializableInternshipBook {
 
     public static final String MESSAGE_DUPLICATE_INTERNSHIP = "Internships list contains duplicate internship(s).";
+    public static final String MESSAGE_DUPLICATE_POSITIONS = " Duplicates found: ";
+    public static final String MESSAGE_NOT_INTERNSHIP_BOOK = "Expected an internship book object.";
+
+    /**
+     * The version of the layout of this class and of the constraints its internships were validated against when
+     * they were saved. Must be increased whenever either changes, so that files written before are validated again.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String INTERNSHIPS_FIELD = "internships";
 
     private final List<JsonAdaptedInternship> internships = new ArrayList<>();
 
@@ -27,7 +46,7 @@ class JsonSerializableInternshipBook {
      * Constructs a {@code JsonSerializableInternshipBook} with the given internships.
      */
     @JsonCreator
-    public JsonSerializableInternshipBook(@JsonProperty("internships") List<JsonAdaptedInternship> internships) {
+    public JsonSerializableInternshipBook(@JsonProperty(INTERNSHIPS_FIELD) List<JsonAdaptedInternship> internships) {
         this.internships.addAll(internships);
     }
 
@@ -47,13 +66,104 @@ class JsonSerializableInternshipBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public InternshipBook toModelType() throws IllegalValueException {
-        InternshipBook internshipBook = new InternshipBook();
+        return toInternshipBook(toModelInternships());
+    }
+
+    /**
+     * Converts the internships of this internship book into the model's {@code Internship} objects, in order,
+     * without checking them for duplicates. Large books are converted in parallel.
+     *
+     * @throws IllegalValueException naming the first internship that violates its data constraints.
+     */
+    List<Internship> toModelInternships() throws IllegalValueException {
+        ChunkedInternshipConverter converter = new ChunkedInternshipConverter(false);
         for (JsonAdaptedInternship jsonAdaptedInternship : internships) {
-            Internship internship = jsonAdaptedInternship.toModelType();
-            if (internshipBook.hasInternship(internship)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_INTERNSHIP);
+            converter.add(jsonAdaptedInternship);
+        }
+        return converter.finish();
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the same layout as this class, one internship at a time, so that only
+     * one internship is held in its Jackson-friendly form at any time. Closes {@code out}.
+     *
+     * @param isCompact whether to leave out the line breaks and indentation that make the file readable.
+     */
+    static void writeInternshipBook(ReadOnlyInternshipBook source, OutputStream out, boolean isCompact)
+            throws IOException {
+        writeInternships(source.getInternshipList(), out, isCompact);
+    }
+
+    /**
+     * Similar to {@link #writeInternshipBook(ReadOnlyInternshipBook, OutputStream, boolean)}, but writes
+     * {@code internships}, which may be part of a book.
+     */
+    static void writeInternships(List<Internship> internships, OutputStream out, boolean isCompact)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(INTERNSHIPS_FIELD);
+            for (Internship internship : internships) {
+                generator.writeObject(new JsonAdaptedInternship(internship));
             }
-            internshipBook.addInternship(internship);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads the internships of an internship book written in the layout of this class from {@code in}, converting
+     * them into the model's {@code Internship} in parallel chunks while the rest of the file is read, without checking
+     * them for duplicates. Does not close {@code in}.
+     *
+     * @throws IOException if {@code in} does not hold an internship book in the layout of this class.
+     * @throws IllegalValueException naming the first internship that violates its data constraints.
+     */
+    static List<Internship> readInternships(InputStream in) throws IOException, IllegalValueException {
+        return readInternships(in, false);
+    }
+
+    /**
+     * Similar to {@link #readInternships(InputStream)}, but skips validating the fields of each internship if
+     * {@code isTrusted}, for a file that this app wrote and that has not been changed since.
+     *
+     * @throws RuntimeException if {@code isTrusted} and an internship turns out not to be readable without validation.
+     */
+    static List<Internship> readInternships(InputStream in, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        ChunkedInternshipConverter converter = new ChunkedInternshipConverter(isTrusted);
+        JsonParser parser = JsonUtil.createParser(in);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_INTERNSHIP_BOOK);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean isInternshipsField = INTERNSHIPS_FIELD.equals(parser.getCurrentName());
+            if (parser.nextToken() == JsonToken.START_ARRAY && isInternshipsField) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    converter.add(parser.readValueAs(JsonAdaptedInternship.class));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_INTERNSHIP_BOOK);
+        }
+        return converter.finish();
+    }
+
+    /**
+     * Returns an {@code InternshipBook} holding {@code modelInternships}.
+     *
+     * @throws IllegalValueException if {@code modelInternships} contains duplicate internships.
+     */
+    static InternshipBook toInternshipBook(List<Internship> modelInternships) throws IllegalValueException {
+        InternshipBook internshipBook = new InternshipBook();
+        try {
+            internshipBook.setInternships(modelInternships);
+        } catch (DuplicateInternshipException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_INTERNSHIP + MESSAGE_DUPLICATE_POSITIONS
+                    + DuplicateInternshipException.describe(e.getDuplicatePositions()));
         }
         return internshipBook;
     }
@@ -3,17 +3,22 @@ package seedu.phu.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.phu.commons.core.LogsCenter;
 import seedu.phu.commons.exceptions.DataConversionException;
 import seedu.phu.commons.util.JsonUtil;
 import seedu.phu.model.ReadOnlyUserPrefs;
 import seedu.phu.model.UserPrefs;
+import seedu.phu.model.VersionedInternshipBook;
 
 /**
  * A class to access UserPrefs stored in the hard disk as a json file
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -32,11 +37,17 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * A negative undo limit is replaced with the default one, as the file is read without the checks of the setters.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        if (userPrefs.isPresent() && userPrefs.get().getUndoLimit() < 0) {
+            logger.warning("Undo limit in " + prefsFilePath + " is negative. Using the default undo limit");
+            userPrefs.get().setUndoLimit(VersionedInternshipBook.DEFAULT_UNDO_LIMIT);
+        }
+        return userPrefs;
     }
 
     @Override
@@ -0,0 +1,405 @@
+package seedu.phu.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.phu.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.phu.commons.core.LogsCenter;
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.commons.util.FileUtil;
+import seedu.phu.commons.util.JsonUtil;
+import seedu.phu.model.ReadOnlyInternshipBook;
+import seedu.phu.model.internship.Internship;
+
+/**
+ * A class to access InternshipBook data stored as a directory of json segment files, each holding a run of
+ * consecutive internships, and a manifest listing the segments in order.
+ *
+ * A save only rewrites the segments whose internships changed since the previous save or read, found by comparing
+ * the internships by reference, and splits the changed internships into segments of at most {@link #SEGMENT_SIZE}.
+ * Changed segments are written to new files before the manifest is replaced, so the manifest always lists a complete
+ * set of segments, and the files it no longer lists are deleted afterwards. Segments are read in parallel, and a
+ * segment whose checksum still matches the manifest is not validated again.
+ */
+public class SegmentedInternshipBookStorage implements InternshipBookStorage {
+
+    public static final int SEGMENT_SIZE = 1024;
+    public static final String DIRECTORY_EXTENSION = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    public static final String MESSAGE_INVALID_SEGMENT_FILE = "Segment manifest names an invalid segment file: %s";
+    public static final String MESSAGE_INVALID_SEGMENT = "Segment %s: %s";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String SEGMENT_FILE_FORMAT = "segment-%d.json";
+    /** Matches the names {@link #SEGMENT_FILE_FORMAT} gives, with ids short enough to always fit in a long. */
+    private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-(0|[1-9]\\d{0,17})\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedInternshipBookStorage.class);
+
+    private final Path directoryPath;
+    private final boolean isCompact;
+    private final int segmentSize;
+
+    /** The segments as of the latest save or read, or null if the next save must write every segment afresh. */
+    private List<Segment> savedSegments;
+    private long nextSegmentId;
+
+    public SegmentedInternshipBookStorage(Path directoryPath) {
+        this(directoryPath, false, SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a storage for the segment directory at {@code directoryPath} that splits changed internships into
+     * segments of at most {@code segmentSize}.
+     *
+     * @param isCompact whether to write segments without the line breaks and indentation that make them readable.
+     */
+    public SegmentedInternshipBookStorage(Path directoryPath, boolean isCompact, int segmentSize) {
+        requireNonNull(directoryPath);
+        checkArgument(segmentSize > 0, "Segment size must be positive.");
+        this.directoryPath = directoryPath;
+        this.isCompact = isCompact;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the path of the segment directory kept in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getSegmentDirectoryPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + DIRECTORY_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the manifest of the segment directory at {@code directoryPath}.
+     */
+    public static Path getManifestFilePath(Path directoryPath) {
+        return directoryPath.resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getInternshipBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipBook> readInternshipBook() throws DataConversionException, IOException {
+        return readInternshipBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readInternshipBook()}.
+     *
+     * @param directoryPath location of the segment directory. Cannot be null.
+     * @throws DataConversionException if the manifest or a segment is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyInternshipBook> readInternshipBook(Path directoryPath)
+            throws DataConversionException, IOException {
+        requireNonNull(directoryPath);
+
+        Path manifestPath = getManifestFilePath(directoryPath);
+        if (!Files.exists(manifestPath)) {
+            logger.info("Segment manifest " + manifestPath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            JsonAdaptedSegmentManifest manifest = JsonUtil.fromJsonString(FileUtil.readFromFile(manifestPath),
+                    JsonAdaptedSegmentManifest.class);
+            List<Segment> segments = readSegments(directoryPath, manifest);
+            List<Internship> internships = new ArrayList<>();
+            segments.forEach(segment -> internships.addAll(segment.internships));
+            ReadOnlyInternshipBook internshipBook = JsonSerializableInternshipBook.toInternshipBook(internships);
+
+            if (directoryPath.equals(this.directoryPath)) {
+                savedSegments = segments;
+                nextSegmentId = manifest.getNextSegmentId();
+                for (Segment segment : segments) {
+                    nextSegmentId = Math.max(nextSegmentId, segment.id + 1);
+                }
+            }
+            return Optional.of(internshipBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from segment directory " + directoryPath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveInternshipBook(ReadOnlyInternshipBook internshipBook) throws IOException {
+        saveInternshipBook(internshipBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveInternshipBook(ReadOnlyInternshipBook)}.
+     * Only changed segments are rewritten in the directory of this storage; other directories are written as a whole.
+     *
+     * @param directoryPath location of the segment directory. Cannot be null.
+     */
+    @Override
+    public synchronized void saveInternshipBook(ReadOnlyInternshipBook internshipBook, Path directoryPath)
+            throws IOException {
+        requireNonNull(internshipBook);
+        requireNonNull(directoryPath);
+
+        List<Internship> internships = internshipBook.getInternshipList();
+        if (!directoryPath.equals(this.directoryPath)) {
+            writeSegments(directoryPath, Collections.emptyList(), internships, firstUnusedSegmentId(directoryPath));
+            return;
+        }
+
+        List<Segment> previouslySaved = savedSegments;
+        if (previouslySaved == null) {
+            previouslySaved = Collections.emptyList();
+            nextSegmentId = firstUnusedSegmentId(directoryPath);
+        }
+        // a failed write may leave the manifest and the segments out of step, so the next save starts afresh
+        savedSegments = null;
+        List<Segment> segments = writeSegments(directoryPath, previouslySaved, internships, nextSegmentId);
+        for (Segment segment : segments) {
+            nextSegmentId = Math.max(nextSegmentId, segment.id + 1);
+        }
+        savedSegments = segments;
+    }
+
+    /**
+     * Brings the segment directory at {@code directoryPath}, which holds {@code saved}, up to date with
+     * {@code internships} by writing new segments for the changed ones, then the manifest.
+     *
+     * @return the segments now listed in the manifest.
+     */
+    private List<Segment> writeSegments(Path directoryPath, List<Segment> saved, List<Internship> internships,
+            long firstNewSegmentId) throws IOException {
+        List<Internship> savedInternships = new ArrayList<>();
+        saved.forEach(segment -> savedInternships.addAll(segment.internships));
+
+        int start = 0;
+        int savedEnd = savedInternships.size();
+        int end = internships.size();
+        while (start < savedEnd && start < end && savedInternships.get(start) == internships.get(start)) {
+            start++;
+        }
+        while (savedEnd > start && end > start && savedInternships.get(savedEnd - 1) == internships.get(end - 1)) {
+            savedEnd--;
+            end--;
+        }
+        if (start == savedEnd && start == end && Files.exists(getManifestFilePath(directoryPath))) {
+            return saved;
+        }
+
+        // the saved segments from firstReplaced (inclusive) to lastReplaced (exclusive) are replaced
+        int firstReplaced = 0;
+        int replacedStart = 0;
+        while (firstReplaced < saved.size() && replacedStart + saved.get(firstReplaced).size() <= start) {
+            replacedStart += saved.get(firstReplaced).size();
+            firstReplaced++;
+        }
+        int lastReplaced = firstReplaced;
+        int replacedEnd = replacedStart;
+        if (start == savedEnd && start == replacedStart) {
+            // internships inserted between two segments fill up the segment before them, if it has room
+            if (firstReplaced > 0 && saved.get(firstReplaced - 1).size() < segmentSize) {
+                firstReplaced--;
+                replacedStart -= saved.get(firstReplaced).size();
+            }
+        } else {
+            do {
+                replacedEnd += saved.get(lastReplaced).size();
+                lastReplaced++;
+            } while (replacedEnd < savedEnd);
+        }
+        List<Internship> replacement = internships.subList(replacedStart, replacedEnd + end - savedEnd);
+
+        List<Segment> segments = new ArrayList<>(saved.subList(0, firstReplaced));
+        long segmentId = firstNewSegmentId;
+        for (int i = 0; i < replacement.size(); i += segmentSize) {
+            List<Internship> segmentInternships = new ArrayList<>(
+                    replacement.subList(i, Math.min(i + segmentSize, replacement.size())));
+            Path segmentPath = directoryPath.resolve(String.format(SEGMENT_FILE_FORMAT, segmentId));
+            long checksum = JsonInternshipBookStorage.writeInternships(segmentInternships, segmentPath, isCompact);
+            segments.add(new Segment(segmentId, segmentInternships, checksum));
+            segmentId++;
+        }
+        segments.addAll(saved.subList(lastReplaced, saved.size()));
+
+        List<JsonAdaptedSegment> manifestSegments = segments.stream()
+                .map(segment -> new JsonAdaptedSegment(segment.getFileName(), segment.checksum))
+                .collect(Collectors.toList());
+        FileUtil.writeToFileAtomically(getManifestFilePath(directoryPath), JsonUtil.toJsonString(
+                new JsonAdaptedSegmentManifest(JsonSerializableInternshipBook.FORMAT_VERSION, segmentId,
+                        manifestSegments)));
+        deleteUnlistedSegments(directoryPath, segments);
+        return segments;
+    }
+
+    /**
+     * Reads the segments listed in {@code manifest} from the segment directory at {@code directoryPath} in parallel.
+     *
+     * @throws IllegalValueException naming the first segment, in manifest order, that cannot be converted.
+     */
+    private static List<Segment> readSegments(Path directoryPath, JsonAdaptedSegmentManifest manifest)
+            throws IOException, IllegalValueException {
+        boolean isCurrentFormat = manifest.getFormatVersion() == JsonSerializableInternshipBook.FORMAT_VERSION;
+        List<SegmentReadTask> tasks = new ArrayList<>();
+        for (JsonAdaptedSegment adaptedSegment : manifest.getSegments()) {
+            SegmentReadTask task = new SegmentReadTask(directoryPath, adaptedSegment, isCurrentFormat);
+            tasks.add(task);
+            ForkJoinPool.commonPool().execute(task);
+        }
+
+        List<Segment> segments = new ArrayList<>(tasks.size());
+        try {
+            for (SegmentReadTask task : tasks) {
+                Segment segment = task.join();
+                if (task.ioFailure != null) {
+                    throw task.ioFailure;
+                } else if (task.valueFailure != null) {
+                    throw task.valueFailure;
+                }
+                segments.add(segment);
+            }
+        } finally {
+            tasks.forEach(task -> task.cancel(false));
+        }
+        return segments;
+    }
+
+    private static Segment readSegment(Path directoryPath, JsonAdaptedSegment adaptedSegment, boolean isCurrentFormat)
+            throws IOException, IllegalValueException {
+        String fileName = adaptedSegment.getFile();
+        Matcher matcher = SEGMENT_FILE_PATTERN.matcher(fileName == null ? "" : fileName);
+        if (!matcher.matches()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT_FILE, fileName));
+        }
+
+        Path segmentPath = directoryPath.resolve(fileName);
+        ByteBuffer content = FileUtil.readToBuffer(segmentPath);
+        long checksum = JsonInternshipBookStorage.checksumOf(content);
+        boolean isTrusted = isCurrentFormat && checksum == adaptedSegment.getChecksum();
+        try {
+            List<Internship> internships = JsonInternshipBookStorage.readInternships(segmentPath, content, isTrusted);
+            return new Segment(Long.parseLong(matcher.group(1)), internships, checksum);
+        } catch (IllegalValueException ive) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT, fileName, ive.getMessage()), ive);
+        }
+    }
+
+    /**
+     * Deletes the segment files in {@code directoryPath} that are not among {@code segments}.
+     */
+    private static void deleteUnlistedSegments(Path directoryPath, List<Segment> segments) throws IOException {
+        Set<String> listedFileNames = new HashSet<>();
+        segments.forEach(segment -> listedFileNames.add(segment.getFileName()));
+        for (Path path : listSegmentFiles(directoryPath)) {
+            if (!listedFileNames.contains(path.getFileName().toString())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Returns an id greater than that of every segment file in {@code directoryPath}.
+     */
+    private static long firstUnusedSegmentId(Path directoryPath) throws IOException {
+        long firstUnusedId = 0;
+        for (Path path : listSegmentFiles(directoryPath)) {
+            Matcher matcher = SEGMENT_FILE_PATTERN.matcher(path.getFileName().toString());
+            matcher.matches();
+            firstUnusedId = Math.max(firstUnusedId, Long.parseLong(matcher.group(1)) + 1);
+        }
+        return firstUnusedId;
+    }
+
+    private static List<Path> listSegmentFiles(Path directoryPath) throws IOException {
+        if (!Files.isDirectory(directoryPath)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.list(directoryPath)) {
+            return paths.filter(path -> SEGMENT_FILE_PATTERN.matcher(path.getFileName().toString()).matches())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Reads one segment file. The failure is kept rather than thrown, since {@code RecursiveTask} cannot throw
+     * checked exceptions, and an unchecked failure is kept as the segment being invalid, so that {@code join()} never
+     * throws.
+     */
+    private static class SegmentReadTask extends RecursiveTask<Segment> {
+        private final Path directoryPath;
+        private final JsonAdaptedSegment adaptedSegment;
+        private final boolean isCurrentFormat;
+        private IOException ioFailure;
+        private IllegalValueException valueFailure;
+
+        SegmentReadTask(Path directoryPath, JsonAdaptedSegment adaptedSegment, boolean isCurrentFormat) {
+            this.directoryPath = directoryPath;
+            this.adaptedSegment = adaptedSegment;
+            this.isCurrentFormat = isCurrentFormat;
+        }
+
+        @Override
+        protected Segment compute() {
+            try {
+                return readSegment(directoryPath, adaptedSegment, isCurrentFormat);
+            } catch (IOException e) {
+                ioFailure = e;
+            } catch (IllegalValueException ive) {
+                valueFailure = ive;
+            } catch (RuntimeException e) {
+                valueFailure = new IllegalValueException(
+                        String.format(MESSAGE_INVALID_SEGMENT, adaptedSegment.getFile(), e), e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A segment file and the internships it holds, as of the latest save or read.
+     */
+    private static class Segment {
+        private final long id;
+        private final List<Internship> internships;
+        private final long checksum;
+
+        Segment(long id, List<Internship> internships, long checksum) {
+            this.id = id;
+            this.internships = internships;
+            this.checksum = checksum;
+        }
+
+        String getFileName() {
+            return String.format(SEGMENT_FILE_FORMAT, id);
+        }
+
+        int size() {
+            return internships.size();
+        }
+    }
+}
@@ -29,4 +29,24 @@ public interface Storage extends InternshipBookStorage, UserPrefsStorage {
     @Override
     void saveInternshipBook(ReadOnlyInternshipBook internshipBook) throws IOException;
 
+    /**
+     * Returns the file path of the archived internships.
+     */
+    Path getArchiveFilePath();
+
+    /**
+     * Returns the archived internships, or {@code Optional.empty()} if nothing has been archived yet.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<ReadOnlyInternshipBook> readArchive() throws DataConversionException, IOException;
+
+    /**
+     * Saves the given archived internships to the storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveArchive(ReadOnlyInternshipBook archive) throws IOException;
+
 }
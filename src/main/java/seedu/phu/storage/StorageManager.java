@@ -16,16 +16,45 @@ import seedu.phu.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    public static final String ARCHIVE_FILE_INFIX = ".archive";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private InternshipBookStorage internshipBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private InternshipBookStorage archiveStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code InternshipBookStorage} and {@code UserPrefStorage}.
+     * Archived internships are kept in a json file next to the internship book.
      */
     public StorageManager(InternshipBookStorage internshipBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(internshipBookStorage, userPrefsStorage, new JsonInternshipBookStorage(
+                getArchiveFilePath(internshipBookStorage.getInternshipBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code InternshipBookStorage} and {@code UserPrefStorage},
+     * keeping archived internships in {@code archiveStorage}.
+     */
+    public StorageManager(InternshipBookStorage internshipBookStorage, UserPrefsStorage userPrefsStorage,
+            InternshipBookStorage archiveStorage) {
         this.internshipBookStorage = internshipBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.archiveStorage = archiveStorage;
+    }
+
+    /**
+     * Returns the path of the archive kept next to the internship book at {@code internshipBookFilePath}, e.g.
+     * {@code data/internshipbook.archive.json} for {@code data/internshipbook.json}.
+     */
+    public static Path getArchiveFilePath(Path internshipBookFilePath) {
+        String fileName = internshipBookFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        if (extensionStart <= 0) {
+            return internshipBookFilePath.resolveSibling(fileName + ARCHIVE_FILE_INFIX);
+        }
+        return internshipBookFilePath.resolveSibling(fileName.substring(0, extensionStart) + ARCHIVE_FILE_INFIX
+                + fileName.substring(extensionStart));
     }
 
     // ================ UserPrefs methods ==============================
@@ -76,4 +105,23 @@ public class StorageManager implements Storage {
         internshipBookStorage.saveInternshipBook(internshipBook, filePath);
     }
 
+    // ================ Archive methods ==============================
+
+    @Override
+    public Path getArchiveFilePath() {
+        return archiveStorage.getInternshipBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyInternshipBook> readArchive() throws DataConversionException, IOException {
+        logger.fine("Attempting to read archive from file: " + getArchiveFilePath());
+        return archiveStorage.readInternshipBook();
+    }
+
+    @Override
+    public void saveArchive(ReadOnlyInternshipBook archive) throws IOException {
+        logger.fine("Attempting to write to archive file: " + getArchiveFilePath());
+        archiveStorage.saveInternshipBook(archive);
+    }
+
 }
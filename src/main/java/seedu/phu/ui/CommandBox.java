@@ -2,6 +2,7 @@ package seedu.phu.ui;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -10,19 +11,21 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.phu.logic.commands.CommandResult;
-import seedu.phu.logic.commands.exceptions.CommandException;
-import seedu.phu.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands run in the background, so the user can keep typing while they do; the command box is styled as busy
+ * until every command entered has finished.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
     private final History inputHistory;
+    private int runningCommandCount = 0;
 
     @FXML
     private TextField commandTextField;
@@ -48,12 +51,32 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            inputHistory.addInput(commandText);
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        inputHistory.addInput(commandText);
+        setRunningCommandCount(runningCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((result, failure) -> {
+            setRunningCommandCount(runningCommandCount - 1);
+            if (!commandTextField.getText().equals(commandText)) {
+                // the user has started on another command since
+                return;
+            }
+            if (failure == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Styles the command box as busy while any command entered is still running.
+     */
+    private void setRunningCommandCount(int count) {
+        runningCommandCount = count;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (count == 0) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
@@ -131,11 +154,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which must be completed on the JavaFX application
+         * thread. The result is completed exceptionally if the command fails.
          *
-         * @see seedu.phu.logic.Logic#execute(String)
+         * @see seedu.phu.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
     /**
@@ -10,6 +10,7 @@ import javafx.scene.input.ClipboardContent;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
+import seedu.phu.commons.core.HelpText;
 import seedu.phu.commons.core.LogsCenter;
 
 /**
@@ -17,46 +18,6 @@ import seedu.phu.commons.core.LogsCenter;
  */
 public class HelpWindow extends UiPart<Stage> {
 
-    public static final String WELCOME_MESSAGE = "Welcome to PleaseHireUs!\n";
-    public static final String USERGUIDE_URL = "https://ay2223s1-cs2103t-w17-4.github.io/tp/UserGuide.html";
-    public static final String USER_GUIDE_MESSAGE = "For more details refer to the user guide: " + USERGUIDE_URL;
-    public static final String COMMAND_SUMMARY_INTRO =
-            "Refer to the following table for a quick guide on how to use this app.";
-
-    public static final String COMMAND_SUMMARY =
-            "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Action                  | Undo | Format                                                            |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Add an internship       |  √   | add n/COMPANY_NAME p/POSITION [pr/APPLICATION_PROCESS] [d/DATE]   |\n"
-            + "|                         |      | [ph/PHONE] [e/EMAIL] [web/WEBSITE] [r/REMARK] [t/TAG]…            |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Clear all entries       |  √   | clear                                                             |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Delete an internship    |  √   | delete INDEX...                                                   |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| View internship details |  x   | view INDEX                                                        |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Edit internship details |  √   | edit INDEX [n/COMPANY_NAME] [p/POSITION] [pr/APPLICATION_PROCESS] |\n"
-            + "|                         |      | [d/DATE] [ph/PHONE] [e/EMAIL] [r/REMARK] [web/WEBSITE] [t/TAG]... |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Find internship(s)      |  x   | find [c/CATEGORY] KEYWORDS...                                     |\n"
-            + "| containing keyword(s)   |      |                                                                   |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| List all internship(s)  |  x   | list [c/CATEGORY [DESCENDING]]                                    |\n"
-            + "| in specified order      |      |                                                                   |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Copy internship details |  x   | copy INDEX                                                        |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Undo previous command   |  x   | undo                                                              |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Redo previous           |  √   | redo                                                              |\n"
-            + "| undone command          |      |                                                                   |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| Exit the program        |  x   | exit                                                              |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+\n"
-            + "| List available commands |  x   | help                                                              |\n"
-            + "| and link to User Guide  |      |                                                                   |\n"
-            + "+-------------------------+------+-------------------------------------------------------------------+";
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
     private static final String FXML = "HelpWindow.fxml";
 
@@ -81,10 +42,10 @@ public class HelpWindow extends UiPart<Stage> {
      */
     public HelpWindow(Stage root) {
         super(FXML, root);
-        welcomeMessage.setText(WELCOME_MESSAGE);
-        commandSummaryIntro.setText(COMMAND_SUMMARY_INTRO);
-        userGuideMessage.setText(USER_GUIDE_MESSAGE);
-        commandSummary.setText(COMMAND_SUMMARY);
+        welcomeMessage.setText(HelpText.WELCOME_MESSAGE);
+        commandSummaryIntro.setText(HelpText.COMMAND_SUMMARY_INTRO);
+        userGuideMessage.setText(HelpText.USER_GUIDE_MESSAGE);
+        commandSummary.setText(HelpText.COMMAND_SUMMARY);
     }
 
     /**
@@ -167,7 +128,7 @@ public class HelpWindow extends UiPart<Stage> {
     private void copyUrl() {
         final Clipboard clipboard = Clipboard.getSystemClipboard();
         final ClipboardContent url = new ClipboardContent();
-        url.putString(USERGUIDE_URL);
+        url.putString(HelpText.USERGUIDE_URL);
         clipboard.setContent(url);
     }
 }
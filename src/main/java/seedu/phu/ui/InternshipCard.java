@@ -1,16 +1,23 @@
 package seedu.phu.ui;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.phu.model.internship.Internship;
+import seedu.phu.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Internship}.
+ * A card can be rebound to another internship with {@link #bind(Internship, int)}, which reuses its nodes instead of
+ * loading the FXML again.
  */
 public class InternshipCard extends UiPart<Region> {
 
@@ -24,7 +31,8 @@ public class InternshipCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/internshipbook-level4/issues/336">The issue on InternshipBook level 4</a>
      */
 
-    public final Internship internship;
+    private Internship internship;
+    private String stateStyleClass;
 
     @FXML
     private HBox cardPane;
@@ -50,19 +58,46 @@ public class InternshipCard extends UiPart<Region> {
      */
     public InternshipCard(Internship internship, int displayedIndex) {
         super(FXML);
+        bind(internship, displayedIndex);
+    }
+
+    /**
+     * Displays {@code internship} with {@code displayedIndex} on this card, reusing the existing tag labels.
+     */
+    public void bind(Internship internship, int displayedIndex) {
         this.internship = internship;
         id.setText(displayedIndex + ". ");
         name.setText(internship.getName().fullName);
         position.setText(internship.getPosition().positionName);
 
-        String stateStyleClass = "application_process-" + internship.getApplicationProcess().toString();
+        applicationProcess.getStyleClass().remove(stateStyleClass);
+        stateStyleClass = "application_process-" + internship.getApplicationProcess().toString();
         applicationProcess.getStyleClass().add(stateStyleClass);
         applicationProcess.setText(internship.getApplicationProcess().toString());
 
         date.setText(internship.getDate().toDisplayFormat());
-        internship.getTags().stream()
+        bindTags(internship.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+                .collect(Collectors.toList()));
+    }
+
+    public Internship getInternship() {
+        return internship;
+    }
+
+    private void bindTags(List<Tag> sortedTags) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        for (int i = 0; i < sortedTags.size(); i++) {
+            String tagName = sortedTags.get(i).tagName;
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagName);
+            } else {
+                tagLabels.add(new Label(tagName));
+            }
+        }
+        if (tagLabels.size() > sortedTags.size()) {
+            tagLabels.remove(sortedTags.size(), tagLabels.size());
+        }
     }
 
     @Override
@@ -31,8 +31,12 @@ public class InternshipListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Internship} using a {@code InternshipCard}.
+     * The card is rebound to each new internship rather than recreated, so scrolling does not reload its FXML.
      */
     class InternshipListViewCell extends ListCell<Internship> {
+        /** The card reused by this cell for every internship it displays, created when first needed. */
+        private InternshipCard internshipCard;
+
         @Override
         protected void updateItem(Internship internship, boolean empty) {
             super.updateItem(internship, empty);
@@ -40,9 +44,15 @@ public class InternshipListPanel extends UiPart<Region> {
             if (empty || internship == null) {
                 setGraphic(null);
                 setText(null);
+                return;
+            }
+
+            if (internshipCard == null) {
+                internshipCard = new InternshipCard(internship, getIndex() + 1);
             } else {
-                setGraphic(new InternshipCard(internship, getIndex() + 1).getRoot());
+                internshipCard.bind(internship, getIndex() + 1);
             }
+            setGraphic(internshipCard.getRoot());
         }
     }
 
@@ -1,7 +1,9 @@
 package seedu.phu.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,8 +16,7 @@ import seedu.phu.commons.core.GuiSettings;
 import seedu.phu.commons.core.LogsCenter;
 import seedu.phu.logic.Logic;
 import seedu.phu.logic.commands.CommandResult;
-import seedu.phu.logic.commands.exceptions.CommandException;
-import seedu.phu.logic.parser.exceptions.ParseException;
+import seedu.phu.model.internship.Internship;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -37,6 +38,8 @@ public class MainWindow extends UiPart<Stage> {
     private HelpWindow helpWindow;
     private ReminderBarFooter reminderBarFooter;
     private StackedBarPanel stackedBarPanel;
+    private ObservedListAdapter<Internship> internshipListAdapter;
+    private ObservedListAdapter<Internship> viewItemAdapter;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -119,10 +122,12 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        internshipListPanel = new InternshipListPanel(logic.getFilteredInternshipList());
+        internshipListAdapter = new ObservedListAdapter<>(logic.getFilteredInternshipList());
+        internshipListPanel = new InternshipListPanel(internshipListAdapter);
         internshipListPanelPlaceholder.getChildren().add(internshipListPanel.getRoot());
 
-        viewCommandPanel = new ViewCommandPanel(logic.getViewItem());
+        viewItemAdapter = new ObservedListAdapter<>(logic.getViewItem());
+        viewCommandPanel = new ViewCommandPanel(viewItemAdapter);
         viewCommandPanelPlaceholder.getChildren().add(viewCommandPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -134,7 +139,7 @@ public class MainWindow extends UiPart<Stage> {
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        stackedBarPanel = new StackedBarPanel(logic.getFilteredInternshipList());
+        stackedBarPanel = new StackedBarPanel(internshipListAdapter.asObservedList());
         statisticsPlaceholder.getChildren().add(stackedBarPanel.getRoot());
     }
 
@@ -182,31 +187,52 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns its result, which is completed on the JavaFX application
+     * thread once the result is shown.
      *
-     * @see Logic#execute(String)
+     * @see Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        logic.executeAsync(commandText).whenComplete((commandResult, failure) -> {
+            // counted before the next command can change the internship book
+            String reminderText = ReminderBarFooter.getReminderText(logic.getInternshipBook());
+            Platform.runLater(() -> {
+                showResult(commandText, commandResult, failure, reminderText);
+                if (failure == null) {
+                    shownResult.complete(commandResult);
+                } else {
+                    shownResult.completeExceptionally(failure);
+                }
+            });
+        });
+        return shownResult;
+    }
 
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            reminderBarFooter.setReminderText(logic.getInternshipBook());
+    /**
+     * Shows the changes made by a command to the internship book together with its result, all at once.
+     */
+    private void showResult(String commandText, CommandResult commandResult, Throwable failure,
+            String reminderText) {
+        internshipListAdapter.applyPendingChanges();
+        viewItemAdapter.applyPendingChanges();
+        reminderBarFooter.setReminderText(reminderText);
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+        if (failure != null) {
+            logger.info("Invalid command: " + commandText);
+            resultDisplay.setFeedbackToUser(failure.getMessage());
+            return;
+        }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
@@ -0,0 +1,93 @@
+package seedu.phu.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import seedu.phu.commons.core.observable.ListChange;
+import seedu.phu.commons.core.observable.ObservedArrayList;
+import seedu.phu.commons.core.observable.ObservedList;
+
+/**
+ * Shows an {@code ObservedList} of the model as a JavaFX {@code ObservableList}, so that controls such as
+ * {@code ListView} can display it.
+ *
+ * The adapter keeps its own copy of the elements, which only ever changes on the JavaFX application thread. Changes
+ * made to the model list on that thread are applied right away. Changes made on other threads, such as by commands
+ * running in the background, are held in the order they were made until {@link #applyPendingChanges()} is called, so
+ * that the window can show all the changes of a command at once, together with its result.
+ */
+public class ObservedListAdapter<E> extends ObservableListBase<E> {
+
+    private final ObservedArrayList<E> elements;
+    private final Queue<ListChange<? extends E>> pendingChanges = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates an adapter showing {@code source}, which must not be changed by another thread while this runs.
+     */
+    public ObservedListAdapter(ObservedList<E> source) {
+        requireNonNull(source);
+        elements = new ObservedArrayList<>(source);
+        source.addObserver(this::onSourceChanged);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns the elements shown by this adapter as an {@code ObservedList}, which only changes on the JavaFX
+     * application thread.
+     */
+    public ObservedList<E> asObservedList() {
+        return elements.asUnmodifiableList();
+    }
+
+    /**
+     * Applies the changes made to the model list on other threads since this was last called.
+     * Must be called on the JavaFX application thread.
+     */
+    public void applyPendingChanges() {
+        assert Platform.isFxApplicationThread();
+        ListChange<? extends E> change;
+        while ((change = pendingChanges.poll()) != null) {
+            apply(change);
+        }
+    }
+
+    private void onSourceChanged(ListChange<? extends E> change) {
+        pendingChanges.add(change);
+        if (Platform.isFxApplicationThread()) {
+            applyPendingChanges();
+        }
+    }
+
+    private void apply(ListChange<? extends E> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        beginChange();
+        elements.replaceRange(from, from + change.getRemoved().size(), change.getAdded());
+        if (change.wasPermutated()) {
+            int[] permutation = new int[to - from];
+            for (int i = from; i < to; i++) {
+                permutation[i - from] = change.getPermutation(i);
+            }
+            nextPermutation(from, to, permutation);
+        } else if (change.getRemoved().isEmpty()) {
+            nextAdd(from, to);
+        } else {
+            nextReplace(from, to, new ArrayList<>(change.getRemoved()));
+        }
+        endChange();
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.phu.ui;
 
 import java.time.LocalDate;
-import java.util.function.Predicate;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -10,7 +9,7 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 import seedu.phu.model.ReadOnlyInternshipBook;
 import seedu.phu.model.internship.ApplicationProcess;
-import seedu.phu.model.internship.Internship;
+import seedu.phu.model.internship.DateRange;
 
 
 /**
@@ -34,29 +33,33 @@ public class ReminderBarFooter extends UiPart<Region> {
      */
     public ReminderBarFooter(ReadOnlyInternshipBook book) {
         super(FXML);
-        setReminderText(book);
+        setReminderText(getReminderText(book));
         reminderIcon.setImage(new Image(getClass().getResourceAsStream(REMINDER_ICON_PATH)));
     }
 
-    public void setReminderText(ReadOnlyInternshipBook book) {
-        String upcomingAssessments = getStatusCount(ApplicationProcess.ApplicationProcessState.ASSESSMENT, book)
-                + " " + ApplicationProcess.ApplicationProcessState.ASSESSMENT + " ";
-        String upcomingInterviews = getStatusCount(ApplicationProcess.ApplicationProcessState.INTERVIEW, book)
-                + " " + ApplicationProcess.ApplicationProcessState.INTERVIEW + " ";
-        String pendingOffers = getStatusCount(ApplicationProcess.ApplicationProcessState.OFFER, book)
-                + " " + ApplicationProcess.ApplicationProcessState.OFFER + " ";
-        reminderStatus.setText(DEFAULT_REMINDER_TEXT + upcomingAssessments + upcomingInterviews + pendingOffers);
+    public void setReminderText(String reminderText) {
+        reminderStatus.setText(reminderText);
     }
 
-    private int getStatusCount(ApplicationProcess.ApplicationProcessState ap, ReadOnlyInternshipBook book) {
-        return book.getInternshipList().filtered(new Predicate<Internship>() {
-            @Override
-            public boolean test(Internship internship) {
-                return LocalDate.now().plusDays(-1).isBefore(internship.getDate().value)
-                        && internship.getDate().value.isBefore(LocalDate.now().plusDays(UPCOMING_DAYS))
-                        && internship.getApplicationProcess().value.equals(ap);
-            }
-        }).size();
+    /**
+     * Returns the reminder text for the internships in {@code book}.
+     * This only reads {@code book}, so it can be called on the thread that changes the book.
+     */
+    public static String getReminderText(ReadOnlyInternshipBook book) {
+        LocalDate today = LocalDate.now();
+        DateRange upcoming = new DateRange(today, today.plusDays(UPCOMING_DAYS - 1));
+        String upcomingAssessments = getStatusCount(ApplicationProcess.ApplicationProcessState.ASSESSMENT, book,
+                upcoming) + " " + ApplicationProcess.ApplicationProcessState.ASSESSMENT + " ";
+        String upcomingInterviews = getStatusCount(ApplicationProcess.ApplicationProcessState.INTERVIEW, book,
+                upcoming) + " " + ApplicationProcess.ApplicationProcessState.INTERVIEW + " ";
+        String pendingOffers = getStatusCount(ApplicationProcess.ApplicationProcessState.OFFER, book,
+                upcoming) + " " + ApplicationProcess.ApplicationProcessState.OFFER + " ";
+        return DEFAULT_REMINDER_TEXT + upcomingAssessments + upcomingInterviews + pendingOffers;
+    }
+
+    private static int getStatusCount(ApplicationProcess.ApplicationProcessState ap, ReadOnlyInternshipBook book,
+            DateRange upcoming) {
+        return book.countInternships(ap, upcoming);
     }
 
 }
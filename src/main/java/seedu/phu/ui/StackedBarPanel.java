@@ -5,12 +5,11 @@ import static java.util.Objects.requireNonNull;
 import java.util.HashMap;
 import java.util.Map;
 
-import javafx.collections.ListChangeListener;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.ColumnConstraints;
+import seedu.phu.commons.core.observable.ObservedList;
 import seedu.phu.model.internship.ApplicationProcess;
 import seedu.phu.model.internship.Internship;
 import seedu.phu.model.internship.Statistic;
@@ -23,7 +22,6 @@ public class StackedBarPanel extends UiPart<Node> {
     private static final String FXML = "StackedBarPanel.fxml";
     private static final ApplicationProcess.ApplicationProcessState[] states =
             ApplicationProcess.ApplicationProcessState.values();
-    private final ObservableList<Internship> internships;
     private final Statistic statistic;
     private final HashMap<ApplicationProcess.ApplicationProcessState, ColumnConstraints> constraints;
     private final HashMap<ApplicationProcess.ApplicationProcessState, Label> labels;
@@ -74,12 +72,11 @@ public class StackedBarPanel extends UiPart<Node> {
      * Constructs a new StackedBarPanel representing the list
      * of internships.
      *
-     * @param list an ObservableList.
+     * @param list an ObservedList, which must only change on the JavaFX application thread.
      */
-    public StackedBarPanel(ObservableList<Internship> list) {
+    public StackedBarPanel(ObservedList<Internship> list) {
         super(FXML);
         requireNonNull(list);
-        internships = list;
         constraints = new HashMap<>();
         labels = new HashMap<>();
         statistic = new Statistic(list);
@@ -107,13 +104,11 @@ public class StackedBarPanel extends UiPart<Node> {
         updateBar();
 
         //add event listener
-        internships.addListener((ListChangeListener<Internship>) c -> {
-            updateBar();
-        });
+        statistic.addListener(this::updateBar);
     }
 
     private void updateBar() {
-        if (internships.isEmpty()) {
+        if (statistic.getTotal() == 0) {
             handleNoData();
             return;
         }
@@ -144,10 +139,8 @@ public class StackedBarPanel extends UiPart<Node> {
 
 
     private void updateText() {
-        Map<ApplicationProcess.ApplicationProcessState, Integer> num = statistic.getGroupedData();
-
         for (ApplicationProcess.ApplicationProcessState s : states) {
-            int amount = num.get(s);
+            int amount = statistic.getCount(s);
             if (amount == 0) {
                 labels.get(s).setText("");
                 continue;
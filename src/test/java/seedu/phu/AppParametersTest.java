@@ -1,58 +1,67 @@
 package seedu.phu;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.nio.file.Paths;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.application.Application;
-
 public class AppParametersTest {
 
-    private final ParametersStub parametersStub = new ParametersStub();
+    private final Map<String, String> namedParameters = new HashMap<>();
     private final AppParameters expected = new AppParameters();
 
     @Test
     public void parse_validConfigPath_success() {
-        parametersStub.namedParameters.put("config", "config.json");
+        namedParameters.put("config", "config.json");
         expected.setConfigPath(Paths.get("config.json"));
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void parse_nullConfigPath_success() {
-        parametersStub.namedParameters.put("config", null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        namedParameters.put("config", null);
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void parse_invalidConfigPath_success() {
-        parametersStub.namedParameters.put("config", "a\0");
+        namedParameters.put("config", "a\0");
         expected.setConfigPath(null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
-    private static class ParametersStub extends Application.Parameters {
-        private Map<String, String> namedParameters = new HashMap<>();
+    @Test
+    public void parse_batchFile_headless() {
+        namedParameters.put("batch", "commands.txt");
+        expected.setHeadless(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
+    @Test
+    public void parse_batchStandardInput_headless() {
+        namedParameters.put("batch", AppParameters.STANDARD_INPUT);
+        expected.setHeadless(null);
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
 
-        @Override
-        public List<String> getRaw() {
-            throw new AssertionError("should not be called");
-        }
+    @Test
+    public void parse_invalidBatchPath_readsStandardInput() {
+        namedParameters.put("batch", "a\0");
+        expected.setHeadless(null);
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
 
-        @Override
-        public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
-        }
+    @Test
+    public void parse_mainArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(Paths.get("commands.txt"));
+        String[] args = {"--config=config.json", "--batch=commands.txt", "unnamed", "--flag"};
+        assertEquals(expected, AppParameters.parse(args));
 
-        @Override
-        public Map<String, String> getNamed() {
-            return Collections.unmodifiableMap(namedParameters);
-        }
+        assertFalse(AppParameters.parse(new String[0]).isHeadless());
     }
 }
@@ -0,0 +1,117 @@
+package seedu.phu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.phu.commons.core.Messages;
+import seedu.phu.logic.LogicManager;
+import seedu.phu.logic.commands.ExitCommand;
+import seedu.phu.logic.commands.ListCommand;
+import seedu.phu.model.Model;
+import seedu.phu.model.ModelManager;
+import seedu.phu.model.ReadOnlyInternshipBook;
+import seedu.phu.model.UserPrefs;
+import seedu.phu.storage.JsonInternshipBookStorage;
+import seedu.phu.storage.JsonUserPrefsStorage;
+import seedu.phu.storage.StorageManager;
+import seedu.phu.testutil.TypicalInternships;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream errorOutput = new ByteArrayOutputStream();
+    private Model model;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalInternships.getTypicalInternshipBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonInternshipBookStorage(temporaryFolder.resolve("internshipBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(new LogicManager(model, storage, Runnable::run));
+    }
+
+    @Test
+    public void run_commands_resultsPrinted() throws Exception {
+        int failedCount = run("list\n\n  # a comment\ndelete 1\n", false);
+
+        assertEquals(0, failedCount);
+        assertTrue(lines(output).startsWith(ListCommand.MESSAGE_SUCCESS + "\n"));
+        assertEquals(TypicalInternships.getTypicalInternships().size() - 1,
+                model.getInternshipBook().getInternshipList().size());
+        assertEquals("", lines(errorOutput));
+    }
+
+    @Test
+    public void run_failingCommand_errorPrintedAndRestRun() throws Exception {
+        int failedCount = run("delete 100\nunknown\nlist\n", false);
+
+        assertEquals(2, failedCount);
+        assertEquals(Messages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX + "\n" + Messages.MESSAGE_UNKNOWN_COMMAND
+                + "\n", lines(errorOutput));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n", lines(output));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsIgnored() throws Exception {
+        int failedCount = run("exit\nunknown\n", false);
+
+        assertEquals(0, failedCount);
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + "\n", lines(output));
+        assertEquals("", lines(errorOutput));
+    }
+
+    @Test
+    public void run_changesNotSaved_countedAsFailed() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonInternshipBookStorage(temporaryFolder.resolve("unsavedInternshipBook.json")) {
+                    @Override
+                    public void saveInternshipBook(ReadOnlyInternshipBook internshipBook, Path filePath)
+                            throws IOException {
+                        throw new IOException("disk full");
+                    }
+                },
+                new JsonUserPrefsStorage(temporaryFolder.resolve("unsavedUserPrefs.json")));
+        app = new HeadlessApp(new LogicManager(model, storage, Runnable::run));
+
+        int failedCount = run("list\ndelete 1\n", false);
+
+        assertEquals(1, failedCount);
+        assertTrue(lines(output).contains(LogicManager.FILE_OPS_ERROR_MESSAGE));
+    }
+
+    @Test
+    public void run_interactive_promptPrinted() throws Exception {
+        run("list\n", true);
+
+        assertTrue(lines(output).startsWith(HeadlessApp.PROMPT + ListCommand.MESSAGE_SUCCESS));
+        assertTrue(lines(output).endsWith(HeadlessApp.PROMPT));
+    }
+
+    private int run(String input, boolean isInteractive) throws Exception {
+        try (PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+                PrintStream err = new PrintStream(errorOutput, true, StandardCharsets.UTF_8)) {
+            return app.run(new BufferedReader(new StringReader(input)), out, err, isInteractive);
+        }
+    }
+
+    private static String lines(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.phu.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
+
+/**
+ * Helpers shared by the benchmarks in this package.
+ * Benchmarks are plain programs rather than tests, and are run with {@code gradlew benchmark -Pbench=<class name>}.
+ */
+public class Benchmark {
+
+    private static final int WARMUP_RUNS = 3;
+
+    /** Keeps the object measured by {@code retainedBytes} reachable during the measurement. */
+    private static Object retained;
+
+    /**
+     * Runs {@code task} a few times to warm up, then {@code runs} more times, and prints the median time taken.
+     *
+     * @return the median time taken in milliseconds.
+     */
+    public static double time(String label, int runs, Runnable task) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            task.run();
+        }
+
+        double[] timesMillis = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            timesMillis[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(timesMillis);
+        double median = timesMillis[runs / 2];
+        System.out.printf("%-50s %10.2f ms (median of %d)%n", label, median, runs);
+        return median;
+    }
+
+    /**
+     * Returns roughly how many bytes of heap the object created by {@code supplier} keeps reachable.
+     */
+    public static long retainedBytes(Supplier<Object> supplier) {
+        long before = usedHeap();
+        retained = supplier.get();
+        long after = usedHeap();
+        retained = null;
+        return after - before;
+    }
+
+    /**
+     * Returns roughly how many bytes of heap the current thread allocates while running {@code task}.
+     */
+    public static long allocatedBytes(Runnable task) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Returns an internship with a unique name for {@code id}.
+     */
+    public static Internship internship(int id) {
+        return new InternshipBuilder().withName("Company " + id).withPosition("Software Engineer Intern").build();
+    }
+
+    /**
+     * Returns an internship book holding {@code size} internships with unique names.
+     */
+    public static InternshipBook internshipBook(int size) {
+        InternshipBook internshipBook = new InternshipBook();
+        for (int i = 0; i < size; i++) {
+            internshipBook.addInternship(internship(i));
+        }
+        return internshipBook;
+    }
+}
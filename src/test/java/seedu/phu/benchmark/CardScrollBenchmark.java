@@ -0,0 +1,137 @@
+package seedu.phu.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
+import seedu.phu.ui.InternshipCard;
+import seedu.phu.ui.InternshipListPanel;
+
+/**
+ * Compares scrolling through a long {@code InternshipListPanel}, whose cells rebind their cards, with scrolling
+ * through the same list when every cell update loads a new card.
+ *
+ * Both lists are shown in a window with the app's stylesheets. Each scroll tick moves a few rows further with
+ * {@link ListView#scrollTo(int)} and then runs the CSS and layout passes of a frame, and is timed on the JavaFX
+ * thread. Rendering is not included in the time.
+ */
+public class CardScrollBenchmark {
+
+    private static final int ROWS = 10000;
+    private static final int ROWS_PER_TICK = 3;
+    private static final int TICKS = ROWS / ROWS_PER_TICK;
+    private static final int RUNS = 5;
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final String[] STYLESHEETS = {"/view/DarkTheme.css", "/view/Extensions.css"};
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        ObservableList<Internship> internships = FXCollections.observableArrayList();
+        for (int i = 0; i < ROWS; i++) {
+            internships.add(new InternshipBuilder().withName("Company " + i).withPosition("Software Engineer")
+                    .withTags("tag" + (i % 7), "tag" + (i % 11)).build());
+        }
+
+        CountDownLatch finished = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                InternshipListPanel panel = new InternshipListPanel(internships);
+                measure("rebound cards", panel.getRoot(), findListView(panel.getRoot()));
+
+                ListView<Internship> newCardList = new ListView<>(internships);
+                newCardList.setCellFactory(listView -> new NewCardCell());
+                measure("new card per update", newCardList, newCardList);
+            } finally {
+                finished.countDown();
+            }
+        });
+        finished.await();
+        Platform.exit();
+    }
+
+    /**
+     * Shows {@code root} in a window, then prints the time taken to scroll {@code listView} through every row, the
+     * median and 99th percentile time of a scroll tick, and the bytes allocated by a scroll through every row.
+     */
+    private static void measure(String label, Parent root, ListView<Internship> listView) {
+        Stage stage = new Stage();
+        Scene scene = new Scene(root, WIDTH, HEIGHT);
+        for (String stylesheet : STYLESHEETS) {
+            scene.getStylesheets().add(CardScrollBenchmark.class.getResource(stylesheet).toExternalForm());
+        }
+        stage.setScene(scene);
+        stage.show();
+
+        Benchmark.time(label + ": scroll " + ROWS + " rows", RUNS, () -> scrollThrough(root, listView));
+        double[] tickMillis = scrollThrough(root, listView);
+        Arrays.sort(tickMillis);
+        System.out.printf("%-50s %10.3f ms%n", label + ": median tick", tickMillis[TICKS / 2]);
+        System.out.printf("%-50s %10.3f ms%n", label + ": 99th percentile tick", tickMillis[TICKS * 99 / 100]);
+        System.out.printf("%-50s %10d KB%n", label + ": allocated",
+                Benchmark.allocatedBytes(() -> scrollThrough(root, listView)) / 1024);
+
+        stage.close();
+    }
+
+    /**
+     * Scrolls {@code listView} from its first row to its last, {@value #ROWS_PER_TICK} rows per tick.
+     *
+     * @return the time taken by each tick in milliseconds.
+     */
+    private static double[] scrollThrough(Parent root, ListView<Internship> listView) {
+        listView.scrollTo(0);
+        layOut(root);
+
+        double[] tickMillis = new double[TICKS];
+        for (int tick = 0; tick < TICKS; tick++) {
+            long start = System.nanoTime();
+            listView.scrollTo(tick * ROWS_PER_TICK);
+            layOut(root);
+            tickMillis[tick] = (System.nanoTime() - start) / 1e6;
+        }
+        return tickMillis;
+    }
+
+    private static void layOut(Parent root) {
+        root.applyCss();
+        root.layout();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ListView<Internship> findListView(Parent root) {
+        return (ListView<Internship>) root.lookup("#internshipListView");
+    }
+
+    /**
+     * A cell that loads a new card for every internship it displays.
+     */
+    private static class NewCardCell extends ListCell<Internship> {
+        @Override
+        protected void updateItem(Internship internship, boolean empty) {
+            super.updateItem(internship, empty);
+
+            if (empty || internship == null) {
+                setGraphic(null);
+                setText(null);
+                return;
+            }
+            setGraphic(new InternshipCard(internship, getIndex() + 1).getRoot());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.phu.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.phu.commons.core.keyword.Keyword;
+import seedu.phu.commons.core.keyword.KeywordList;
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.internship.ContainsKeywordsPredicate;
+import seedu.phu.model.internship.FindableCategory;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
+
+/**
+ * Compares answering find queries by testing every internship against answering them from the search index.
+ */
+public class FindBenchmark {
+
+    private static final int[] BOOK_SIZES = {1000, 10000, 100000};
+    private static final List<String> POSITIONS = Arrays.asList("Software Engineer", "Data Analyst",
+            "Frontend Developer", "Backend Engineer", "Product Manager", "Quant Researcher");
+    private static final List<List<String>> QUERIES = Arrays.asList(
+            Arrays.asList("engineer"), Arrays.asList("eng"), Arrays.asList("GINE", "anal"), Arrays.asList("er"));
+    private static final int RUNS = 20;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        for (int size : BOOK_SIZES) {
+            InternshipBook internshipBook = new InternshipBook();
+            for (int i = 0; i < size; i++) {
+                internshipBook.addInternship(new InternshipBuilder().withName("Company " + i)
+                        .withPosition(POSITIONS.get(i % POSITIONS.size())).build());
+            }
+
+            for (List<String> keywords : QUERIES) {
+                ContainsKeywordsPredicate predicate = predicate(keywords);
+                String label = size + " internships, position " + keywords;
+                Benchmark.time(label + ": scan", RUNS, () -> count(internshipBook, predicate));
+                Benchmark.time(label + ": index", RUNS, ()
+                    -> count(internshipBook, internshipBook.toIndexedPredicate(predicate)));
+            }
+        }
+    }
+
+    private static long count(InternshipBook internshipBook, Predicate<Internship> predicate) {
+        return internshipBook.getInternshipList().stream().filter(predicate).count();
+    }
+
+    private static ContainsKeywordsPredicate predicate(List<String> keywords) {
+        KeywordList keywordList = new KeywordList();
+        keywords.forEach(keyword -> keywordList.addKeyword(new Keyword(keyword)));
+        return new ContainsKeywordsPredicate(keywordList, FindableCategory.POSITION);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.phu.benchmark;
+
+import static seedu.phu.benchmark.Benchmark.internship;
+import static seedu.phu.benchmark.Benchmark.internshipBook;
+
+import java.util.List;
+
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.VersionedInternshipBook;
+import seedu.phu.model.history.HistoryMode;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
+
+/**
+ * Compares the undo history modes on a large internship book edited by many commands.
+ */
+public class HistoryBenchmark {
+
+    private static final int BOOK_SIZE = 5000;
+    private static final int COMMANDS = 300;
+    private static final int RUNS = 10;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        InternshipBook initialState = internshipBook(BOOK_SIZE);
+
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            Benchmark.time(historyMode + ": " + COMMANDS + " commands on " + BOOK_SIZE + " internships", RUNS, ()
+                -> runCommands(new VersionedInternshipBook(initialState, historyMode, COMMANDS)));
+
+            VersionedInternshipBook edited =
+                    runCommands(new VersionedInternshipBook(initialState, historyMode, COMMANDS));
+            Benchmark.time(historyMode + ": undo and redo every command", RUNS, () -> undoAndRedoAll(edited));
+
+            long bytes = Benchmark.retainedBytes(()
+                -> runCommands(new VersionedInternshipBook(initialState, historyMode, COMMANDS)));
+            System.out.printf("%-50s %10d KB%n", historyMode + ": heap retained by the edited book", bytes / 1024);
+        }
+    }
+
+    /**
+     * Adds, edits and deletes internships the way the add, edit and delete commands do, committing each change.
+     */
+    private static VersionedInternshipBook runCommands(VersionedInternshipBook book) {
+        for (int i = 0; i < COMMANDS; i++) {
+            List<Internship> internships = book.getInternshipList();
+            switch (i % 3) {
+            case 0:
+                book.addInternship(internship(BOOK_SIZE + i));
+                break;
+            case 1:
+                Internship target = internships.get(i % internships.size());
+                book.setInternship(target, new InternshipBuilder(target).withRemark("edited " + i).build());
+                break;
+            default:
+                book.removeInternship(internships.get((i * 7) % internships.size()));
+                break;
+            }
+            book.commitChange();
+        }
+        return book;
+    }
+
+    private static void undoAndRedoAll(VersionedInternshipBook book) {
+        while (book.canUndo()) {
+            book.undo();
+        }
+        while (book.canRedo()) {
+            book.redo();
+        }
+    }
+}
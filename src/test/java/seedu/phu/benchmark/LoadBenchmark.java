@@ -0,0 +1,53 @@
+package seedu.phu.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.phu.model.InternshipBook;
+import seedu.phu.storage.BinaryInternshipBookStorage;
+import seedu.phu.storage.InternshipBookStorage;
+import seedu.phu.storage.JsonInternshipBookStorage;
+
+/**
+ * Compares the time taken to load an internship book from the json and the binary data formats, as done at startup.
+ */
+public class LoadBenchmark {
+
+    private static final int[] BOOK_SIZES = {1000, 10000, 100000};
+    private static final int RUNS = 10;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("load-benchmark");
+        for (int size : BOOK_SIZES) {
+            InternshipBook internshipBook = Benchmark.internshipBook(size);
+            Path jsonPath = folder.resolve(size + ".json");
+            InternshipBookStorage jsonStorage = new JsonInternshipBookStorage(jsonPath);
+            InternshipBookStorage binaryStorage = new BinaryInternshipBookStorage(
+                    BinaryInternshipBookStorage.getBinaryFilePath(jsonPath));
+
+            for (InternshipBookStorage storage : new InternshipBookStorage[] {jsonStorage, binaryStorage}) {
+                Path filePath = storage.getInternshipBookFilePath();
+                storage.saveInternshipBook(internshipBook);
+                System.out.printf("%-50s %10d KB%n", filePath.getFileName() + ": file size",
+                        Files.size(filePath) / 1024);
+                Benchmark.time(filePath.getFileName() + ": load " + size + " internships", RUNS, () -> load(storage));
+                Files.delete(filePath);
+                Files.deleteIfExists(JsonInternshipBookStorage.getChecksumFilePath(filePath));
+            }
+        }
+        Files.delete(folder);
+    }
+
+    private static void load(InternshipBookStorage storage) {
+        try {
+            storage.readInternshipBook().get();
+        } catch (Exception e) {
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.phu.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.phu.logic.commands.ClearCommand;
+import seedu.phu.logic.commands.Command;
+import seedu.phu.logic.commands.ListCommand;
+import seedu.phu.logic.commands.UndoCommand;
+import seedu.phu.logic.parser.AddCommandParser;
+import seedu.phu.logic.parser.DeleteCommandParser;
+import seedu.phu.logic.parser.EditCommandParser;
+import seedu.phu.logic.parser.FindCommandParser;
+import seedu.phu.logic.parser.InternshipBookParser;
+import seedu.phu.logic.parser.ListCommandParser;
+import seedu.phu.logic.parser.exceptions.ParseException;
+
+/**
+ * Compares finding the parser of each command with a regex and a new parser per command against looking it up in
+ * the command registry, on a mix of typical commands.
+ */
+public class ParseBenchmark {
+
+    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final List<String> COMMANDS = Arrays.asList("list", "list c/name", "delete 1", "delete 1 2 3",
+            "find n/google", "edit 1 r/Call back", "undo", "clear",
+            "add n/Google p/98765432 e/hr@google.com pos/Software Engineer r/Referred t/tech");
+    private static final int PARSES = 100000;
+    private static final int RUNS = 20;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        InternshipBookParser parser = new InternshipBookParser();
+        Benchmark.time(PARSES + " commands: regex and new parsers", RUNS, () -> parseAll(ParseBenchmark::parseOld));
+        Benchmark.time(PARSES + " commands: registry", RUNS, () -> parseAll(parser::parseCommand));
+
+        System.out.printf("%-50s %10d bytes%n", "allocated per command: regex and new parsers",
+                Benchmark.allocatedBytes(() -> parseAll(ParseBenchmark::parseOld)) / PARSES);
+        System.out.printf("%-50s %10d bytes%n", "allocated per command: registry",
+                Benchmark.allocatedBytes(() -> parseAll(parser::parseCommand)) / PARSES);
+    }
+
+    private static void parseAll(CommandParser parser) {
+        try {
+            for (int i = 0; i < PARSES; i++) {
+                parser.parse(COMMANDS.get(i % COMMANDS.size()));
+            }
+        } catch (ParseException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Parses {@code userInput} the way commands were parsed before the command registry.
+     */
+    private static Command parseOld(String userInput) throws ParseException {
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(userInput);
+        }
+
+        String arguments = matcher.group("arguments");
+        switch (matcher.group("commandWord")) {
+        case "add":
+            return new AddCommandParser().parse(arguments);
+        case "edit":
+            return new EditCommandParser().parse(arguments);
+        case "delete":
+            return new DeleteCommandParser().parse(arguments);
+        case "find":
+            return new FindCommandParser().parse(arguments);
+        case "list":
+            return new ListCommandParser().parse(arguments);
+        case "clear":
+            return new ClearCommand();
+        case "undo":
+            return new UndoCommand();
+        default:
+            throw new ParseException(userInput);
+        }
+    }
+
+    @FunctionalInterface
+    private interface CommandParser {
+        Command parse(String userInput) throws ParseException;
+    }
+}
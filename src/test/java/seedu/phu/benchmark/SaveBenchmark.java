@@ -0,0 +1,59 @@
+package seedu.phu.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.storage.InternshipBookStorage;
+import seedu.phu.storage.JsonInternshipBookStorage;
+import seedu.phu.storage.SegmentedInternshipBookStorage;
+
+/**
+ * Compares the time taken to save an internship book after editing one internship, as done after each command, in
+ * a single json file and in a segmented directory.
+ */
+public class SaveBenchmark {
+
+    private static final int[] BOOK_SIZES = {1000, 10000, 100000};
+    private static final int RUNS = 10;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("save-benchmark");
+        for (int size : BOOK_SIZES) {
+            Path jsonPath = folder.resolve(size + ".json");
+            InternshipBookStorage[] storages = {new JsonInternshipBookStorage(jsonPath),
+                new SegmentedInternshipBookStorage(SegmentedInternshipBookStorage.getSegmentDirectoryPath(jsonPath))};
+
+            for (InternshipBookStorage storage : storages) {
+                InternshipBook internshipBook = Benchmark.internshipBook(size);
+                save(storage, internshipBook);
+                int[] edits = {0};
+                Benchmark.time(storage.getInternshipBookFilePath().getFileName() + ": save after one edit", RUNS,
+                    () -> {
+                        Internship target = internshipBook.getInternshipList().get(size / 2);
+                        internshipBook.setInternship(target, Benchmark.internship(size + edits[0]++));
+                        save(storage, internshipBook);
+                    });
+            }
+        }
+        try (Stream<Path> paths = Files.walk(folder)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static void save(InternshipBookStorage storage, InternshipBook internshipBook) {
+        try {
+            storage.saveInternshipBook(internshipBook);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
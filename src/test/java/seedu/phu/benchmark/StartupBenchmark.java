@@ -0,0 +1,74 @@
+package seedu.phu.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import seedu.phu.model.InternshipBook;
+import seedu.phu.storage.BinaryInternshipBookStorage;
+import seedu.phu.storage.JsonInternshipBookStorage;
+
+/**
+ * Compares decoding the binary data file read whole with {@code Files.readAllBytes} against decoding it straight from
+ * a memory-mapped buffer, and times reading the json data file the way it is read before the first window is shown.
+ */
+public class StartupBenchmark {
+
+    private static final int[] BOOK_SIZES = {10000, 100000};
+    private static final int RUNS = 10;
+
+    /**
+     * Loads an internship book from a data file.
+     */
+    private interface Load {
+        void load() throws Exception;
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws IOException {
+        Path folder = Files.createTempDirectory("startup-benchmark");
+        for (int size : BOOK_SIZES) {
+            InternshipBook internshipBook = Benchmark.internshipBook(size);
+            Path jsonPath = folder.resolve(size + ".json");
+            Path binaryPath = BinaryInternshipBookStorage.getBinaryFilePath(jsonPath);
+            new JsonInternshipBookStorage(jsonPath).saveInternshipBook(internshipBook);
+            new BinaryInternshipBookStorage(binaryPath).saveInternshipBook(internshipBook);
+
+            run(size + " json, read by storage", () -> new JsonInternshipBookStorage(jsonPath).readInternshipBook());
+            run(size + " binary, readAllBytes", () -> BinaryInternshipBookStorage.decodeInternshipBook(
+                    ByteBuffer.wrap(Files.readAllBytes(binaryPath))));
+            run(size + " binary, mapped", () -> BinaryInternshipBookStorage.decodeInternshipBook(map(binaryPath)));
+
+            Files.delete(jsonPath);
+            Files.delete(JsonInternshipBookStorage.getChecksumFilePath(jsonPath));
+            Files.delete(binaryPath);
+        }
+        Files.delete(folder);
+    }
+
+    /**
+     * Returns the content of {@code file} as a read-only memory-mapped buffer.
+     */
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static void run(String label, Load task) {
+        Runnable load = () -> {
+            try {
+                task.load();
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        };
+        Benchmark.time(label, RUNS, load);
+        System.out.printf("%-50s %10d KB%n", label + ": allocated", Benchmark.allocatedBytes(load) / 1024);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.phu.benchmark;
+
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_APPLICATION_PROCESS;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_WEBSITE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.phu.logic.parser.ArgumentMultimap;
+import seedu.phu.logic.parser.ArgumentTokenizer;
+import seedu.phu.logic.parser.Prefix;
+
+/**
+ * Compares finding the prefixes of an add command with one search per prefix against the single scan of
+ * {@code ArgumentTokenizer}, as the remark pasted into the command grows.
+ */
+public class TokenizeBenchmark {
+
+    private static final int[] REMARK_LENGTHS = {100, 10000, 1000000};
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_POSITION, PREFIX_APPLICATION_PROCESS, PREFIX_DATE,
+        PREFIX_WEBSITE, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_REMARK, PREFIX_TAG};
+    private static final int RUNS = 20;
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) {
+        for (int length : REMARK_LENGTHS) {
+            StringBuilder remark = new StringBuilder();
+            while (remark.length() < length) {
+                remark.append("spoke to the recruiter about the team and next steps ");
+            }
+            String argsString = " n/Google p/Software Engineer pr/APPLIED d/11-11-2026 ph/98765432"
+                    + " e/hr@google.com t/tech r/" + remark.substring(0, length);
+
+            String label = "remark of " + length + " characters";
+            Benchmark.time(label + ": search per prefix", RUNS, () -> tokenizeOld(argsString));
+            Benchmark.time(label + ": single scan", RUNS, () -> ArgumentTokenizer.tokenize(argsString, PREFIXES));
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} the way it was tokenized before the single scan.
+     */
+    private static ArgumentMultimap tokenizeOld(String argsString) {
+        List<int[]> positions = new ArrayList<>();
+        for (int i = 0; i < PREFIXES.length; i++) {
+            int position = argsString.indexOf(" " + PREFIXES[i].getPrefix());
+            while (position != -1) {
+                positions.add(new int[] {i, position + 1});
+                position = argsString.indexOf(" " + PREFIXES[i].getPrefix(), position + 1);
+            }
+        }
+        positions.sort((first, second) -> first[1] - second[1]);
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix prefix = new Prefix("");
+        int valueStart = 0;
+        for (int[] position : positions) {
+            argMultimap.put(prefix, argsString.substring(valueStart, position[1]).trim());
+            prefix = PREFIXES[position[0]];
+            valueStart = position[1] + prefix.getPrefix().length();
+        }
+        argMultimap.put(prefix, argsString.substring(valueStart).trim());
+        return argMultimap;
+    }
+}
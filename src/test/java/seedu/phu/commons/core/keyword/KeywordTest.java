@@ -55,6 +55,11 @@ public class KeywordTest {
         // date in dd-mm-yyyy format -> returns true
         assertTrue(new Keyword("02-12-2022").isDate());
 
+        // range of dates, month or year -> returns true
+        assertTrue(new Keyword("02-12-2022..31-12-2022").isDate());
+        assertTrue(new Keyword("12-2022").isDate());
+        assertTrue(new Keyword("2022").isDate());
+
         // date not in dd-mm-yyyy format -> returns false
         assertFalse(new Keyword("2022-02-02").isDate());
         assertFalse(new Keyword("10 Aug 2021").isDate());
@@ -0,0 +1,102 @@
+package seedu.phu.commons.core.observable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class FilteredObservedListTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private final ObservedArrayList<Integer> source = new ObservedArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6));
+    private final FilteredObservedList<Integer> filtered = new FilteredObservedList<>(source, IS_EVEN);
+    private final ReplayingObserver<Integer> observer = new ReplayingObserver<>(filtered);
+
+    @Test
+    public void constructor_nullPredicate_containsEveryElement() {
+        assertEquals(source, new FilteredObservedList<>(source));
+    }
+
+    @Test
+    public void get_matchingElements_inSourceOrder() {
+        assertEquals(Arrays.asList(2, 4, 6), filtered);
+        assertEquals(3, filtered.getSourceIndex(1));
+    }
+
+    @Test
+    public void sourceChanged_onlyMatchingElementsNotified() {
+        source.add(7);
+        assertTrue(observer.getChanges().isEmpty());
+
+        source.add(1, 8);
+        source.remove(Integer.valueOf(4));
+        assertEquals(Arrays.asList(8, 2, 6), filtered);
+        assertEquals(filtered, observer.getReplayed());
+        assertEquals(2, observer.getChanges().size());
+        assertEquals(5, filtered.getSourceIndex(2));
+    }
+
+    @Test
+    public void setPredicate_onlyDifferingRangeNotified() {
+        filtered.setPredicate(number -> number % 2 == 0 || number == 3);
+
+        assertEquals(Arrays.asList(2, 3, 4, 6), filtered);
+        assertEquals(filtered, observer.getReplayed());
+        ListChange<? extends Integer> change = observer.getChanges().get(0);
+        assertEquals(1, change.getFrom());
+        assertTrue(change.getRemoved().isEmpty());
+        assertEquals(List.of(3), change.getAdded());
+
+        filtered.setPredicate(filtered.getPredicate());
+        assertEquals(1, observer.getChanges().size());
+    }
+
+    @Test
+    public void sourceSorted_notifiedAsReordering() {
+        source.sort(Comparator.reverseOrder());
+
+        assertEquals(Arrays.asList(6, 4, 2), filtered);
+        assertEquals(filtered, observer.getReplayed());
+        assertTrue(observer.getChanges().get(0).wasPermutated());
+    }
+
+    @Test
+    public void randomChanges_matchFilteredSource() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int index = random.nextInt(source.size() + 1);
+            switch (source.isEmpty() ? 0 : random.nextInt(6)) {
+            case 0:
+                source.add(index, random.nextInt(100));
+                break;
+            case 1:
+                source.remove(Math.min(index, source.size() - 1));
+                break;
+            case 2:
+                source.set(Math.min(index, source.size() - 1), random.nextInt(100));
+                break;
+            case 3:
+                int end = index + random.nextInt(source.size() - index + 1);
+                source.replaceRange(index, end, Arrays.asList(random.nextInt(100), random.nextInt(100)));
+                break;
+            case 4:
+                source.sort(random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+                break;
+            default:
+                int divisor = 2 + random.nextInt(3);
+                filtered.setPredicate(number -> number % divisor == 0);
+                break;
+            }
+            assertEquals(source.stream().filter(filtered.getPredicate()::test).collect(Collectors.toList()), filtered);
+        }
+        assertEquals(filtered, observer.getReplayed());
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.phu.commons.core.observable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ObservedArrayListTest {
+
+    private final ObservedArrayList<String> list = new ObservedArrayList<>(Arrays.asList("a", "b", "c", "d"));
+    private final ReplayingObserver<String> observer = new ReplayingObserver<>(list);
+
+    @Test
+    public void singleElementChanges_oneChangeEach() {
+        list.add("e");
+        list.set(0, "z");
+        list.remove(1);
+
+        assertEquals(Arrays.asList("z", "c", "d", "e"), list);
+        assertEquals(list, observer.getReplayed());
+        assertEquals(3, observer.getChanges().size());
+        assertEquals(List.of("a"), observer.getChanges().get(1).getRemoved());
+        assertEquals(List.of("z"), observer.getChanges().get(1).getAdded());
+    }
+
+    @Test
+    public void rangeChanges_oneChangeEach() {
+        list.replaceRange(1, 3, Arrays.asList("x", "y", "z"));
+        list.addAll(0, Arrays.asList("p", "q"));
+        list.subList(2, 4).clear();
+        list.setAll(Arrays.asList("m", "n"));
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(list, observer.getReplayed());
+        assertEquals(5, observer.getChanges().size());
+    }
+
+    @Test
+    public void emptyChanges_notNotified() {
+        list.addAll(new ArrayList<>());
+        list.subList(1, 1).clear();
+        list.sort(Comparator.naturalOrder());
+
+        assertTrue(observer.getChanges().isEmpty());
+    }
+
+    @Test
+    public void sort_stable_notifiedAsReorderingOfChangedRange() {
+        ObservedArrayList<String> words = new ObservedArrayList<>(Arrays.asList("a", "bb", "dd", "c", "e"));
+        ReplayingObserver<String> wordObserver = new ReplayingObserver<>(words);
+        words.sort(Comparator.comparing(String::length));
+
+        assertEquals(Arrays.asList("a", "c", "e", "bb", "dd"), words);
+        assertEquals(words, wordObserver.getReplayed());
+        ListChange<? extends String> change = wordObserver.getChanges().get(0);
+        assertTrue(change.wasPermutated());
+        assertEquals(1, change.getFrom());
+        assertEquals(5, change.getTo());
+    }
+
+    @Test
+    public void reverse_notifiedAsReordering() {
+        list.reverse();
+
+        assertEquals(Arrays.asList("d", "c", "b", "a"), list);
+        assertEquals(list, observer.getReplayed());
+        assertEquals(1, observer.getChanges().size());
+        assertTrue(observer.getChanges().get(0).wasPermutated());
+    }
+
+    @Test
+    public void asUnmodifiableList_modify_throwsUnsupportedOperationException() {
+        ObservedList<String> view = list.asUnmodifiableList();
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.add("e"));
+
+        ReplayingObserver<String> viewObserver = new ReplayingObserver<>(view);
+        list.add("e");
+        assertEquals(list, view);
+        assertEquals(list, viewObserver.getReplayed());
+    }
+
+    @Test
+    public void randomChanges_replayedChangesMatchList() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int index = random.nextInt(list.size() + 1);
+            switch (list.isEmpty() ? 0 : random.nextInt(5)) {
+            case 0:
+                list.add(index, "n" + i);
+                break;
+            case 1:
+                list.remove(Math.min(index, list.size() - 1));
+                break;
+            case 2:
+                list.set(Math.min(index, list.size() - 1), "s" + i);
+                break;
+            case 3:
+                int end = index + random.nextInt(list.size() - index + 1);
+                list.replaceRange(index, end, Arrays.asList("r" + i, "t" + i));
+                break;
+            default:
+                list.sort(Comparator.naturalOrder());
+                break;
+            }
+        }
+        assertEquals(list, observer.getReplayed());
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.phu.commons.core.observable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies every change it is notified of to its own copy of the observed list, checking that each change agrees with
+ * the copy, so that tests can check the changes describe the list exactly.
+ */
+class ReplayingObserver<E> implements ListObserver<E> {
+
+    private final List<E> replayed;
+    private final List<ListChange<? extends E>> changes = new ArrayList<>();
+
+    ReplayingObserver(ObservedList<E> observed) {
+        replayed = new ArrayList<>(observed);
+        observed.addObserver(this);
+    }
+
+    @Override
+    public void onChanged(ListChange<? extends E> change) {
+        changes.add(change);
+        int from = change.getFrom();
+        List<E> range = replayed.subList(from, from + change.getRemoved().size());
+        assertEquals(change.getRemoved(), range);
+        if (change.wasPermutated()) {
+            for (int i = from; i < change.getTo(); i++) {
+                assertEquals(change.getRemoved().get(i - from), change.getAdded().get(change.getPermutation(i) - from));
+            }
+        }
+        range.clear();
+        range.addAll(change.getAdded());
+    }
+
+    List<E> getReplayed() {
+        return replayed;
+    }
+
+    List<ListChange<? extends E>> getChanges() {
+        return changes;
+    }
+}
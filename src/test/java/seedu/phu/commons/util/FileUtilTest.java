@@ -1,13 +1,24 @@
 package seedu.phu.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.phu.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,26 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContentWithoutLeavingTemporaryFiles() throws IOException {
+        Path file = temporaryFolder.resolve("missing").resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void readToBuffer_smallAndLargeFiles_sameContent() throws IOException {
+        Path smallFile = temporaryFolder.resolve("small.json");
+        FileUtil.writeToFile(smallFile, "small");
+        assertEquals("small", StandardCharsets.UTF_8.decode(FileUtil.readToBuffer(smallFile)).toString());
+
+        Path largeFile = temporaryFolder.resolve("large.json");
+        String largeContent = String.join("", Collections.nCopies(100000, "large"));
+        FileUtil.writeToFile(largeFile, largeContent);
+        assertEquals(largeContent, StandardCharsets.UTF_8.decode(FileUtil.readToBuffer(largeFile)).toString());
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.phu.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.phu.commons.core.Messages.MESSAGE_INVALID_INTERNSHIP_DISPLAYED_INDEX;
 import static seedu.phu.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.phu.logic.commands.CommandTestUtil.EMAIL_DESC_APPLE;
@@ -12,18 +14,26 @@ import static seedu.phu.testutil.Assert.assertThrows;
 import static seedu.phu.testutil.TypicalInternships.APPLE;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.phu.logic.commands.AddCommand;
+import seedu.phu.logic.commands.ArchiveCommand;
 import seedu.phu.logic.commands.CommandResult;
 import seedu.phu.logic.commands.ListCommand;
+import seedu.phu.logic.commands.UndoCommand;
 import seedu.phu.logic.commands.exceptions.CommandException;
 import seedu.phu.logic.parser.exceptions.ParseException;
+import seedu.phu.model.InternshipBook;
 import seedu.phu.model.Model;
 import seedu.phu.model.ModelManager;
 import seedu.phu.model.ReadOnlyInternshipBook;
@@ -72,15 +82,15 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonInternshipBookIoExceptionThrowingStub
+    public void execute_storageThrowsIoException_reportsErrorInCommandResult() throws Exception {
+        // Setup LogicManager with JsonInternshipBookIoExceptionThrowingStub, writing on the calling thread
         JsonInternshipBookStorage internshipBookStorage =
                 new JsonInternshipBookIoExceptionThrowingStub(temporaryFolder
                         .resolve("ioExceptionInternshipBook.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(internshipBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Runnable::run);
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_APPLE + PHONE_DESC_APPLE + EMAIL_DESC_APPLE
@@ -90,8 +100,205 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addInternship(expectedInternship);
         expectedModel.commitInternshipBookChange();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        String expectedMessage = String.format(AddCommand.MESSAGE_SUCCESS, expectedInternship) + "\n"
+                + LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_earlierBackgroundWriteFailed_reportsEarlierFailureAndSavesAgain() throws Exception {
+        JsonInternshipBookStorage internshipBookStorage =
+                new JsonInternshipBookIoExceptionThrowingStub(temporaryFolder.resolve("queuedInternshipBook.json"));
+        StorageManager storage = new StorageManager(internshipBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("queuedUserPrefs.json")));
+        List<Runnable> queuedWrites = new ArrayList<>();
+        logic = new LogicManager(model, storage, queuedWrites::add);
+
+        CommandResult result = logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_APPLE + PHONE_DESC_APPLE
+                + EMAIL_DESC_APPLE + REMARK_DESC_APPLE + POSITION_DESC_APPLE);
+        assertFalse(result.getFeedbackToUser().contains(LogicManager.FILE_OPS_ERROR_MESSAGE));
+
+        // the write of the added internship fails after the add command has returned
+        queuedWrites.forEach(Runnable::run);
+        queuedWrites.clear();
+
+        // the next command says that the failed write was of an earlier command's changes
+        result = logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + LogicManager.EARLIER_FILE_OPS_ERROR_MESSAGE
+                + DUMMY_IO_EXCEPTION, result.getFeedbackToUser());
+
+        // the internship book is written again
+        assertEquals(1, queuedWrites.size());
+        assertThrows(IOException.class, () -> logic.flush());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        Path internshipBookPath = temporaryFolder.resolve("readOnlyInternshipBook.json");
+        StorageManager storage = new StorageManager(new JsonInternshipBookStorage(internshipBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("readOnlyUserPrefs.json")));
+        logic = new LogicManager(model, storage, Runnable::run);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertFalse(Files.exists(internshipBookPath));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_APPLE + PHONE_DESC_APPLE + EMAIL_DESC_APPLE
+                + REMARK_DESC_APPLE + POSITION_DESC_APPLE);
+        assertTrue(Files.exists(internshipBookPath));
+    }
+
+    @Test
+    public void flush_pendingChange_writesInternshipBook() throws Exception {
+        Path internshipBookPath = temporaryFolder.resolve("flushedInternshipBook.json");
+        StorageManager storage = new StorageManager(new JsonInternshipBookStorage(internshipBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("flushedUserPrefs.json")));
+        List<Runnable> queuedWrites = new ArrayList<>();
+        logic = new LogicManager(model, storage, queuedWrites::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_APPLE + PHONE_DESC_APPLE + EMAIL_DESC_APPLE
+                + REMARK_DESC_APPLE + POSITION_DESC_APPLE);
+        assertFalse(Files.exists(internshipBookPath));
+
+        logic.flush();
+        assertEquals(model.getInternshipBook().getInternshipList(),
+                storage.readInternshipBook().get().getInternshipList());
+    }
+
+    @Test
+    public void execute_archive_savesArchiveAndInternshipBook() throws Exception {
+        Path internshipBookPath = temporaryFolder.resolve("archivingInternshipBook.json");
+        Path archivePath = temporaryFolder.resolve("archive.json");
+        StorageManager storage = new StorageManager(new JsonInternshipBookStorage(internshipBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("archivingUserPrefs.json")),
+                new JsonInternshipBookStorage(archivePath));
+        Internship closed = new InternshipBuilder().withApplicationProcess("REJECTED").withDate("01-06-2021").build();
+        model.addInternship(closed);
+        logic = new LogicManager(model, storage, Runnable::run);
+
+        logic.execute(ArchiveCommand.COMMAND_WORD + " d/01-01-2022");
+
+        assertEquals(new InternshipBook(), new InternshipBook(storage.readInternshipBook().get()));
+        assertEquals(List.of(closed), storage.readArchive().get().getInternshipList());
+    }
+
+    @Test
+    public void execute_archiveSaveFails_internshipBookNotSaved() throws Exception {
+        Path internshipBookPath = temporaryFolder.resolve("heldBackInternshipBook.json");
+        StorageManager storage = new StorageManager(new JsonInternshipBookStorage(internshipBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("heldBackUserPrefs.json")),
+                new JsonInternshipBookIoExceptionThrowingStub(temporaryFolder.resolve("heldBackArchive.json")));
+        model.addInternship(new InternshipBuilder().withApplicationProcess("ACCEPTED").withDate("01-06-2021").build());
+        logic = new LogicManager(model, storage, Runnable::run);
+
+        // the archived internship stays in the saved internship book until the archive holding it is saved
+        CommandResult result = logic.execute(ArchiveCommand.COMMAND_WORD + " d/01-01-2022");
+        assertTrue(result.getFeedbackToUser().endsWith(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION));
+        assertFalse(Files.exists(internshipBookPath));
+
+        result = logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().endsWith(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION));
+        assertFalse(Files.exists(internshipBookPath));
+        assertThrows(IOException.class, () -> logic.flush());
+    }
+
+    @Test
+    public void execute_undoArchive_internshipBookSavedBeforeArchive() throws Exception {
+        Path internshipBookPath = temporaryFolder.resolve("unarchivingInternshipBook.json");
+        Path archivePath = temporaryFolder.resolve("unarchivingArchive.json");
+        StorageManager storage = new StorageManager(new JsonInternshipBookStorage(internshipBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("unarchivingUserPrefs.json")),
+                new JsonInternshipBookStorage(archivePath));
+        Internship closed = new InternshipBuilder().withApplicationProcess("REJECTED").withDate("01-06-2021").build();
+        model.addInternship(closed);
+        model.commitInternshipBookChange();
+        logic = new LogicManager(model, storage, Runnable::run);
+        logic.execute(ArchiveCommand.COMMAND_WORD + " d/01-01-2022");
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+
+        assertEquals(List.of(closed), storage.readInternshipBook().get().getInternshipList());
+        assertEquals(new InternshipBook(), new InternshipBook(storage.readArchive().get()));
+    }
+
+    @Test
+    public void execute_undoArchiveInternshipBookSaveFails_archiveNotSaved() throws Exception {
+        Path archivePath = temporaryFolder.resolve("keptArchive.json");
+        StorageManager storage = new StorageManager(
+                new JsonInternshipBookIoExceptionThrowingStub(temporaryFolder.resolve("keptInternshipBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("keptUserPrefs.json")),
+                new JsonInternshipBookStorage(archivePath));
+        Internship closed = new InternshipBuilder().withApplicationProcess("REJECTED").withDate("01-06-2021").build();
+        model.addInternship(closed);
+        model.commitInternshipBookChange();
+        logic = new LogicManager(model, storage, Runnable::run);
+        logic.execute(ArchiveCommand.COMMAND_WORD + " d/01-01-2022");
+
+        // the internship stays in the saved archive until the internship book holding it is saved
+        CommandResult result = logic.execute(UndoCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().endsWith(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION));
+        assertEquals(List.of(closed), storage.readArchive().get().getInternshipList());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(List.of(closed), storage.readArchive().get().getInternshipList());
+        assertThrows(IOException.class, () -> logic.flush());
+        assertEquals(List.of(closed), storage.readArchive().get().getInternshipList());
+    }
+
+    @Test
+    public void executeAsync_severalCommands_runInSubmissionOrder() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_APPLE + PHONE_DESC_APPLE + EMAIL_DESC_APPLE
+                + REMARK_DESC_APPLE + POSITION_DESC_APPLE;
+        CompletableFuture<CommandResult> added = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> undone = logic.executeAsync(UndoCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> addedAgain = logic.executeAsync(addCommand);
+
+        // the add is only undone if it ran first, and only added again if the undo ran before it
+        addedAgain.get();
+        assertTrue(added.isDone());
+        assertEquals(String.format(UndoCommand.MESSAGE_SUCCESS, addCommand), undone.get().getFeedbackToUser());
+        assertEquals(1, model.getInternshipBook().getInternshipList().size());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() {
+        Throwable failure = logic.executeAsync("uicfhmowqewca").handle((result, thrown) -> thrown).join();
+        assertTrue(failure instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.getMessage());
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesWithError() throws Exception {
+        AssertionError error = new AssertionError("broken model");
+        Model brokenModel = new ModelManager() {
+            @Override
+            public void updateFilteredInternshipList(Predicate<Internship> predicate) {
+                throw error;
+            }
+        };
+        StorageManager storage = new StorageManager(
+                new JsonInternshipBookStorage(temporaryFolder.resolve("brokenInternshipBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("brokenUserPrefs.json")));
+        logic = new LogicManager(brokenModel, storage);
+
+        Throwable failure = logic.executeAsync(ListCommand.COMMAND_WORD).handle((result, thrown) -> thrown).join();
+        assertEquals(error, failure);
+        logic.flush(); // does not wait for the failed command forever
+    }
+
+    @Test
+    public void flush_commandStillRunning_waitsForCommand() throws Exception {
+        Path internshipBookPath = temporaryFolder.resolve("asyncInternshipBook.json");
+        StorageManager storage = new StorageManager(new JsonInternshipBookStorage(internshipBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("asyncUserPrefs.json")));
+        List<Runnable> queuedCommands = new ArrayList<>();
+        logic = new LogicManager(model, storage, Runnable::run, queuedCommands::add);
+
+        logic.executeAsync(AddCommand.COMMAND_WORD + NAME_DESC_APPLE + PHONE_DESC_APPLE + EMAIL_DESC_APPLE
+                + REMARK_DESC_APPLE + POSITION_DESC_APPLE);
+        new Thread(() -> queuedCommands.forEach(Runnable::run)).start();
+        logic.flush();
+        assertEquals(1, storage.readInternshipBook().get().getInternshipList().size());
     }
 
     @Test
@@ -9,12 +9,13 @@ import static seedu.phu.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.phu.commons.core.GuiSettings;
+import seedu.phu.commons.core.observable.ObservedList;
 import seedu.phu.logic.commands.exceptions.CommandException;
 import seedu.phu.model.InternshipBook;
 import seedu.phu.model.Model;
@@ -128,6 +129,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasInternship(Internship internship) {
             throw new AssertionError("This method should not be called.");
@@ -144,7 +150,22 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObservableList<Internship> getFilteredInternshipList() {
+        public List<Internship> archiveInternships(Predicate<Internship> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyInternshipBook getArchivedInternships() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getArchiveModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservedList<Internship> getFilteredInternshipList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -154,7 +175,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObservableList<Internship> getViewItem() {
+        public ObservedList<Internship> getViewItem() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -202,6 +223,21 @@ public class AddCommandTest {
         public void commitInternshipBookChange() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void startInternshipBookBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean endInternshipBookBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackInternshipBookBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
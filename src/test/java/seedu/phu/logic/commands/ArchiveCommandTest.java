@@ -0,0 +1,162 @@
+package seedu.phu.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.phu.logic.parser.CliSyntax.PREFIX_ARCHIVE;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternships;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.commons.core.Messages;
+import seedu.phu.logic.parser.DeleteCommandParser;
+import seedu.phu.logic.parser.FindCommandParser;
+import seedu.phu.model.InternshipArchive;
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.Model;
+import seedu.phu.model.ModelManager;
+import seedu.phu.model.UserPrefs;
+import seedu.phu.model.internship.Date;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class ArchiveCommandTest {
+
+    private static final Date CUTOFF = new Date("01-01-2022");
+    private static final Internship OLD_ACCEPTED = new InternshipBuilder().withName("Old Accepted")
+            .withApplicationProcess("ACCEPTED").withDate("15-06-2021").build();
+    private static final Internship OLD_REJECTED = new InternshipBuilder().withName("Old Rejected")
+            .withApplicationProcess("REJECTED").withDate("31-12-2021").build();
+    private static final Internship OLD_OPEN = new InternshipBuilder().withName("Old Open")
+            .withApplicationProcess("INTERVIEW").withDate("15-06-2021").build();
+    private static final Internship RECENT_REJECTED = new InternshipBuilder().withName("Recent Rejected")
+            .withApplicationProcess("REJECTED").withDate("01-01-2022").build();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @BeforeEach
+    public void setUp() {
+        commandHistory.addCommand(ArchiveCommand.COMMAND_WORD + " d/01-01-2022");
+    }
+
+    @Test
+    public void execute_closedInternshipsBeforeCutoff_archived() throws Exception {
+        Model model = new ModelManager(bookWithClosedInternships(), new UserPrefs());
+
+        CommandResult result = new ArchiveCommand(CUTOFF).execute(model, commandHistory);
+
+        assertEquals(String.format(ArchiveCommand.MESSAGE_ARCHIVE_SUCCESS, 2, CUTOFF.toDisplayFormat()),
+                result.getFeedbackToUser());
+        List<Internship> expectedRemaining = new ArrayList<>(getTypicalInternships());
+        expectedRemaining.addAll(Arrays.asList(OLD_OPEN, RECENT_REJECTED));
+        assertEquals(expectedRemaining, model.getInternshipBook().getInternshipList());
+        assertEquals(Arrays.asList(OLD_ACCEPTED, OLD_REJECTED),
+                model.getArchivedInternships().getInternshipList());
+        assertEquals(1, model.getArchiveModificationCount());
+        assertTrue(model.canUndoInternshipBook());
+    }
+
+    @Test
+    public void execute_undoAfterArchive_internshipsBackInBook() throws Exception {
+        Model model = new ModelManager(bookWithClosedInternships(), new UserPrefs());
+        new ArchiveCommand(CUTOFF).execute(model, commandHistory);
+
+        model.undoInternshipBook();
+
+        assertEquals(bookWithClosedInternships(), model.getInternshipBook());
+        assertEquals(new InternshipBook(), model.getArchivedInternships());
+        assertEquals(2, model.getArchiveModificationCount());
+    }
+
+    @Test
+    public void execute_redoAfterUndoneArchive_internshipsArchivedAgain() throws Exception {
+        Model model = new ModelManager(bookWithClosedInternships(), new UserPrefs());
+        new ArchiveCommand(CUTOFF).execute(model, commandHistory);
+        model.undoInternshipBook();
+
+        model.redoInternshipBook();
+
+        assertEquals(Arrays.asList(OLD_ACCEPTED, OLD_REJECTED),
+                model.getArchivedInternships().getInternshipList());
+        assertFalse(model.hasInternship(OLD_ACCEPTED));
+    }
+
+    @Test
+    public void execute_deleteAfterUndoneArchive_deletedInternshipNotFoundInArchive() throws Exception {
+        Model model = new ModelManager(bookWithClosedInternships(), new UserPrefs());
+        new ArchiveCommand(CUTOFF).execute(model, commandHistory);
+        new UndoCommand().execute(model, commandHistory);
+
+        String deleteCommandText = DeleteCommand.COMMAND_WORD + " " + (getTypicalInternships().size() + 1);
+        commandHistory.addCommand(deleteCommandText);
+        new DeleteCommandParser().parse(deleteCommandText.substring(DeleteCommand.COMMAND_WORD.length()))
+                .execute(model, commandHistory);
+        assertFalse(model.hasInternship(OLD_ACCEPTED));
+
+        CommandResult result = new FindCommandParser().parse(" " + PREFIX_ARCHIVE + " Old")
+                .execute(model, commandHistory);
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(FindCommand.MESSAGE_ARCHIVED_MATCHES, 0, "")));
+    }
+
+    @Test
+    public void execute_noClosedInternshipsBeforeCutoff_nothingArchived() throws Exception {
+        Model model = new ModelManager(getTypicalInternshipBook(), new UserPrefs());
+
+        CommandResult result = new ArchiveCommand(CUTOFF).execute(model, commandHistory);
+
+        assertEquals(String.format(ArchiveCommand.MESSAGE_NOTHING_TO_ARCHIVE, CUTOFF.toDisplayFormat()),
+                result.getFeedbackToUser());
+        assertEquals(getTypicalInternshipBook(), model.getInternshipBook());
+        assertEquals(0, model.getArchiveModificationCount());
+        assertFalse(model.canUndoInternshipBook());
+    }
+
+    @Test
+    public void execute_unreadableArchive_throwsCommandException() {
+        IOException failure = new IOException("Archive is corrupted");
+        Model model = new ModelManager(bookWithClosedInternships(), new UserPrefs(), new InternshipArchive(() -> {
+            throw failure;
+        }));
+
+        assertCommandFailure(new ArchiveCommand(CUTOFF), model, commandHistory,
+                String.format(Messages.MESSAGE_ARCHIVE_UNREADABLE, failure));
+        assertEquals(0, model.getArchiveModificationCount());
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveCommand = new ArchiveCommand(CUTOFF);
+
+        // same object -> returns true
+        assertTrue(archiveCommand.equals(archiveCommand));
+
+        // same cutoff -> returns true
+        assertTrue(archiveCommand.equals(new ArchiveCommand(new Date("01-01-2022"))));
+
+        // different types -> returns false
+        assertFalse(archiveCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(archiveCommand.equals(null));
+
+        // different cutoff -> returns false
+        assertFalse(archiveCommand.equals(new ArchiveCommand(new Date("02-01-2022"))));
+    }
+
+    private static InternshipBook bookWithClosedInternships() {
+        InternshipBook book = getTypicalInternshipBook();
+        book.addInternship(OLD_ACCEPTED);
+        book.addInternship(OLD_REJECTED);
+        book.addInternship(OLD_OPEN);
+        book.addInternship(RECENT_REJECTED);
+        return book;
+    }
+}
@@ -96,6 +96,35 @@ public class CommandHistoryTest {
         assertThrows(AssertionError.class, () -> commandHistory.getNextModifyCommand());
     }
 
+    @Test
+    public void addCommand_beyondLimit_evictsOldestCommands() {
+        CommandHistory limitedCommandHistory = new CommandHistory(2);
+        limitedCommandHistory.addCommand(DeleteCommand.COMMAND_WORD);
+        limitedCommandHistory.setLastCommandAsModify();
+        limitedCommandHistory.addCommand(ListCommand.COMMAND_WORD);
+        limitedCommandHistory.addCommand(ClearCommand.COMMAND_WORD);
+
+        assertEquals(Arrays.asList(ListCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD),
+                limitedCommandHistory.getHistory());
+        // modify commands are kept even after they leave the recent commands
+        assertEquals(DeleteCommand.COMMAND_WORD, limitedCommandHistory.getPreviousModifyCommand());
+    }
+
+    @Test
+    public void setLastCommandAsModify_beyondLimit_evictsOldestModifyCommands() {
+        CommandHistory limitedCommandHistory = new CommandHistory(2);
+        for (String commandWord : Arrays.asList(AddCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
+                ClearCommand.COMMAND_WORD)) {
+            limitedCommandHistory.addCommand(commandWord);
+            limitedCommandHistory.setLastCommandAsModify();
+        }
+
+        assertEquals(2, limitedCommandHistory.getCurrentStatePointer());
+        assertEquals(ClearCommand.COMMAND_WORD, limitedCommandHistory.getPreviousModifyCommand());
+        assertEquals(DeleteCommand.COMMAND_WORD, limitedCommandHistory.getPreviousModifyCommand());
+        assertThrows(AssertionError.class, () -> limitedCommandHistory.getPreviousModifyCommand());
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithDelete = new CommandHistory();
@@ -14,16 +14,21 @@ import static seedu.phu.testutil.TypicalInternships.FASTLY;
 import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.phu.commons.core.keyword.Keyword;
 import seedu.phu.commons.core.keyword.KeywordList;
+import seedu.phu.model.InternshipArchive;
+import seedu.phu.model.InternshipBook;
 import seedu.phu.model.Model;
 import seedu.phu.model.ModelManager;
 import seedu.phu.model.UserPrefs;
 import seedu.phu.model.internship.ContainsKeywordsPredicate;
 import seedu.phu.model.internship.FindableCategory;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -81,6 +86,9 @@ public class FindCommandTest {
 
         //same keywords with duplicate -> return true
         assertTrue(findFirstCommand.equals(findFifthCommand));
+
+        //archive included -> return false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -138,6 +146,28 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BYTEDANCE), model.getFilteredInternshipList());
     }
 
+    @Test
+    public void execute_archiveIncluded_archivedMatchesListed() {
+        Internship archivedCitadel = new InternshipBuilder(CITADEL).withApplicationProcess("REJECTED").build();
+        Internship archivedOther = new InternshipBuilder().withName("Citadel Securities")
+                .withApplicationProcess("ACCEPTED").withDate("01-06-2021").build();
+        InternshipBook archived = new InternshipBook();
+        archived.addInternship(archivedCitadel);
+        archived.addInternship(archivedOther);
+        model = new ModelManager(getTypicalInternshipBook(), new UserPrefs(),
+                new InternshipArchive(() -> Optional.of(archived)));
+
+        // the archived copy of an internship that is back in the book is not listed twice
+        String expectedMessage = String.format(MESSAGE_INTERNSHIPS_LISTED_OVERVIEW, 1) + "\n"
+                + String.format(FindCommand.MESSAGE_ARCHIVED_MATCHES, 1,
+                        "1. Citadel Securities, " + archivedOther.getPosition() + " (ACCEPTED, 01 Jun 2021)\n");
+        ContainsKeywordsPredicate predicate = preparePredicate(FindableCategory.COMPANY_NAME, "Citadel");
+        FindCommand command = new FindCommand(predicate, true);
+        expectedModel.updateFilteredInternshipList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CITADEL), model.getFilteredInternshipList());
+    }
+
     /**
      * Parses {@code keywords} into a {@code ContainsKeywordsPredicate}.
      */
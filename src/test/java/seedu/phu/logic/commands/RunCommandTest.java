@@ -0,0 +1,120 @@
+package seedu.phu.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.phu.testutil.Assert.assertThrows;
+import static seedu.phu.testutil.TypicalInternships.APPLE;
+import static seedu.phu.testutil.TypicalInternships.BLACKROCK;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.phu.commons.util.FileUtil;
+import seedu.phu.logic.commands.exceptions.CommandException;
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.Model;
+import seedu.phu.model.ModelManager;
+import seedu.phu.model.UserPrefs;
+import seedu.phu.testutil.InternshipUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalInternshipBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validFile_commandsUndoneAsOneChange() throws Exception {
+        Path filePath = writeFile("# notes from the fair", InternshipUtil.getAddCommand(APPLE), "",
+                InternshipUtil.getAddCommand(BLACKROCK));
+        RunCommand runCommand = new RunCommand(filePath, false);
+        commandHistory.addCommand(RunCommand.COMMAND_WORD + " " + filePath);
+
+        CommandResult result = runCommand.execute(model, commandHistory);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, filePath), result.getFeedbackToUser());
+        assertTrue(model.hasInternship(APPLE));
+        assertTrue(model.hasInternship(BLACKROCK));
+
+        model.undoInternshipBook();
+        assertEquals(getTypicalInternshipBook(), new InternshipBook(model.getInternshipBook()));
+        assertFalse(model.canUndoInternshipBook());
+        assertEquals(RunCommand.COMMAND_WORD + " " + filePath, commandHistory.getPreviousModifyCommand());
+    }
+
+    @Test
+    public void execute_failingLine_reportedAndOtherLinesRun() throws Exception {
+        Path filePath = writeFile(InternshipUtil.getAddCommand(APPLE), InternshipUtil.getAddCommand(APPLE),
+                InternshipUtil.getAddCommand(BLACKROCK));
+        commandHistory.addCommand(RunCommand.COMMAND_WORD + " " + filePath);
+
+        CommandResult result = new RunCommand(filePath, false).execute(model, commandHistory);
+        assertEquals(String.format(RunCommand.MESSAGE_PARTIAL_SUCCESS, 2, filePath, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 2, AddCommand.MESSAGE_DUPLICATE_INTERNSHIP),
+                result.getFeedbackToUser());
+        assertTrue(model.hasInternship(APPLE));
+        assertTrue(model.hasInternship(BLACKROCK));
+    }
+
+    @Test
+    public void execute_failingLineWithRollBack_nothingChanged() throws Exception {
+        Path filePath = writeFile(InternshipUtil.getAddCommand(APPLE), InternshipUtil.getAddCommand(APPLE),
+                InternshipUtil.getAddCommand(BLACKROCK));
+
+        assertCommandFailure(new RunCommand(filePath, true), model, commandHistory,
+                String.format(RunCommand.MESSAGE_ROLLED_BACK, filePath) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 2, AddCommand.MESSAGE_DUPLICATE_INTERNSHIP));
+        assertFalse(model.canUndoInternshipBook());
+    }
+
+    @Test
+    public void execute_commandsThatCannotRunFromFile_rejected() throws Exception {
+        Path filePath = writeFile(UndoCommand.COMMAND_WORD, RunCommand.COMMAND_WORD + " other.txt",
+                ArchiveCommand.COMMAND_WORD + " d/01-01-2023");
+        commandHistory.addCommand(RunCommand.COMMAND_WORD + " " + filePath);
+
+        CommandResult result = new RunCommand(filePath, false).execute(model, commandHistory);
+        assertEquals(String.format(RunCommand.MESSAGE_PARTIAL_SUCCESS, 0, filePath, 3) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 1, RunCommand.MESSAGE_NOT_IN_FILE) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 2, RunCommand.MESSAGE_NOT_IN_FILE) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILED, 3, RunCommand.MESSAGE_NOT_IN_FILE),
+                result.getFeedbackToUser());
+        assertFalse(model.canUndoInternshipBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        RunCommand runCommand = new RunCommand(testFolder.resolve("missing.txt"), false);
+        assertThrows(CommandException.class, () -> runCommand.execute(model, commandHistory));
+        assertEquals(getTypicalInternshipBook(), new InternshipBook(model.getInternshipBook()));
+
+        // the failed run left no batch open
+        model.startInternshipBookBatch();
+        assertFalse(model.endInternshipBookBatch());
+    }
+
+    @Test
+    public void equals() {
+        Path filePath = testFolder.resolve("notes.txt");
+        RunCommand runCommand = new RunCommand(filePath, false);
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(filePath, false)));
+        assertFalse(runCommand.equals(new RunCommand(filePath, true)));
+        assertFalse(runCommand.equals(new RunCommand(testFolder.resolve("other.txt"), false)));
+        assertFalse(runCommand.equals(null));
+        assertFalse(runCommand.equals(new ClearCommand()));
+    }
+
+    private Path writeFile(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("commands.txt");
+        FileUtil.writeToFile(filePath, String.join("\n", lines) + "\n");
+        return filePath;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.phu.logic.parser;
+
+import static seedu.phu.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.phu.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.phu.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.logic.commands.ArchiveCommand;
+import seedu.phu.model.internship.Date;
+
+public class ArchiveCommandParserTest {
+
+    private ArchiveCommandParser parser = new ArchiveCommandParser();
+
+    @Test
+    public void parse_validDate_returnsArchiveCommand() {
+        assertParseSuccess(parser, " d/01-01-2023", new ArchiveCommand(new Date("01-01-2023")));
+    }
+
+    @Test
+    public void parse_missingDate_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 01-01-2023",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, " d/2023-01-01", Date.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -136,6 +136,35 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_eachRecognized() {
+        Prefix prSlash = new Prefix("pr/");
+        Prefix phSlash = new Prefix("ph/");
+        String argsString = "preamble pr/ process p/position ph/123 pr/p/ x";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, prSlash, phSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "position");
+        assertArgumentPresent(argMultimap, prSlash, "process", "p/ x");
+        assertArgumentPresent(argMultimap, phSlash, "123");
+    }
+
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestTaken() {
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "preamble p//long p/short";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashSlash);
+        assertArgumentPresent(argMultimap, pSlashSlash, "long");
+        assertArgumentPresent(argMultimap, pSlash, "short");
+    }
+
+    @Test
+    public void tokenize_otherWhitespaceBeforePrefix_notRecognized() {
+        String argsString = "preamble\tp/tab\np/newline p/ value\t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble\tp/tab\np/newline");
+        assertArgumentPresent(argMultimap, pSlash, "value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,81 @@
+package seedu.phu.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.logic.commands.ClearCommand;
+import seedu.phu.logic.commands.Command;
+import seedu.phu.logic.commands.CopyCommand;
+import seedu.phu.logic.commands.DeleteCommand;
+import seedu.phu.logic.commands.ExitCommand;
+import seedu.phu.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = CommandRegistry.withDefaultCommands();
+
+    @Test
+    public void find_commandWord_sameParserEveryTime() {
+        Parser<? extends Command> parser = registry.find(DeleteCommand.COMMAND_WORD).get();
+        assertTrue(parser instanceof DeleteCommandParser);
+        assertSame(parser, registry.find(DeleteCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void find_uniquePrefixOfShortenableCommand_commandFound() {
+        assertSame(registry.find(ListCommand.COMMAND_WORD).get(), registry.find("li").get());
+        assertSame(registry.find(CopyCommand.COMMAND_WORD).get(), registry.find("co").get());
+    }
+
+    @Test
+    public void find_uniquePrefixOfCommandChangingData_notFound() {
+        assertFalse(registry.find("del").isPresent());
+        assertFalse(registry.find("cl").isPresent());
+        assertFalse(registry.find("ar").isPresent());
+        assertTrue(registry.find(ClearCommand.COMMAND_WORD).isPresent());
+    }
+
+    @Test
+    public void find_sharedPrefixOrUnknownWord_notFound() {
+        assertFalse(registry.find("c").isPresent()); // clear and copy
+        assertFalse(registry.find("e").isPresent()); // edit and exit
+        assertFalse(registry.find("deletes").isPresent());
+        assertFalse(registry.find("").isPresent());
+    }
+
+    @Test
+    public void registerAlias_aliasAndPrefixSharingCommand_commandFound() {
+        registry.registerAlias("ls", ListCommand.COMMAND_WORD);
+        assertSame(registry.find(ListCommand.COMMAND_WORD).get(), registry.find("ls").get());
+        // "l" starts both list and its alias ls
+        assertSame(registry.find(ListCommand.COMMAND_WORD).get(), registry.find("l").get());
+    }
+
+    @Test
+    public void register_extraCommand_foundByWholeWordOnly() throws Exception {
+        registry.register("quit", arguments -> new ExitCommand());
+        assertTrue(registry.find("quit").get().parse("") instanceof ExitCommand);
+        assertFalse(registry.find("q").isPresent());
+    }
+
+    @Test
+    public void registerShortenable_extraCommand_foundByPrefix() throws Exception {
+        registry.registerShortenable("quit", arguments -> new ExitCommand());
+        assertTrue(registry.find("quit").get().parse("") instanceof ExitCommand);
+        assertTrue(registry.find("q").isPresent());
+    }
+
+    @Test
+    public void register_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register(CopyCommand.COMMAND_WORD, arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register("two words", arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("", arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () -> registry.registerAlias("x", "missing"));
+    }
+}
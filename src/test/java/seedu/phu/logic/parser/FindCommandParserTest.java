@@ -82,6 +82,16 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, input3, expected3);
     }
 
+    @Test
+    public void parse_validArgsDateRanges_returnsFindCommand() {
+        KeywordList keywords = prepareKeywords("01-01-2022..31-01-2022", "03-2022", "2023");
+        String input = CliSyntax.PREFIX_CATEGORY + FindableCategory.DATE.name()
+                + " 01-01-2022..31-01-2022 03-2022 2023";
+        FindCommand expected = new FindCommand(new ContainsKeywordsPredicate(keywords, FindableCategory.DATE));
+
+        assertParseSuccess(parser, input, expected);
+    }
+
     @Test
     public void parse_validArgsTagsCategory_returnsFindCommand() {
         KeywordList keywords = prepareKeywords("Trading", "Startup");
@@ -93,6 +103,18 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, input, expected);
     }
 
+    @Test
+    public void parse_archiveIncluded_returnsFindCommandSearchingArchive() {
+        KeywordList keywords = prepareKeywords("Trading", "Startup");
+        FindCommand expected = new FindCommand(new ContainsKeywordsPredicate(keywords, FindableCategory.TAG), true);
+
+        assertParseSuccess(parser, "c/t a/ Trading Startup", expected);
+        assertParseSuccess(parser, "Trading c/t Startup a/", expected);
+
+        // archive alone is not a keyword
+        assertParseFailure(parser, "a/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // Invalid category
@@ -104,6 +126,8 @@ public class FindCommandParserTest {
         // Date category with invalid date keywords
         assertParseFailure(parser, "c/d 2022-02-02", FindCommandParser.INVALID_DATE_MESSAGE);
         assertParseFailure(parser, "c/d 29-02-2022", FindCommandParser.INVALID_DATE_MESSAGE);
+        assertParseFailure(parser, "c/d 31-01-2022..01-01-2022", FindCommandParser.INVALID_DATE_MESSAGE);
+        assertParseFailure(parser, "c/d 13-2022", FindCommandParser.INVALID_DATE_MESSAGE);
 
         //Application process category with invalid state
         assertParseFailure(parser, "c/pr NOT_A_CATEGORY", FindCommandParser.INVALID_PROCESS_MESSAGE);
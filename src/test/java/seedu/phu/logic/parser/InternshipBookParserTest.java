@@ -8,6 +8,7 @@ import static seedu.phu.testutil.Assert.assertThrows;
 import static seedu.phu.testutil.TypicalIndexes.INDEXES_FIRST_INTERNSHIP;
 import static seedu.phu.testutil.TypicalIndexes.INDEX_FIRST_INTERNSHIP;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import seedu.phu.commons.core.keyword.Keyword;
 import seedu.phu.commons.core.keyword.KeywordList;
 import seedu.phu.logic.commands.AddCommand;
+import seedu.phu.logic.commands.ArchiveCommand;
 import seedu.phu.logic.commands.ClearCommand;
 import seedu.phu.logic.commands.CopyCommand;
 import seedu.phu.logic.commands.DeleteCommand;
@@ -27,10 +29,12 @@ import seedu.phu.logic.commands.FindCommand;
 import seedu.phu.logic.commands.HelpCommand;
 import seedu.phu.logic.commands.ListCommand;
 import seedu.phu.logic.commands.RedoCommand;
+import seedu.phu.logic.commands.RunCommand;
 import seedu.phu.logic.commands.UndoCommand;
 import seedu.phu.logic.commands.ViewCommand;
 import seedu.phu.logic.parser.exceptions.ParseException;
 import seedu.phu.model.internship.ContainsKeywordsPredicate;
+import seedu.phu.model.internship.Date;
 import seedu.phu.model.internship.FindableCategory;
 import seedu.phu.model.internship.Internship;
 import seedu.phu.testutil.EditInternshipDescriptorBuilder;
@@ -49,6 +53,20 @@ public class InternshipBookParserTest {
         assertEquals(new AddCommand(internship), command);
     }
 
+    @Test
+    public void parseCommand_archive() throws Exception {
+        ArchiveCommand command = (ArchiveCommand) parser.parseCommand(ArchiveCommand.COMMAND_WORD + " "
+                + CliSyntax.PREFIX_DATE + "01-01-2023");
+        assertEquals(new ArchiveCommand(new Date("01-01-2023")), command);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " notes.txt "
+                + CliSyntax.PREFIX_ROLLBACK);
+        assertEquals(new RunCommand(Paths.get("notes.txt"), true), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -141,5 +159,33 @@ public class InternshipBookParserTest {
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("e 1"));
+    }
+
+    @Test
+    public void parseCommand_uniquePrefix_parsedAsCommand() throws Exception {
+        assertEquals(new CopyCommand(INDEXES_FIRST_INTERNSHIP), parser.parseCommand("co "
+                + INDEX_FIRST_INTERNSHIP.getOneBased()));
+        assertTrue(parser.parseCommand("li") instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_prefixOfCommandChangingData_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cl"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("del "
+                + INDEX_FIRST_INTERNSHIP.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_multipleLines_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand("list\nclear"));
+    }
+
+    @Test
+    public void parseCommand_registeredCommand_parsed() throws Exception {
+        CommandRegistry registry = CommandRegistry.withDefaultCommands();
+        registry.register("bye", arguments -> new ExitCommand());
+        assertTrue(new InternshipBookParser(registry).parseCommand("bye now") instanceof ExitCommand);
     }
 }
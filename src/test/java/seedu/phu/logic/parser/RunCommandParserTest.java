@@ -0,0 +1,35 @@
+package seedu.phu.logic.parser;
+
+import static seedu.phu.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.phu.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.phu.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_filePath_returnsRunCommand() {
+        assertParseSuccess(parser, " notes/fair.txt", new RunCommand(Paths.get("notes/fair.txt"), false));
+        assertParseSuccess(parser, " fair notes.txt ", new RunCommand(Paths.get("fair notes.txt"), false));
+    }
+
+    @Test
+    public void parse_filePathWithRollBack_returnsRollingBackRunCommand() {
+        assertParseSuccess(parser, " fair.txt rb/", new RunCommand(Paths.get("fair.txt"), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " rb/", expectedMessage);
+        assertParseFailure(parser, " fair.txt rb/yes", expectedMessage);
+    }
+}
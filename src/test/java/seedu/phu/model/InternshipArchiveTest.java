@@ -0,0 +1,79 @@
+package seedu.phu.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.testutil.Assert.assertThrows;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.BYTEDANCE;
+import static seedu.phu.testutil.TypicalInternships.CITADEL;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class InternshipArchiveTest {
+
+    @Test
+    public void constructor_loaderNotCalledUntilNeeded() throws Exception {
+        int[] loadCount = new int[1];
+        InternshipBook stored = new InternshipBook();
+        stored.addInternship(AMAZON);
+        InternshipArchive archive = new InternshipArchive(() -> {
+            loadCount[0]++;
+            return Optional.of(stored);
+        });
+        assertFalse(archive.isLoaded());
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(stored, archive.getInternships());
+        archive.getInternships();
+        assertTrue(archive.isLoaded());
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void getInternships_nothingStored_emptyArchive() throws Exception {
+        assertEquals(new InternshipBook(), new InternshipArchive().getInternships());
+    }
+
+    @Test
+    public void getInternships_loaderFails_throwsDataConversionException() {
+        InternshipArchive archive = new InternshipArchive(() -> {
+            throw new IOException("Archive is corrupted");
+        });
+        assertThrows(DataConversionException.class, archive::getInternships);
+        assertThrows(DataConversionException.class, () -> archive.addInternships(Arrays.asList(AMAZON)));
+        assertEquals(0, archive.getModificationCount());
+    }
+
+    @Test
+    public void addInternships_archivedBefore_replacedByNewerCopy() throws Exception {
+        InternshipBook stored = new InternshipBook();
+        stored.addInternship(AMAZON);
+        stored.addInternship(BYTEDANCE);
+        InternshipArchive archive = new InternshipArchive(() -> Optional.of(stored));
+        Internship editedAmazon = new InternshipBuilder(AMAZON).withApplicationProcess("REJECTED").build();
+
+        archive.addInternships(Arrays.asList(editedAmazon, CITADEL));
+
+        assertEquals(Arrays.asList(BYTEDANCE, editedAmazon, CITADEL), archive.getInternships().getInternshipList());
+        assertEquals(1, archive.getModificationCount());
+        // the stored book is only read, never changed
+        assertEquals(Arrays.asList(AMAZON, BYTEDANCE), stored.getInternshipList());
+    }
+
+    @Test
+    public void addInternships_nothingToAdd_unchanged() throws Exception {
+        InternshipArchive archive = new InternshipArchive();
+        archive.addInternships(Collections.emptyList());
+        assertEquals(0, archive.getModificationCount());
+    }
+}
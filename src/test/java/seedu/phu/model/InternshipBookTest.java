@@ -17,8 +17,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.phu.commons.core.observable.ObservedArrayList;
+import seedu.phu.commons.core.observable.ObservedList;
 import seedu.phu.model.internship.Internship;
 import seedu.phu.model.internship.exceptions.DuplicateInternshipException;
 import seedu.phu.testutil.InternshipBuilder;
@@ -91,14 +91,14 @@ public class InternshipBookTest {
      * A stub ReadOnlyInternshipBook whose internships list can violate interface constraints.
      */
     private static class InternshipBookStub implements ReadOnlyInternshipBook {
-        private final ObservableList<Internship> internships = FXCollections.observableArrayList();
+        private final ObservedArrayList<Internship> internships = new ObservedArrayList<>();
 
         InternshipBookStub(Collection<Internship> internships) {
             this.internships.setAll(internships);
         }
 
         @Override
-        public ObservableList<Internship> getInternshipList() {
+        public ObservedList<Internship> getInternshipList() {
             return internships;
         }
 
@@ -109,7 +109,7 @@ public class InternshipBookTest {
 
         @Override
         public void reverseList() {
-            Collections.reverse(internships);
+            internships.reverse();
         }
     }
 
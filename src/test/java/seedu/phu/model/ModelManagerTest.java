@@ -16,8 +16,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.phu.commons.core.GuiSettings;
+import seedu.phu.commons.core.keyword.Keyword;
+import seedu.phu.commons.core.keyword.KeywordList;
+import seedu.phu.model.internship.ContainsKeywordsPredicate;
+import seedu.phu.model.internship.FindableCategory;
+import seedu.phu.model.internship.Internship;
 import seedu.phu.model.internship.NameContainsKeywordsPredicate;
 import seedu.phu.testutil.InternshipBookBuilder;
+import seedu.phu.testutil.InternshipBuilder;
 
 public class ModelManagerTest {
 
@@ -99,6 +105,22 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredInternshipList().remove(0));
     }
 
+    @Test
+    public void setInternship_underActiveFind_editedInternshipTestedAgain() {
+        modelManager.addInternship(AMAZON);
+        modelManager.addInternship(BYTEDANCE);
+        modelManager.updateFilteredInternshipList(namePredicate("amazon"));
+        assertEquals(1, modelManager.getFilteredInternshipList().size());
+
+        Internship editedAmazon = new InternshipBuilder(AMAZON).withName("Amazon Web Services").build();
+        modelManager.setInternship(AMAZON, editedAmazon);
+        assertEquals(Arrays.asList(editedAmazon), modelManager.getFilteredInternshipList());
+
+        Internship bytedanceAmazon = new InternshipBuilder(BYTEDANCE).withName("Bytedance Amazon").build();
+        modelManager.setInternship(BYTEDANCE, bytedanceAmazon);
+        assertEquals(Arrays.asList(editedAmazon, bytedanceAmazon), modelManager.getFilteredInternshipList());
+    }
+
     @Test
     public void canUndo_internshipBookIsNotUndoable_returnsFalse() {
         assertFalse(modelManager.canUndoInternshipBook());
@@ -178,4 +200,10 @@ public class ModelManagerTest {
         differentUserPrefs.setInternshipBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(internshipBook, differentUserPrefs)));
     }
+
+    private static ContainsKeywordsPredicate namePredicate(String keyword) {
+        KeywordList keywordList = new KeywordList();
+        keywordList.addKeyword(new Keyword(keyword));
+        return new ContainsKeywordsPredicate(keywordList, FindableCategory.COMPANY_NAME);
+    }
 }
@@ -4,10 +4,13 @@ package seedu.phu.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.logic.commands.CommandTestUtil.VALID_REMARK_BLACKROCK;
+import static seedu.phu.model.VersionedInternshipBook.DEFAULT_UNDO_LIMIT;
 import static seedu.phu.testutil.Assert.assertThrows;
 import static seedu.phu.testutil.TypicalInternships.AMAZON;
 import static seedu.phu.testutil.TypicalInternships.BYTEDANCE;
 import static seedu.phu.testutil.TypicalInternships.CITADEL;
+import static seedu.phu.testutil.TypicalInternships.DSTA;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,8 +18,11 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.phu.model.history.HistoryMode;
 import seedu.phu.model.internship.ComparableCategory;
+import seedu.phu.model.internship.Internship;
 import seedu.phu.testutil.InternshipBookBuilder;
+import seedu.phu.testutil.InternshipBuilder;
 
 /**
  * Reused from https://github.com/se-edu/addressbook-level4 with some additional testcases
@@ -308,6 +314,170 @@ public class VersionedInternshipBookTest {
         assertFalse(versionedInternshipBook.equals(differentCurrentStatePointer));
     }
 
+    @Test
+    public void undoRedo_individualChanges_restoresCommittedStates() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            assertIndividualChangesUndoneAndRedone(historyMode);
+        }
+    }
+
+    @Test
+    public void sort_withRedoableState_onlyCurrentStateReordered() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            VersionedInternshipBook versionedInternshipBook =
+                    new VersionedInternshipBook(internshipBookWithMultipleValues, historyMode, DEFAULT_UNDO_LIMIT);
+            versionedInternshipBook.removeInternship(AMAZON);
+            versionedInternshipBook.commitChange();
+            versionedInternshipBook.undo();
+
+            // AMAZON -> Backend Intern, CITADEL -> backend engineer, BYTEDANCE -> software engineer
+            versionedInternshipBook.sortInternshipList((x, y) -> x.compareTo(y, ComparableCategory.POSITION));
+            versionedInternshipBook.redo();
+            assertEquals(new InternshipBookBuilder().withInternship(BYTEDANCE).withInternship(CITADEL).build(),
+                    new InternshipBook(versionedInternshipBook));
+            versionedInternshipBook.undo();
+            assertEquals(new InternshipBookBuilder().withInternship(AMAZON).withInternship(CITADEL)
+                    .withInternship(BYTEDANCE).build(), new InternshipBook(versionedInternshipBook));
+        }
+    }
+
+    @Test
+    public void commit_beyondUndoLimit_evictsOldestStates() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            VersionedInternshipBook versionedInternshipBook =
+                    new VersionedInternshipBook(emptyInternshipBook, historyMode, 2);
+            versionedInternshipBook.addInternship(AMAZON);
+            versionedInternshipBook.commitChange();
+            versionedInternshipBook.addInternship(BYTEDANCE);
+            versionedInternshipBook.commitChange();
+            versionedInternshipBook.addInternship(CITADEL);
+            versionedInternshipBook.commitChange();
+
+            assertEquals(3, versionedInternshipBook.getHistorySize());
+            versionedInternshipBook.undo();
+            versionedInternshipBook.undo();
+            assertFalse(versionedInternshipBook.canUndo());
+            assertEquals(internshipBookWithAmazon, new InternshipBook(versionedInternshipBook));
+        }
+    }
+
+    @Test
+    public void estimateHistoryMemoryUsage_moreStates_usesMoreMemory() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            VersionedInternshipBook versionedInternshipBook =
+                    new VersionedInternshipBook(internshipBookWithMultipleValues, historyMode, DEFAULT_UNDO_LIMIT);
+            long initialUsage = versionedInternshipBook.estimateHistoryMemoryUsage();
+            versionedInternshipBook.addInternship(DSTA);
+            versionedInternshipBook.commitChange();
+            assertTrue(versionedInternshipBook.estimateHistoryMemoryUsage() > initialUsage);
+        }
+    }
+
+    @Test
+    public void undo_clearedInternshipBookInDeltaMode_restoresAllInternships() {
+        VersionedInternshipBook versionedInternshipBook =
+                new VersionedInternshipBook(internshipBookWithMultipleValues, HistoryMode.DELTA, DEFAULT_UNDO_LIMIT);
+        versionedInternshipBook.resetData(emptyInternshipBook);
+        versionedInternshipBook.commitChange();
+
+        versionedInternshipBook.undo();
+        assertEquals(internshipBookWithMultipleValues, new InternshipBook(versionedInternshipBook));
+        versionedInternshipBook.redo();
+        assertEquals(emptyInternshipBook, new InternshipBook(versionedInternshipBook));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoableChanges() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            assertRedoableChangesDiscarded(historyMode);
+        }
+    }
+
+    @Test
+    public void endBatch_severalCommits_undoneAsOneChange() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            VersionedInternshipBook versionedInternshipBook =
+                    new VersionedInternshipBook(internshipBookWithAmazon, historyMode, DEFAULT_UNDO_LIMIT);
+            versionedInternshipBook.startBatch();
+            versionedInternshipBook.addInternship(BYTEDANCE);
+            versionedInternshipBook.commitChange();
+            versionedInternshipBook.addInternship(CITADEL);
+            versionedInternshipBook.commitChange();
+            assertFalse(versionedInternshipBook.canUndo());
+
+            assertTrue(versionedInternshipBook.endBatch());
+            versionedInternshipBook.undo();
+            assertFalse(versionedInternshipBook.canUndo());
+            assertEquals(internshipBookWithAmazon, new InternshipBook(versionedInternshipBook));
+        }
+    }
+
+    @Test
+    public void endBatch_nothingCommitted_noStateSaved() {
+        VersionedInternshipBook versionedInternshipBook = prepareInternshipBookList(emptyInternshipBook);
+        versionedInternshipBook.startBatch();
+        assertFalse(versionedInternshipBook.endBatch());
+        assertFalse(versionedInternshipBook.canUndo());
+    }
+
+    @Test
+    public void rollBackBatch_committedChanges_stateBeforeBatchRestored() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            VersionedInternshipBook versionedInternshipBook =
+                    new VersionedInternshipBook(internshipBookWithMultipleValues, historyMode, DEFAULT_UNDO_LIMIT);
+            versionedInternshipBook.removeInternship(AMAZON);
+            versionedInternshipBook.commitChange();
+
+            versionedInternshipBook.startBatch();
+            versionedInternshipBook.removeInternship(CITADEL);
+            versionedInternshipBook.commitChange();
+            versionedInternshipBook.addInternship(DSTA);
+            versionedInternshipBook.rollBackBatch();
+            assertEquals(new InternshipBookBuilder().withInternship(BYTEDANCE).withInternship(CITADEL).build(),
+                    new InternshipBook(versionedInternshipBook));
+
+            versionedInternshipBook.undo();
+            assertFalse(versionedInternshipBook.canUndo());
+            assertEquals(internshipBookWithMultipleValues, new InternshipBook(versionedInternshipBook));
+        }
+    }
+
+    private void assertIndividualChangesUndoneAndRedone(HistoryMode historyMode) {
+        VersionedInternshipBook versionedInternshipBook =
+                new VersionedInternshipBook(internshipBookWithMultipleValues, historyMode, DEFAULT_UNDO_LIMIT);
+        Internship editedBytedance = new InternshipBuilder(BYTEDANCE).withRemark(VALID_REMARK_BLACKROCK).build();
+
+        versionedInternshipBook.removeInternship(AMAZON);
+        versionedInternshipBook.commitChange();
+        versionedInternshipBook.setInternship(BYTEDANCE, editedBytedance);
+        versionedInternshipBook.addInternship(DSTA);
+        versionedInternshipBook.commitChange();
+
+        versionedInternshipBook.undo();
+        assertEquals(new InternshipBookBuilder().withInternship(BYTEDANCE).withInternship(CITADEL).build(),
+                new InternshipBook(versionedInternshipBook));
+        versionedInternshipBook.undo();
+        assertEquals(internshipBookWithMultipleValues, new InternshipBook(versionedInternshipBook));
+        versionedInternshipBook.redo();
+        versionedInternshipBook.redo();
+        assertEquals(new InternshipBookBuilder().withInternship(editedBytedance).withInternship(CITADEL)
+                .withInternship(DSTA).build(), new InternshipBook(versionedInternshipBook));
+    }
+
+    private void assertRedoableChangesDiscarded(HistoryMode historyMode) {
+        VersionedInternshipBook versionedInternshipBook =
+                new VersionedInternshipBook(internshipBookWithAmazon, historyMode, DEFAULT_UNDO_LIMIT);
+        versionedInternshipBook.addInternship(BYTEDANCE);
+        versionedInternshipBook.commitChange();
+        versionedInternshipBook.undo();
+
+        versionedInternshipBook.addInternship(CITADEL);
+        versionedInternshipBook.commitChange();
+        assertFalse(versionedInternshipBook.canRedo());
+        versionedInternshipBook.undo();
+        assertEquals(internshipBookWithAmazon, new InternshipBook(versionedInternshipBook));
+    }
+
     /**
      * Asserts that {@code versionedInternshipBook} is currently pointing at
      * {@code expectedCurrentState}, states before {@code versionedInternshipBook#currentStatePointer}
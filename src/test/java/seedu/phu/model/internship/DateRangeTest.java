@@ -0,0 +1,58 @@
+package seedu.phu.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class DateRangeTest {
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new DateRange(LocalDate.of(2022, 2, 1), LocalDate.of(2022, 1, 31)));
+    }
+
+    @Test
+    public void isValidDateRange() {
+        // invalid date ranges
+        assertFalse(DateRange.isValidDateRange("")); // empty string
+        assertFalse(DateRange.isValidDateRange("2022-02-02")); // wrong date format
+        assertFalse(DateRange.isValidDateRange("29-02-2022")); // date does not exist
+        assertFalse(DateRange.isValidDateRange("13-2022")); // month does not exist
+        assertFalse(DateRange.isValidDateRange("22")); // year not in yyyy format
+        assertFalse(DateRange.isValidDateRange("02-02-2022..01-02-2022")); // end before start
+        assertFalse(DateRange.isValidDateRange("02-02-2022..")); // missing end
+
+        // valid date ranges
+        assertTrue(DateRange.isValidDateRange("29-02-2020")); // single date
+        assertTrue(DateRange.isValidDateRange("01-02-2022..01-02-2022")); // range of one day
+        assertTrue(DateRange.isValidDateRange("01-02-2022..01-03-2023")); // range of dates
+        assertTrue(DateRange.isValidDateRange("02-2022")); // month
+        assertTrue(DateRange.isValidDateRange("2022")); // year
+    }
+
+    @Test
+    public void parse_validDateRanges_returnsInclusiveRange() {
+        assertEquals(Optional.of(new DateRange(LocalDate.of(2020, 2, 1), LocalDate.of(2020, 2, 29))),
+                DateRange.parse("02-2020"));
+        assertEquals(Optional.of(new DateRange(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31))),
+                DateRange.parse("2022"));
+        assertEquals(Optional.of(new DateRange(LocalDate.of(2022, 9, 14), LocalDate.of(2022, 9, 24))),
+                DateRange.parse("14-09-2022..24-09-2022"));
+    }
+
+    @Test
+    public void contains() {
+        DateRange range = new DateRange(LocalDate.of(2022, 9, 14), LocalDate.of(2022, 9, 24));
+        assertTrue(range.contains(LocalDate.of(2022, 9, 14)));
+        assertTrue(range.contains(LocalDate.of(2022, 9, 24)));
+        assertFalse(range.contains(LocalDate.of(2022, 9, 13)));
+        assertFalse(range.contains(LocalDate.of(2022, 9, 25)));
+    }
+}
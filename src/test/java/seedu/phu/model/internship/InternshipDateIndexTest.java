@@ -0,0 +1,73 @@
+package seedu.phu.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.BYTEDANCE;
+import static seedu.phu.testutil.TypicalInternships.DSTA;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternships;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.commons.core.keyword.Keyword;
+import seedu.phu.commons.core.keyword.KeywordList;
+import seedu.phu.model.internship.ApplicationProcess.ApplicationProcessState;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class InternshipDateIndexTest {
+
+    private static final DateRange SEPTEMBER_2022 = DateRange.parse("09-2022").get();
+
+    private final InternshipDateIndex index = new InternshipDateIndex();
+
+    @Test
+    public void count_rangeAndState_countsMatchingInternships() {
+        index.rebuild(getTypicalInternships());
+        for (ApplicationProcessState state : ApplicationProcessState.values()) {
+            long expected = getTypicalInternships().stream()
+                    .filter(internship -> internship.getApplicationProcess().value == state)
+                    .filter(internship -> SEPTEMBER_2022.contains(internship.getDate().value))
+                    .count();
+            assertEquals(expected, index.count(state, SEPTEMBER_2022));
+        }
+        assertEquals(1, index.count(ApplicationProcessState.INTERVIEW, DateRange.parse("14-09-2022").get()));
+    }
+
+    @Test
+    public void find_afterRemove_omitsRemovedInternship() {
+        index.add(AMAZON);
+        index.add(BYTEDANCE);
+        index.add(DSTA);
+        index.remove(BYTEDANCE);
+
+        Set<Internship> found = index.find(Arrays.asList(SEPTEMBER_2022));
+        assertEquals(1, found.size());
+        assertTrue(found.contains(DSTA));
+        assertEquals(0, index.count(ApplicationProcessState.ASSESSMENT, SEPTEMBER_2022));
+    }
+
+    @Test
+    public void toIndexedPredicate_dateRanges_agreesWithPredicate() {
+        UniqueInternshipList uniqueInternshipList = new UniqueInternshipList();
+        uniqueInternshipList.setInternships(getTypicalInternships());
+        uniqueInternshipList.setInternship(AMAZON, new InternshipBuilder(AMAZON).withDate("01-10-2022").build());
+
+        List<List<String>> keywordSets = Arrays.asList(Arrays.asList("24-09-2022"), Arrays.asList("2022"),
+                Arrays.asList("09-2022", "10-2022"), Arrays.asList("14-09-2022..23-09-2022"), Arrays.asList("2021"));
+        for (List<String> keywords : keywordSets) {
+            KeywordList keywordList = new KeywordList();
+            keywords.forEach(keyword -> keywordList.addKeyword(new Keyword(keyword)));
+            ContainsKeywordsPredicate predicate = new ContainsKeywordsPredicate(keywordList, FindableCategory.DATE);
+            Predicate<Internship> indexedPredicate = uniqueInternshipList.toIndexedPredicate(predicate);
+            for (Internship internship : uniqueInternshipList) {
+                assertEquals(predicate.test(internship), indexedPredicate.test(internship),
+                        keywords + " " + internship);
+            }
+        }
+    }
+}
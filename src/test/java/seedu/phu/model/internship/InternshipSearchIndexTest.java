@@ -0,0 +1,174 @@
+package seedu.phu.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.BYTEDANCE;
+import static seedu.phu.testutil.TypicalInternships.CITADEL;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternships;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.commons.core.keyword.Keyword;
+import seedu.phu.commons.core.keyword.KeywordList;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class InternshipSearchIndexTest {
+
+    private static final List<List<String>> KEYWORD_SETS = Arrays.asList(
+            Arrays.asList("engineer"), Arrays.asList("ENG"), Arrays.asList("a"), Arrays.asList("data", "front"),
+            Arrays.asList("stocks"), Arrays.asList("OCK", "money"), Arrays.asList("amazon", "hoon"),
+            Arrays.asList("meier"), Arrays.asList("absent"));
+
+    private static final List<FindableCategory> INDEXED_CATEGORIES = Arrays.asList(
+            FindableCategory.COMPANY_NAME, FindableCategory.POSITION, FindableCategory.TAG);
+
+    private final UniqueInternshipList uniqueInternshipList = new UniqueInternshipList();
+
+    @Test
+    public void find_unindexedCategory_returnsEmpty() {
+        InternshipSearchIndex index = new InternshipSearchIndex();
+        assertFalse(index.find(FindableCategory.DATE, Arrays.asList("01-01-2022")).isPresent());
+        assertFalse(index.find(FindableCategory.APPLICATION_PROCESS, Arrays.asList("applied")).isPresent());
+    }
+
+    @Test
+    public void find_keywordWithWhitespace_returnsEmpty() {
+        InternshipSearchIndex index = new InternshipSearchIndex();
+        assertFalse(index.find(FindableCategory.POSITION, Arrays.asList("data analyst")).isPresent());
+    }
+
+    @Test
+    public void find_substringOfWord_returnsMatches() {
+        InternshipSearchIndex index = new InternshipSearchIndex();
+        index.rebuild(getTypicalInternships());
+
+        Optional<Set<Internship>> matches = index.find(FindableCategory.POSITION, Arrays.asList("END"));
+        assertTrue(matches.isPresent());
+        assertEquals(scan(getTypicalInternships(), FindableCategory.POSITION, Arrays.asList("END")),
+                matches.get().stream().map(Internship::toString).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void find_afterRemove_omitsRemovedInternship() {
+        InternshipSearchIndex index = new InternshipSearchIndex();
+        index.add(AMAZON);
+        index.add(BYTEDANCE);
+        index.remove(BYTEDANCE);
+
+        assertEquals(1, index.find(FindableCategory.TAG, Arrays.asList("stocks")).get().size());
+        assertTrue(index.find(FindableCategory.TAG, Arrays.asList("owesmoney")).get().isEmpty());
+    }
+
+    @Test
+    public void find_wordWithAllTrigramsButNotKeyword_notMatched() {
+        InternshipSearchIndex index = new InternshipSearchIndex();
+        index.add(new InternshipBuilder().withPosition("abcxbcd").build());
+
+        assertTrue(index.find(FindableCategory.POSITION, Arrays.asList("abcd")).get().isEmpty());
+        assertEquals(1, index.find(FindableCategory.POSITION, Arrays.asList("xbc")).get().size());
+    }
+
+    @Test
+    public void find_wholeWordKeyword_matchesWordAndLongerWords() {
+        InternshipSearchIndex index = new InternshipSearchIndex();
+        Internship wholeWord = new InternshipBuilder().withPosition("Data").build();
+        Internship longerWord = new InternshipBuilder().withPosition("Bigdata").build();
+        index.add(wholeWord);
+        index.add(longerWord);
+        index.add(new InternshipBuilder().withPosition("Dat").build());
+
+        Set<Internship> matches = index.find(FindableCategory.POSITION, Arrays.asList("data")).get();
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(wholeWord));
+        assertTrue(matches.contains(longerWord));
+        assertEquals(1, index.find(FindableCategory.POSITION, Arrays.asList("bigdata")).get().size());
+    }
+
+    @Test
+    public void find_keywordShorterThanTrigram_scansWords() {
+        InternshipSearchIndex index = new InternshipSearchIndex();
+        index.rebuild(getTypicalInternships());
+
+        assertEquals(scan(getTypicalInternships(), FindableCategory.COMPANY_NAME, Arrays.asList("Ba", "m")),
+                index.find(FindableCategory.COMPANY_NAME, Arrays.asList("Ba", "m")).get().stream()
+                        .map(Internship::toString).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void toIndexedPredicate_typicalInternships_agreesWithPredicate() {
+        uniqueInternshipList.setInternships(getTypicalInternships());
+        assertAgreesWithPredicate();
+    }
+
+    @Test
+    public void toIndexedPredicate_afterEdits_agreesWithPredicate() {
+        uniqueInternshipList.setInternships(getTypicalInternships());
+        uniqueInternshipList.remove(CITADEL);
+        uniqueInternshipList.setInternship(AMAZON, new InternshipBuilder(AMAZON).withPosition("Data Scientist")
+                .withTags("owesMoney").build());
+        uniqueInternshipList.add(new InternshipBuilder().withName("Stripe Frontend").withPosition("engineer")
+                .build());
+        uniqueInternshipList.replaceRange(0, 2, Arrays.asList(CITADEL));
+        assertAgreesWithPredicate();
+    }
+
+    @Test
+    public void toIndexedPredicate_listChangedAfterSearch_fallsBackToPredicate() {
+        uniqueInternshipList.setInternships(getTypicalInternships());
+        ContainsKeywordsPredicate predicate = predicate(FindableCategory.POSITION, Arrays.asList("scientist"));
+        Predicate<Internship> indexedPredicate = uniqueInternshipList.toIndexedPredicate(predicate);
+
+        Internship editedAmazon = new InternshipBuilder(AMAZON).withPosition("Data Scientist").build();
+        uniqueInternshipList.setInternship(AMAZON, editedAmazon);
+        assertTrue(indexedPredicate.test(editedAmazon));
+    }
+
+    @Test
+    public void toIndexedPredicate_unindexedCategory_returnsPredicate() {
+        ContainsKeywordsPredicate predicate = predicate(FindableCategory.APPLICATION_PROCESS,
+                Arrays.asList("applied"));
+        assertSame(predicate, uniqueInternshipList.toIndexedPredicate(predicate));
+    }
+
+    @Test
+    public void getModificationCount_changes_increases() {
+        int initialCount = uniqueInternshipList.getModificationCount();
+        uniqueInternshipList.add(AMAZON);
+        uniqueInternshipList.reverseList();
+        assertEquals(initialCount + 2, uniqueInternshipList.getModificationCount());
+    }
+
+    private void assertAgreesWithPredicate() {
+        for (FindableCategory category : INDEXED_CATEGORIES) {
+            for (List<String> keywords : KEYWORD_SETS) {
+                ContainsKeywordsPredicate predicate = predicate(category, keywords);
+                Predicate<Internship> indexedPredicate = uniqueInternshipList.toIndexedPredicate(predicate);
+                for (Internship internship : uniqueInternshipList) {
+                    assertEquals(predicate.test(internship), indexedPredicate.test(internship),
+                            category + " " + keywords + " " + internship);
+                }
+            }
+        }
+    }
+
+    private static Set<String> scan(List<Internship> internships, FindableCategory category, List<String> keywords) {
+        ContainsKeywordsPredicate predicate = predicate(category, keywords);
+        return internships.stream().filter(predicate).map(Internship::toString).collect(Collectors.toSet());
+    }
+
+    private static ContainsKeywordsPredicate predicate(FindableCategory category, List<String> keywords) {
+        KeywordList keywordList = new KeywordList();
+        keywords.forEach(keyword -> keywordList.addKeyword(new Keyword(keyword)));
+        return new ContainsKeywordsPredicate(keywordList, category);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.phu.model.internship;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.phu.testutil.Assert.assertThrows;
@@ -19,6 +20,12 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void fromTrusted_invalidName_notValidated() {
+        assertEquals("R@chel", Name.fromTrusted("R@chel").fullName);
+        assertThrows(NullPointerException.class, () -> Name.fromTrusted(null));
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -0,0 +1,71 @@
+package seedu.phu.model.internship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.BYTEDANCE;
+import static seedu.phu.testutil.TypicalInternships.DSTA;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternships;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.commons.core.observable.ObservedArrayList;
+import seedu.phu.model.internship.ApplicationProcess.ApplicationProcessState;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class StatisticTest {
+
+    private final ObservedArrayList<Internship> internships = new ObservedArrayList<>(getTypicalInternships());
+    private final Statistic statistic = new Statistic(internships);
+
+    @Test
+    public void getGroupedData_afterChanges_matchesRecount() {
+        assertCountsMatchList();
+
+        internships.remove(AMAZON);
+        internships.add(new InternshipBuilder(AMAZON).withApplicationProcess("OFFER").build());
+        internships.set(internships.indexOf(BYTEDANCE),
+                new InternshipBuilder(BYTEDANCE).withApplicationProcess("REJECTED").build());
+        internships.remove(DSTA);
+        internships.sort((first, second) -> first.getName().toString().compareTo(second.getName().toString()));
+        assertCountsMatchList();
+
+        internships.setAll(Arrays.asList(AMAZON, BYTEDANCE));
+        assertCountsMatchList();
+
+        internships.clear();
+        assertCountsMatchList();
+    }
+
+    @Test
+    public void getWidth_typicalInternships_sumsToHundredPercent() {
+        double total = statistic.getWidth().values().stream().mapToDouble(Double::doubleValue).sum();
+        assertEquals(100, total, 1e-9);
+    }
+
+    @Test
+    public void addListener_listChanged_notifiedOnceAfterCountsUpdated() {
+        int[] notifications = new int[1];
+        int appliedCount = statistic.getCount(ApplicationProcessState.APPLIED);
+        statistic.addListener(() -> {
+            notifications[0]++;
+            assertEquals(appliedCount - 1, statistic.getCount(ApplicationProcessState.APPLIED));
+        });
+
+        internships.remove(AMAZON);
+        assertEquals(1, notifications[0]);
+    }
+
+    private void assertCountsMatchList() {
+        Map<ApplicationProcessState, Integer> groupedData = statistic.getGroupedData();
+        for (ApplicationProcessState state : ApplicationProcessState.values()) {
+            long expected = internships.stream()
+                    .filter(internship -> internship.getApplicationProcess().value == state)
+                    .count();
+            assertEquals(expected, (long) groupedData.get(state), state.name());
+        }
+        assertEquals(internships.size(), statistic.getTotal());
+    }
+}
@@ -8,9 +8,13 @@ import static seedu.phu.logic.commands.CommandTestUtil.VALID_TAG_TRANSPORT;
 import static seedu.phu.testutil.Assert.assertThrows;
 import static seedu.phu.testutil.TypicalInternships.AMAZON;
 import static seedu.phu.testutil.TypicalInternships.BLACKROCK;
+import static seedu.phu.testutil.TypicalInternships.BYTEDANCE;
+import static seedu.phu.testutil.TypicalInternships.CITADEL;
+import static seedu.phu.testutil.TypicalInternships.DSTA;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -48,6 +52,16 @@ public class UniqueInternshipListTest {
         assertTrue(uniqueInternshipList.contains(editedAmazon));
     }
 
+    @Test
+    public void contains_internshipWithDifferentCaseIdentityInList_returnsTrue() {
+        uniqueInternshipList.add(AMAZON);
+        Internship upperCaseAmazon = new InternshipBuilder(AMAZON)
+                .withName(AMAZON.getName().fullName.toUpperCase())
+                .withPosition(AMAZON.getPosition().positionName.toUpperCase())
+                .build();
+        assertTrue(uniqueInternshipList.contains(upperCaseAmazon));
+    }
+
     @Test
     public void add_nullInternship_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueInternshipList.add(null));
@@ -129,6 +143,44 @@ public class UniqueInternshipListTest {
         assertEquals(expectedUniqueInternshipList, uniqueInternshipList);
     }
 
+    @Test
+    public void remove_internshipWithSameIdentityButDifferentFields_throwsInternshipNotFoundException() {
+        uniqueInternshipList.add(AMAZON);
+        Internship editedAmazon = new InternshipBuilder(AMAZON).withRemark(VALID_REMARK_BLACKROCK).build();
+        assertThrows(InternshipNotFoundException.class, () -> uniqueInternshipList.remove(editedAmazon));
+    }
+
+    @Test
+    public void remove_afterEarlierRemovals_indexStaysConsistent() {
+        uniqueInternshipList.setInternships(Arrays.asList(AMAZON, BLACKROCK, BYTEDANCE, CITADEL, DSTA));
+        uniqueInternshipList.remove(BLACKROCK);
+        uniqueInternshipList.remove(AMAZON);
+        uniqueInternshipList.remove(DSTA);
+        uniqueInternshipList.add(AMAZON);
+
+        UniqueInternshipList expectedUniqueInternshipList = new UniqueInternshipList();
+        expectedUniqueInternshipList.setInternships(Arrays.asList(BYTEDANCE, CITADEL, AMAZON));
+        assertEquals(expectedUniqueInternshipList, uniqueInternshipList);
+        assertTrue(uniqueInternshipList.isIndexConsistent());
+    }
+
+    @Test
+    public void setInternship_afterReorderingAndRemoval_indexStaysConsistent() {
+        uniqueInternshipList.setInternships(Arrays.asList(AMAZON, BLACKROCK, BYTEDANCE, CITADEL));
+        uniqueInternshipList.reverseList();
+        uniqueInternshipList.remove(CITADEL);
+        uniqueInternshipList.setInternship(AMAZON, DSTA);
+        uniqueInternshipList.sortInternship((first, second) -> first.compareTo(second, ComparableCategory.NAME));
+        uniqueInternshipList.remove(BYTEDANCE);
+
+        UniqueInternshipList expectedUniqueInternshipList = new UniqueInternshipList();
+        expectedUniqueInternshipList.setInternships(Arrays.asList(BLACKROCK, DSTA));
+        assertEquals(expectedUniqueInternshipList, uniqueInternshipList);
+        assertTrue(uniqueInternshipList.isIndexConsistent());
+        assertFalse(uniqueInternshipList.contains(AMAZON));
+        assertTrue(uniqueInternshipList.contains(DSTA));
+    }
+
     @Test
     public void setInternships_nullUniqueInternshipList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, ()
@@ -167,8 +219,49 @@ public class UniqueInternshipListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        uniqueInternshipList.add(AMAZON);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Internship> iterator = uniqueInternshipList.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+    }
+
+    @Test
+    public void setInternships_listWithSeveralDuplicates_reportsEveryDuplicatePosition() {
+        Internship editedAmazon = new InternshipBuilder(AMAZON).withRemark(VALID_REMARK_BLACKROCK).build();
+        List<Internship> listWithDuplicateInternships =
+                Arrays.asList(AMAZON, BLACKROCK, editedAmazon, BYTEDANCE, BLACKROCK);
+        uniqueInternshipList.add(CITADEL);
+
+        assertThrows(DuplicateInternshipException.class, "Operation would result in duplicate internships: "
+                + "entry 3 duplicates entry 1, entry 5 duplicates entry 2", ()
+                -> uniqueInternshipList.setInternships(listWithDuplicateInternships));
+
+        // list is left untouched
+        UniqueInternshipList expectedUniqueInternshipList = new UniqueInternshipList();
+        expectedUniqueInternshipList.add(CITADEL);
+        assertEquals(expectedUniqueInternshipList, uniqueInternshipList);
+        assertTrue(uniqueInternshipList.isIndexConsistent());
+    }
+
+    @Test
+    public void setInternships_uniqueInternshipListWithPendingRemovals_copiesConsistentIndex() {
+        UniqueInternshipList replacement = new UniqueInternshipList();
+        replacement.setInternships(Arrays.asList(AMAZON, BLACKROCK, BYTEDANCE));
+        replacement.remove(AMAZON);
+
+        uniqueInternshipList.setInternships(replacement);
+        assertTrue(uniqueInternshipList.isIndexConsistent());
+        uniqueInternshipList.remove(BYTEDANCE);
+        assertFalse(uniqueInternshipList.contains(BYTEDANCE));
+        assertTrue(uniqueInternshipList.contains(BLACKROCK));
+    }
+
+    @Test
+    public void asUnmodifiableObservedList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueInternshipList.asUnmodifiableObservableList().remove(0));
+            -> uniqueInternshipList.asUnmodifiableObservedList().remove(0));
     }
 }
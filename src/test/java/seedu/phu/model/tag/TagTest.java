@@ -1,5 +1,6 @@
 package seedu.phu.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.phu.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,12 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void fromTrusted_invalidTag_notValidated() {
+        assertEquals("#stock", Tag.fromTrusted("#stock").tagName);
+        assertThrows(NullPointerException.class, () -> Tag.fromTrusted(null));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -4,7 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
+import seedu.phu.commons.core.observable.ObservedList;
 import seedu.phu.model.ReadOnlyInternshipBook;
 import seedu.phu.model.internship.Internship;
 
@@ -15,7 +15,7 @@ public class SampleDataUtilTest {
     public void sameInternships() {
         Internship[] internships = sampleData.getSampleInternships();
         ReadOnlyInternshipBook book = sampleData.getSampleInternshipBook();
-        ObservableList<Internship> internshipList = book.getInternshipList();
+        ObservedList<Internship> internshipList = book.getInternshipList();
         for (int i = 0; i < internships.length; i++) {
             assertTrue(internships[i].isSameInternship(internshipList.get(i)));
         }
@@ -0,0 +1,113 @@
+package seedu.phu.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.phu.testutil.Assert.assertThrows;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.ReadOnlyInternshipBook;
+
+public class AsyncInternshipBookSaverTest {
+
+    private final List<Runnable> queuedWrites = new ArrayList<>();
+    private final RecordingStorage storage = new RecordingStorage();
+    private final AsyncInternshipBookSaver saver = new AsyncInternshipBookSaver(storage, queuedWrites::add);
+
+    @Test
+    public void schedule_burstOfChanges_writesLatestOnce() {
+        InternshipBook internshipBook = getTypicalInternshipBook();
+        saver.schedule(internshipBook);
+        internshipBook.removeInternship(AMAZON);
+        saver.schedule(internshipBook);
+        saver.schedule(internshipBook);
+
+        assertEquals(1, queuedWrites.size());
+        queuedWrites.forEach(Runnable::run);
+        assertEquals(1, storage.savedBooks.size());
+        assertEquals(internshipBook.getInternshipList(), storage.savedBooks.get(0).getInternshipList());
+    }
+
+    @Test
+    public void schedule_bookChangedAfterScheduling_writesScheduledState() {
+        InternshipBook internshipBook = getTypicalInternshipBook();
+        InternshipBook expected = new InternshipBook(internshipBook);
+        saver.schedule(internshipBook);
+        internshipBook.removeInternship(AMAZON);
+
+        queuedWrites.forEach(Runnable::run);
+        assertEquals(expected.getInternshipList(), storage.savedBooks.get(0).getInternshipList());
+    }
+
+    @Test
+    public void flush_pendingSnapshot_writesOnCallingThread() throws Exception {
+        saver.schedule(getTypicalInternshipBook());
+        saver.flush();
+        assertEquals(1, storage.savedBooks.size());
+
+        // the queued write finds nothing left to write
+        queuedWrites.forEach(Runnable::run);
+        assertEquals(1, storage.savedBooks.size());
+    }
+
+    @Test
+    public void takeFailure_writeFailed_returnsFailureOnce() {
+        storage.failure = new IOException("disk full");
+        saver.schedule(getTypicalInternshipBook());
+        queuedWrites.forEach(Runnable::run);
+
+        assertSame(storage.failure, saver.takeFailure().get());
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void takeFailure_earlierSnapshotFailed_leavesFailureToCollect() {
+        storage.failure = new IOException("disk full");
+        saver.schedule(getTypicalInternshipBook());
+        queuedWrites.forEach(Runnable::run);
+        queuedWrites.clear();
+        long snapshotNumber = saver.schedule(getTypicalInternshipBook());
+
+        assertFalse(saver.takeFailure(snapshotNumber).isPresent());
+        assertSame(storage.failure, saver.takeFailure().get());
+
+        queuedWrites.forEach(Runnable::run);
+        assertSame(storage.failure, saver.takeFailure(snapshotNumber).get());
+    }
+
+    @Test
+    public void flush_writeFails_throwsIoException() {
+        storage.failure = new IOException("disk full");
+        saver.schedule(getTypicalInternshipBook());
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    /**
+     * Records the books it is asked to save, or fails with {@code failure} if it is set.
+     */
+    private static class RecordingStorage extends JsonInternshipBookStorage {
+        private final List<ReadOnlyInternshipBook> savedBooks = new ArrayList<>();
+        private IOException failure;
+
+        RecordingStorage() {
+            super(Path.of("unused.json"));
+        }
+
+        @Override
+        public void saveInternshipBook(ReadOnlyInternshipBook internshipBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            savedBooks.add(internshipBook);
+        }
+    }
+}
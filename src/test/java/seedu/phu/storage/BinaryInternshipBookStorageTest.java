@@ -0,0 +1,181 @@
+package seedu.phu.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.phu.testutil.Assert.assertThrows;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.HOON;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.model.internship.Name;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class BinaryInternshipBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "internshipbook.bin"),
+                BinaryInternshipBookStorage.getBinaryFilePath(Paths.get("data", "internshipbook.json")));
+        assertEquals(Paths.get("data", "book.bin"),
+                BinaryInternshipBookStorage.getBinaryFilePath(Paths.get("data", "book")));
+    }
+
+    @Test
+    public void readInternshipBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryInternshipBookStorage(testFolder.resolve("missing.bin")).readInternshipBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveInternshipBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("book.bin");
+        InternshipBook original = getTypicalInternshipBook();
+        BinaryInternshipBookStorage storage = new BinaryInternshipBookStorage(filePath);
+
+        storage.saveInternshipBook(original);
+        assertEquals(original, new InternshipBook(storage.readInternshipBook().get()));
+
+        original.addInternship(HOON);
+        original.removeInternship(AMAZON);
+        storage.saveInternshipBook(original);
+        assertEquals(original, new InternshipBook(storage.readInternshipBook().get()));
+    }
+
+    @Test
+    public void readInternships_repeatedValues_shared() throws Exception {
+        InternshipBook original = new InternshipBook();
+        original.addInternship(new InternshipBuilder().withName("Shopee").withPosition("Shopee")
+                .withTags("shopee").build());
+        original.addInternship(new InternshipBuilder().withName("Shopee").withPosition("Backend")
+                .withTags("shopee").build());
+
+        List<Internship> internships = readBack(original);
+        assertEquals(original.getInternshipList(), internships);
+        assertSame(internships.get(0).getName(), internships.get(1).getName());
+        assertSame(internships.get(0).getTags().iterator().next(), internships.get(1).getTags().iterator().next());
+        assertSame(internships.get(0).getDate(), internships.get(1).getDate());
+        assertSame(internships.get(0).getApplicationProcess(), internships.get(1).getApplicationProcess());
+    }
+
+    @Test
+    public void readInternships_notBinary_throwsIllegalValueException() {
+        byte[] json = "{\"internships\":[]}".getBytes();
+        assertThrows(IllegalValueException.class, BinaryInternshipBookStorage.MESSAGE_NOT_BINARY, ()
+                -> BinaryInternshipBookStorage.readInternships(ByteBuffer.wrap(json)));
+    }
+
+    @Test
+    public void readInternships_otherVersion_throwsIllegalValueException() throws Exception {
+        byte[] bytes = write(getTypicalInternshipBook());
+        bytes[5]++;
+        assertThrows(IllegalValueException.class, String.format(BinaryInternshipBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryInternshipBookStorage.FORMAT_VERSION + 1), ()
+                -> BinaryInternshipBookStorage.readInternships(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void readInternships_corruptedByte_throwsIllegalValueException() throws Exception {
+        byte[] bytes = write(getTypicalInternshipBook());
+        // a letter of a name in the string table, so that only the checksum can tell
+        bytes[new String(bytes, "ISO-8859-1").indexOf("Amazon")] ^= 0x20; // "amazon"
+        assertThrows(IllegalValueException.class, BinaryInternshipBookStorage.MESSAGE_CHECKSUM_MISMATCH, ()
+                -> BinaryInternshipBookStorage.readInternships(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void readInternships_trailingData_throwsIllegalValueException() throws Exception {
+        byte[] bytes = write(getTypicalInternshipBook());
+        byte[] longer = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, longer, 0, bytes.length - Long.BYTES);
+        rewriteChecksum(longer);
+        assertThrows(IllegalValueException.class, BinaryInternshipBookStorage.MESSAGE_TRAILING_DATA, ()
+                -> BinaryInternshipBookStorage.readInternships(ByteBuffer.wrap(longer)));
+    }
+
+    @Test
+    public void readInternshipBook_invalidValue_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("book.bin");
+        InternshipBook original = new InternshipBook();
+        original.addInternship(new InternshipBuilder().withName("Valid").build());
+        byte[] bytes = write(original);
+        // replace the "V" of "Valid" with a character that names may not hold, keeping the checksum in step
+        String content = new String(bytes, "ISO-8859-1");
+        Files.write(filePath, rewriteChecksum(content.replace("Valid", "*alid").getBytes("ISO-8859-1")));
+
+        assertThrows(DataConversionException.class, () -> new BinaryInternshipBookStorage(filePath)
+                .readInternshipBook());
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, ()
+                -> BinaryInternshipBookStorage.readInternships(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+    }
+
+    @Test
+    public void readInternships_mappedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("book.bin");
+        InternshipBook original = getTypicalInternshipBook();
+        new BinaryInternshipBookStorage(filePath).saveInternshipBook(original);
+
+        ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        assertEquals(original.getInternshipList(), BinaryInternshipBookStorage.readInternships(content));
+        assertEquals(0, content.position());
+    }
+
+    @Test
+    public void readInternshipBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("book.bin");
+        byte[] bytes = write(getTypicalInternshipBook());
+        byte[] truncated = new byte[bytes.length - 3];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Files.write(filePath, truncated);
+
+        assertThrows(DataConversionException.class, () -> new BinaryInternshipBookStorage(filePath)
+                .readInternshipBook());
+    }
+
+    private static byte[] write(InternshipBook internshipBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryInternshipBookStorage.writeInternshipBook(internshipBook, out);
+        return out.toByteArray();
+    }
+
+    private static List<Internship> readBack(InternshipBook internshipBook) throws Exception {
+        return BinaryInternshipBookStorage.readInternships(ByteBuffer.wrap(write(internshipBook)));
+    }
+
+    /**
+     * Returns {@code bytes} with its last eight bytes replaced by the checksum of the bytes before them.
+     */
+    private static byte[] rewriteChecksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - Long.BYTES);
+        long checksum = crc.getValue();
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[bytes.length - 1 - i] = (byte) (checksum >>> (8 * i));
+        }
+        return bytes;
+    }
+
+}
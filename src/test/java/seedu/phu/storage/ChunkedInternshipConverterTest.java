@@ -0,0 +1,92 @@
+package seedu.phu.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.phu.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.model.internship.Name;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class ChunkedInternshipConverterTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    public void shutDownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void constructor_nonPositiveChunkSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedInternshipConverter(pool, 0, false));
+    }
+
+    @Test
+    public void finish_nothingAdded_emptyList() throws Exception {
+        assertEquals(new ArrayList<>(), new ChunkedInternshipConverter(pool, CHUNK_SIZE, false).finish());
+    }
+
+    @Test
+    public void finish_manyChunks_inputOrderKept() throws Exception {
+        List<Internship> internships = internships(50);
+        ChunkedInternshipConverter converter = new ChunkedInternshipConverter(pool, CHUNK_SIZE, false);
+        for (Internship internship : internships) {
+            converter.add(new JsonAdaptedInternship(internship));
+        }
+        assertEquals(internships, converter.finish());
+    }
+
+    @Test
+    public void finish_invalidEntries_firstInvalidEntryReported() {
+        List<JsonAdaptedInternship> adapted = new ArrayList<>();
+        internships(20).forEach(internship -> adapted.add(new JsonAdaptedInternship(internship)));
+        adapted.set(16, invalidInternship());
+        adapted.set(7, invalidInternship());
+
+        ChunkedInternshipConverter converter = new ChunkedInternshipConverter(pool, CHUNK_SIZE, false);
+        assertThrows(IllegalValueException.class, String.format(ChunkedInternshipConverter.MESSAGE_INVALID_ENTRY,
+                8, Name.MESSAGE_CONSTRAINTS), () -> {
+                    for (JsonAdaptedInternship internship : adapted) {
+                        converter.add(internship);
+                    }
+                    converter.finish();
+                });
+    }
+
+    @Test
+    public void finish_invalidEntryInLastChunk_reported() throws Exception {
+        ChunkedInternshipConverter converter = new ChunkedInternshipConverter(pool, CHUNK_SIZE, false);
+        for (Internship internship : internships(4)) {
+            converter.add(new JsonAdaptedInternship(internship));
+        }
+        converter.add(invalidInternship());
+        assertThrows(IllegalValueException.class, String.format(ChunkedInternshipConverter.MESSAGE_INVALID_ENTRY,
+                5, Name.MESSAGE_CONSTRAINTS), converter::finish);
+    }
+
+    private static List<Internship> internships(int count) {
+        List<Internship> internships = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            internships.add(new InternshipBuilder().withName("Company " + i).build());
+        }
+        return internships;
+    }
+
+    private static JsonAdaptedInternship invalidInternship() {
+        Internship valid = new InternshipBuilder().build();
+        return new JsonAdaptedInternship("R@chel", valid.getPhone().toString(), valid.getEmail().toString(),
+                valid.getRemark().toString(), valid.getPosition().toString(),
+                valid.getApplicationProcess().toString(), valid.getDate().toString(),
+                valid.getWebsite().toString(), new ArrayList<>());
+    }
+}
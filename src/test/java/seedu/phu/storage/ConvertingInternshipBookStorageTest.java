@@ -0,0 +1,104 @@
+package seedu.phu.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.HOON;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.phu.model.InternshipBook;
+
+public class ConvertingInternshipBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readInternshipBook_noFiles_emptyResult() throws Exception {
+        Path jsonPath = testFolder.resolve("book.json");
+        ConvertingInternshipBookStorage storage = new ConvertingInternshipBookStorage(
+                new JsonInternshipBookStorage(jsonPath),
+                new BinaryInternshipBookStorage(BinaryInternshipBookStorage.getBinaryFilePath(jsonPath)));
+        assertFalse(storage.readInternshipBook().isPresent());
+    }
+
+    @Test
+    public void readInternshipBook_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("book.json");
+        Path binaryPath = BinaryInternshipBookStorage.getBinaryFilePath(jsonPath);
+        JsonInternshipBookStorage jsonStorage = new JsonInternshipBookStorage(jsonPath);
+        BinaryInternshipBookStorage binaryStorage = new BinaryInternshipBookStorage(binaryPath);
+        InternshipBook original = getTypicalInternshipBook();
+        jsonStorage.saveInternshipBook(original);
+
+        // switched to the binary format: the json file is read and saved as binary
+        ConvertingInternshipBookStorage toBinary = new ConvertingInternshipBookStorage(binaryStorage, jsonStorage);
+        InternshipBook converted = new InternshipBook(toBinary.readInternshipBook().get());
+        assertEquals(original, converted);
+        converted.addInternship(HOON);
+        toBinary.saveInternshipBook(converted);
+        Files.setLastModifiedTime(binaryPath, FileTime.fromMillis(Files.getLastModifiedTime(jsonPath)
+                .toMillis() + 1000));
+        assertEquals(converted, new InternshipBook(toBinary.readInternshipBook().get()));
+
+        // switched back to json: the newer binary file is read, not the older json file
+        ConvertingInternshipBookStorage toJson = new ConvertingInternshipBookStorage(jsonStorage, binaryStorage);
+        InternshipBook convertedBack = new InternshipBook(toJson.readInternshipBook().get());
+        assertEquals(converted, convertedBack);
+        convertedBack.removeInternship(AMAZON);
+        toJson.saveInternshipBook(convertedBack);
+        Files.setLastModifiedTime(jsonPath, FileTime.fromMillis(Files.getLastModifiedTime(binaryPath)
+                .toMillis() + 1000));
+        assertEquals(convertedBack, new InternshipBook(toJson.readInternshipBook().get()));
+    }
+
+    @Test
+    public void readInternshipBook_newerJournal_readsJsonWithJournal() throws Exception {
+        Path jsonPath = testFolder.resolve("book.json");
+        Path binaryPath = BinaryInternshipBookStorage.getBinaryFilePath(jsonPath);
+        BinaryInternshipBookStorage binaryStorage = new BinaryInternshipBookStorage(binaryPath);
+        JournalInternshipBookStorage journalStorage = new JournalInternshipBookStorage(jsonPath);
+        InternshipBook original = getTypicalInternshipBook();
+        journalStorage.saveInternshipBook(original);
+        binaryStorage.saveInternshipBook(getTypicalInternshipBook());
+        Files.setLastModifiedTime(binaryPath, FileTime.fromMillis(Files.getLastModifiedTime(jsonPath)
+                .toMillis() + 1000));
+
+        original.addInternship(HOON);
+        journalStorage.saveInternshipBook(original);
+        Path journalPath = JournalInternshipBookStorage.getJournalFilePath(jsonPath);
+        Files.setLastModifiedTime(journalPath, FileTime.fromMillis(Files.getLastModifiedTime(binaryPath)
+                .toMillis() + 1000));
+
+        ConvertingInternshipBookStorage toBinary = new ConvertingInternshipBookStorage(binaryStorage,
+                new JsonInternshipBookStorage(jsonPath));
+        assertEquals(original, new InternshipBook(toBinary.readInternshipBook().get()));
+    }
+
+    @Test
+    public void readInternshipBook_newerSegments_readsSegmentDirectory() throws Exception {
+        Path jsonPath = testFolder.resolve("book.json");
+        JsonInternshipBookStorage jsonStorage = new JsonInternshipBookStorage(jsonPath);
+        SegmentedInternshipBookStorage segmentedStorage = new SegmentedInternshipBookStorage(
+                SegmentedInternshipBookStorage.getSegmentDirectoryPath(jsonPath));
+        jsonStorage.saveInternshipBook(getTypicalInternshipBook());
+        InternshipBook original = getTypicalInternshipBook();
+        original.addInternship(HOON);
+        segmentedStorage.saveInternshipBook(original);
+        Path manifestPath = SegmentedInternshipBookStorage.getManifestFilePath(
+                segmentedStorage.getInternshipBookFilePath());
+        Files.setLastModifiedTime(manifestPath, FileTime.fromMillis(Files.getLastModifiedTime(jsonPath)
+                .toMillis() + 1000));
+
+        ConvertingInternshipBookStorage toJson = new ConvertingInternshipBookStorage(jsonStorage, segmentedStorage);
+        assertEquals(original, new InternshipBook(toJson.readInternshipBook().get()));
+    }
+
+}
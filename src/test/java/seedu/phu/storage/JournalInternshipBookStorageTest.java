@@ -0,0 +1,214 @@
+package seedu.phu.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.testutil.Assert.assertThrows;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.HOON;
+import static seedu.phu.testutil.TypicalInternships.IDA;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.commons.util.FileUtil;
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class JournalInternshipBookStorageTest {
+
+    private static final long LARGE_THRESHOLD = 1024 * 1024;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readInternshipBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalInternshipBookStorage(testFolder.resolve("missing.json")).readInternshipBook()
+                .isPresent());
+    }
+
+    @Test
+    public void saveInternshipBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        InternshipBook original = getTypicalInternshipBook();
+        new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD).saveInternshipBook(original);
+
+        assertFalse(Files.exists(JournalInternshipBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new InternshipBook(new JsonInternshipBookStorage(filePath).readInternshipBook().get()));
+    }
+
+    @Test
+    public void saveInternshipBook_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        Path journalPath = JournalInternshipBookStorage.getJournalFilePath(filePath);
+        InternshipBook original = getTypicalInternshipBook();
+        JournalInternshipBookStorage storage = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        storage.saveInternshipBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addInternship(HOON);
+        storage.saveInternshipBook(original);
+        original.removeInternship(AMAZON);
+        storage.saveInternshipBook(original);
+        Internship editedIda = new InternshipBuilder(IDA).withRemark("Edited").build();
+        original.addInternship(IDA);
+        original.setInternship(IDA, editedIda);
+        storage.saveInternshipBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, FileUtil.readFromFile(journalPath).split("\n").length); // header and three entries
+        assertEquals(original, new InternshipBook(new JournalInternshipBookStorage(filePath).readInternshipBook()
+                .get()));
+    }
+
+    @Test
+    public void saveInternshipBook_unchangedBook_journalUntouched() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        InternshipBook original = getTypicalInternshipBook();
+        JournalInternshipBookStorage storage = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        storage.saveInternshipBook(original);
+        storage.saveInternshipBook(original);
+
+        assertFalse(Files.exists(JournalInternshipBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveInternshipBook_afterRead_appendsToExistingJournal() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        Path journalPath = JournalInternshipBookStorage.getJournalFilePath(filePath);
+        InternshipBook original = getTypicalInternshipBook();
+        JournalInternshipBookStorage storage = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        storage.saveInternshipBook(original);
+        original.addInternship(HOON);
+        storage.saveInternshipBook(original);
+
+        JournalInternshipBookStorage reopened = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        InternshipBook readBack = new InternshipBook(reopened.readInternshipBook().get());
+        readBack.addInternship(IDA);
+        reopened.saveInternshipBook(readBack);
+
+        assertEquals(3, FileUtil.readFromFile(journalPath).split("\n").length);
+        assertEquals(readBack, new InternshipBook(new JournalInternshipBookStorage(filePath).readInternshipBook()
+                .get()));
+    }
+
+    @Test
+    public void saveInternshipBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        Path journalPath = JournalInternshipBookStorage.getJournalFilePath(filePath);
+        InternshipBook original = new InternshipBook();
+        JournalInternshipBookStorage storage = new JournalInternshipBookStorage(filePath, false, 0);
+        storage.saveInternshipBook(original);
+
+        original.addInternship(HOON);
+        storage.saveInternshipBook(original);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new InternshipBook(new JsonInternshipBookStorage(filePath).readInternshipBook().get()));
+    }
+
+    @Test
+    public void readInternshipBook_journalOfEarlierSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        Path journalPath = JournalInternshipBookStorage.getJournalFilePath(filePath);
+        InternshipBook original = getTypicalInternshipBook();
+        JournalInternshipBookStorage storage = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        storage.saveInternshipBook(original);
+        original.addInternship(HOON);
+        storage.saveInternshipBook(original);
+        String staleJournal = FileUtil.readFromFile(journalPath);
+
+        // a compaction that was interrupted after writing the new snapshot
+        InternshipBook compacted = getTypicalInternshipBook();
+        compacted.removeInternship(AMAZON);
+        new JsonInternshipBookStorage(filePath).saveInternshipBook(compacted);
+        FileUtil.writeToFile(journalPath, staleJournal);
+
+        JournalInternshipBookStorage reopened = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        assertEquals(compacted, new InternshipBook(reopened.readInternshipBook().get()));
+
+        // the next save starts a fresh snapshot instead of appending to the stale journal
+        compacted.addInternship(IDA);
+        reopened.saveInternshipBook(compacted);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(compacted, new InternshipBook(reopened.readInternshipBook().get()));
+    }
+
+    @Test
+    public void readInternshipBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        Path journalPath = JournalInternshipBookStorage.getJournalFilePath(filePath);
+        InternshipBook original = getTypicalInternshipBook();
+        JournalInternshipBookStorage storage = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        storage.saveInternshipBook(original);
+        original.addInternship(HOON);
+        storage.saveInternshipBook(original);
+        FileUtil.appendToFile(journalPath, "{\"index\":0,\"removedCount\":");
+
+        assertEquals(original, new InternshipBook(new JournalInternshipBookStorage(filePath).readInternshipBook()
+                .get()));
+    }
+
+    @Test
+    public void readInternshipBook_invalidEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        Path journalPath = JournalInternshipBookStorage.getJournalFilePath(filePath);
+        InternshipBook original = getTypicalInternshipBook();
+        JournalInternshipBookStorage storage = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        storage.saveInternshipBook(original);
+        original.addInternship(HOON);
+        storage.saveInternshipBook(original);
+
+        // an entry removing more internships than the book holds
+        String journal = FileUtil.readFromFile(journalPath);
+        FileUtil.writeToFile(journalPath, journal + "{\"index\":0,\"removedCount\":100,\"added\":[]}\n");
+        assertThrows(DataConversionException.class, () -> new JournalInternshipBookStorage(filePath)
+                .readInternshipBook());
+
+        // an unreadable entry followed by another entry
+        FileUtil.writeToFile(journalPath, journal + "not json\n" + journal.split("\n")[1] + "\n");
+        assertThrows(DataConversionException.class, () -> new JournalInternshipBookStorage(filePath)
+                .readInternshipBook());
+    }
+
+    @Test
+    public void jsonStorage_journalPresent_replayedThenFolded() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        Path journalPath = JournalInternshipBookStorage.getJournalFilePath(filePath);
+        InternshipBook original = getTypicalInternshipBook();
+        JournalInternshipBookStorage storage = new JournalInternshipBookStorage(filePath, false, LARGE_THRESHOLD);
+        storage.saveInternshipBook(original);
+        original.addInternship(HOON);
+        storage.saveInternshipBook(original);
+
+        JsonInternshipBookStorage jsonStorage = new JsonInternshipBookStorage(filePath);
+        InternshipBook readBack = new InternshipBook(jsonStorage.readInternshipBook().get());
+        assertEquals(original, readBack);
+
+        jsonStorage.saveInternshipBook(readBack);
+        assertFalse(Files.exists(journalPath));
+        assertTrue(Files.exists(filePath));
+        assertEquals(original, new InternshipBook(jsonStorage.readInternshipBook().get()));
+    }
+
+    @Test
+    public void saveInternshipBook_otherFilePath_writtenWhole() throws Exception {
+        Path filePath = testFolder.resolve("book.json");
+        Path otherPath = testFolder.resolve("other.json");
+        InternshipBook original = getTypicalInternshipBook();
+        new JournalInternshipBookStorage(filePath).saveInternshipBook(original, otherPath);
+
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(JournalInternshipBookStorage.getJournalFilePath(otherPath)));
+        assertEquals(original, new InternshipBook(new JsonInternshipBookStorage(otherPath).readInternshipBook()
+                .get()));
+    }
+
+}
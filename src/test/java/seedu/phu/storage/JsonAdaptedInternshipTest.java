@@ -46,6 +46,12 @@ public class JsonAdaptedInternshipTest {
         assertEquals(BYTEDANCE, internship.toModelType());
     }
 
+    @Test
+    public void toTrustedModelType_validInternshipDetails_returnsInternship() {
+        JsonAdaptedInternship internship = new JsonAdaptedInternship(BYTEDANCE);
+        assertEquals(BYTEDANCE, internship.toTrustedModelType());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedInternship internship =
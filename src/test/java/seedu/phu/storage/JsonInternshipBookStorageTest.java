@@ -2,6 +2,7 @@ package seedu.phu.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.phu.testutil.Assert.assertThrows;
 import static seedu.phu.testutil.TypicalInternships.AMAZON;
 import static seedu.phu.testutil.TypicalInternships.HOON;
@@ -9,6 +10,7 @@ import static seedu.phu.testutil.TypicalInternships.IDA;
 import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.commons.util.FileUtil;
+import seedu.phu.commons.util.JsonUtil;
 import seedu.phu.model.InternshipBook;
 import seedu.phu.model.ReadOnlyInternshipBook;
 
@@ -90,6 +94,75 @@ public class JsonInternshipBookStorageTest {
 
     }
 
+    @Test
+    public void saveInternshipBook_compact_writesSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipBook.json");
+        InternshipBook original = getTypicalInternshipBook();
+        JsonInternshipBookStorage jsonInternshipBookStorage = new JsonInternshipBookStorage(filePath, true);
+
+        jsonInternshipBookStorage.saveInternshipBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new InternshipBook(jsonInternshipBookStorage.readInternshipBook().get()));
+    }
+
+    @Test
+    public void saveInternshipBook_checksumFileWritten_readBack() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipBook.json");
+        InternshipBook original = getTypicalInternshipBook();
+        JsonInternshipBookStorage jsonInternshipBookStorage = new JsonInternshipBookStorage(filePath);
+
+        jsonInternshipBookStorage.saveInternshipBook(original);
+        assertTrue(Files.exists(JsonInternshipBookStorage.getChecksumFilePath(filePath)));
+        assertEquals(original, new InternshipBook(jsonInternshipBookStorage.readInternshipBook().get()));
+    }
+
+    @Test
+    public void readInternshipBook_editedAfterSave_validatedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipBook.json");
+        JsonInternshipBookStorage jsonInternshipBookStorage = new JsonInternshipBookStorage(filePath, true);
+        jsonInternshipBookStorage.saveInternshipBook(getTypicalInternshipBook());
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace("\"Amazon\"", "\"Am@zon\""));
+        assertThrows(DataConversionException.class, jsonInternshipBookStorage::readInternshipBook);
+    }
+
+    @Test
+    public void readInternshipBook_matchingChecksum_fieldsNotValidatedAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipBook.json");
+        JsonInternshipBookStorage jsonInternshipBookStorage = new JsonInternshipBookStorage(filePath, true);
+        jsonInternshipBookStorage.saveInternshipBook(getTypicalInternshipBook());
+
+        // a name that could not have been saved, recorded as if the app had written it
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace("\"Amazon\"", "\"Am@zon\""));
+        recordChecksum(filePath, JsonSerializableInternshipBook.FORMAT_VERSION);
+        assertTrue(jsonInternshipBookStorage.readInternshipBook().get().getInternshipList().stream()
+                .anyMatch(internship -> internship.getName().fullName.equals("Am@zon")));
+
+        // the same file recorded in another format version is validated in full
+        recordChecksum(filePath, JsonSerializableInternshipBook.FORMAT_VERSION + 1);
+        assertThrows(DataConversionException.class, jsonInternshipBookStorage::readInternshipBook);
+    }
+
+    @Test
+    public void readInternshipBook_matchingChecksumButMissingField_validatedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempInternshipBook.json");
+        JsonInternshipBookStorage jsonInternshipBookStorage = new JsonInternshipBookStorage(filePath, true);
+        jsonInternshipBookStorage.saveInternshipBook(getTypicalInternshipBook());
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace("\"name\":\"Amazon\",", ""));
+        recordChecksum(filePath, JsonSerializableInternshipBook.FORMAT_VERSION);
+        assertThrows(DataConversionException.class, jsonInternshipBookStorage::readInternshipBook);
+    }
+
+    /**
+     * Records the checksum of the current content of {@code filePath} in its checksum file, as a save would.
+     */
+    private static void recordChecksum(Path filePath, int formatVersion) throws IOException {
+        long checksum = JsonInternshipBookStorage.checksumOf(FileUtil.readToBuffer(filePath));
+        FileUtil.writeToFile(JsonInternshipBookStorage.getChecksumFilePath(filePath),
+                JsonUtil.toJsonString(new JsonAdaptedDataChecksum(formatVersion, checksum)));
+    }
+
     @Test
     public void saveInternshipBook_nullInternshipBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveInternshipBook(null, "SomeFile.json"));
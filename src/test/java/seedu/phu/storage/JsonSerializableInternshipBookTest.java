@@ -1,14 +1,22 @@
 package seedu.phu.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.phu.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.phu.commons.exceptions.IllegalValueException;
+import seedu.phu.commons.util.FileUtil;
 import seedu.phu.commons.util.JsonUtil;
 import seedu.phu.model.InternshipBook;
 import seedu.phu.testutil.TypicalInternships;
@@ -43,8 +51,62 @@ public class JsonSerializableInternshipBookTest {
     public void toModelType_duplicateInternships_throwsIllegalValueException() throws Exception {
         JsonSerializableInternshipBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_INTERNSHIP_FILE,
                 JsonSerializableInternshipBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableInternshipBook.MESSAGE_DUPLICATE_INTERNSHIP,
+        assertThrows(IllegalValueException.class, JsonSerializableInternshipBook.MESSAGE_DUPLICATE_INTERNSHIP
+                + JsonSerializableInternshipBook.MESSAGE_DUPLICATE_POSITIONS + "entry 2 duplicates entry 1",
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readInternships_typicalInternshipsFile_success() throws Exception {
+        try (InputStream in = FileUtil.openForReading(TYPICAL_INTERNSHIPS_FILE)) {
+            InternshipBook internshipBookFromFile = JsonSerializableInternshipBook.toInternshipBook(
+                    JsonSerializableInternshipBook.readInternships(in));
+            assertEquals(TypicalInternships.getTypicalInternshipBook(), internshipBookFromFile);
+        }
+    }
+
+    @Test
+    public void readInternships_invalidInternshipFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = FileUtil.openForReading(INVALID_INTERNSHIP_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableInternshipBook.readInternships(in));
+        }
+    }
+
+    @Test
+    public void readInternships_unknownFields_skipped() throws Exception {
+        String json = "{\"version\":{\"major\":1},\"internships\":[],\"tags\":[1,2]}";
+        assertEquals(Collections.emptyList(), JsonSerializableInternshipBook.readInternships(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void readInternships_notInternshipBook_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonSerializableInternshipBook.readInternships(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))));
+        assertThrows(IOException.class, () -> JsonSerializableInternshipBook.readInternships(
+                new ByteArrayInputStream("{\"internships\":[".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void writeInternshipBook_compact_readBackWithoutLineBreaks() throws Exception {
+        InternshipBook typicalInternshipBook = TypicalInternships.getTypicalInternshipBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableInternshipBook.writeInternshipBook(typicalInternshipBook, out, true);
+
+        String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertFalse(json.contains("\n"));
+        assertEquals(typicalInternshipBook, JsonUtil.fromJsonString(json,
+                JsonSerializableInternshipBook.class).toModelType());
+    }
+
+    @Test
+    public void writeInternshipBook_pretty_sameAsWholeDocument() throws Exception {
+        InternshipBook typicalInternshipBook = TypicalInternships.getTypicalInternshipBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableInternshipBook.writeInternshipBook(typicalInternshipBook, out, false);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableInternshipBook(typicalInternshipBook)),
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
 }
@@ -14,7 +14,10 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.phu.commons.core.GuiSettings;
 import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.ModelManager;
 import seedu.phu.model.UserPrefs;
+import seedu.phu.model.VersionedInternshipBook;
 
 public class JsonUserPrefsStorageTest {
 
@@ -62,6 +65,16 @@ public class JsonUserPrefsStorageTest {
         assertEquals(new UserPrefs(), actual);
     }
 
+    @Test
+    public void readUserPrefs_negativeUndoLimit_defaultUndoLimitUsed() throws DataConversionException {
+        UserPrefs expected = getTypicalUserPrefs();
+        UserPrefs actual = readUserPrefs("NegativeUndoLimitUserPrefs.json").get();
+
+        assertEquals(expected, actual);
+        assertEquals(VersionedInternshipBook.DEFAULT_UNDO_LIMIT, actual.getUndoLimit());
+        assertEquals(actual, new ModelManager(new InternshipBook(), actual).getUserPrefs());
+    }
+
     @Test
     public void readUserPrefs_extraValuesInFile_extraValuesIgnored() throws DataConversionException {
         UserPrefs expected = getTypicalUserPrefs();
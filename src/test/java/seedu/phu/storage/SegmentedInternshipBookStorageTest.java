@@ -0,0 +1,225 @@
+package seedu.phu.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.phu.testutil.Assert.assertThrows;
+import static seedu.phu.testutil.TypicalInternships.AMAZON;
+import static seedu.phu.testutil.TypicalInternships.EBAY;
+import static seedu.phu.testutil.TypicalInternships.HOON;
+import static seedu.phu.testutil.TypicalInternships.IDA;
+import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.phu.commons.exceptions.DataConversionException;
+import seedu.phu.commons.util.FileUtil;
+import seedu.phu.model.InternshipBook;
+import seedu.phu.model.internship.Internship;
+import seedu.phu.testutil.InternshipBuilder;
+
+public class SegmentedInternshipBookStorageTest {
+
+    private static final int SEGMENT_SIZE = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSegmentDirectoryPath_jsonFile_extensionReplaced() {
+        assertEquals(testFolder.resolve("book.segments"),
+                SegmentedInternshipBookStorage.getSegmentDirectoryPath(testFolder.resolve("book.json")));
+    }
+
+    @Test
+    public void readInternshipBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new SegmentedInternshipBookStorage(testFolder.resolve("missing.segments")).readInternshipBook()
+                .isPresent());
+    }
+
+    @Test
+    public void saveInternshipBook_typicalBook_splitIntoSegments() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        InternshipBook original = getTypicalInternshipBook();
+        SegmentedInternshipBookStorage storage = new SegmentedInternshipBookStorage(directoryPath, false,
+                SEGMENT_SIZE);
+        storage.saveInternshipBook(original);
+
+        assertEquals(3, segmentFiles(directoryPath).size()); // 7 internships
+        assertEquals(original, new InternshipBook(new SegmentedInternshipBookStorage(directoryPath)
+                .readInternshipBook().get()));
+    }
+
+    @Test
+    public void saveInternshipBook_unchangedBook_nothingRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        InternshipBook original = getTypicalInternshipBook();
+        SegmentedInternshipBookStorage storage = new SegmentedInternshipBookStorage(directoryPath, false,
+                SEGMENT_SIZE);
+        storage.saveInternshipBook(original);
+        Set<String> savedFiles = segmentFiles(directoryPath);
+
+        storage.saveInternshipBook(original);
+        assertEquals(savedFiles, segmentFiles(directoryPath));
+    }
+
+    @Test
+    public void saveInternshipBook_editedInternship_onlyItsSegmentRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        InternshipBook original = getTypicalInternshipBook();
+        SegmentedInternshipBookStorage storage = new SegmentedInternshipBookStorage(directoryPath, false,
+                SEGMENT_SIZE);
+        storage.saveInternshipBook(original);
+        Set<String> savedFiles = segmentFiles(directoryPath);
+
+        original.setInternship(EBAY, new InternshipBuilder(EBAY).withRemark("Edited").build());
+        storage.saveInternshipBook(original);
+
+        assertEquals(2, countCommon(savedFiles, segmentFiles(directoryPath)));
+        assertEquals(3, segmentFiles(directoryPath).size());
+        assertEquals(original, new InternshipBook(new SegmentedInternshipBookStorage(directoryPath)
+                .readInternshipBook().get()));
+    }
+
+    @Test
+    public void saveInternshipBook_addedAndRemovedInternships_onlyChangedSegmentsRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        InternshipBook original = getTypicalInternshipBook();
+        SegmentedInternshipBookStorage storage = new SegmentedInternshipBookStorage(directoryPath, false,
+                SEGMENT_SIZE);
+        storage.saveInternshipBook(original);
+        Set<String> savedFiles = segmentFiles(directoryPath);
+
+        // appended internships fill up the last segment
+        original.addInternship(HOON);
+        original.addInternship(IDA);
+        storage.saveInternshipBook(original);
+        assertEquals(2, countCommon(savedFiles, segmentFiles(directoryPath)));
+        savedFiles = segmentFiles(directoryPath);
+
+        // removing from the first segment leaves the others untouched
+        original.removeInternship(AMAZON);
+        storage.saveInternshipBook(original);
+        assertEquals(2, countCommon(savedFiles, segmentFiles(directoryPath)));
+        assertEquals(original, new InternshipBook(new SegmentedInternshipBookStorage(directoryPath)
+                .readInternshipBook().get()));
+    }
+
+    @Test
+    public void saveInternshipBook_afterRead_onlyChangedSegmentRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        new SegmentedInternshipBookStorage(directoryPath, false, SEGMENT_SIZE)
+                .saveInternshipBook(getTypicalInternshipBook());
+        Set<String> savedFiles = segmentFiles(directoryPath);
+
+        SegmentedInternshipBookStorage reopened = new SegmentedInternshipBookStorage(directoryPath, false,
+                SEGMENT_SIZE);
+        InternshipBook readBack = new InternshipBook(reopened.readInternshipBook().get());
+        readBack.removeInternship(EBAY);
+        reopened.saveInternshipBook(readBack);
+
+        assertEquals(2, countCommon(savedFiles, segmentFiles(directoryPath)));
+        assertEquals(readBack, new InternshipBook(reopened.readInternshipBook().get()));
+    }
+
+    @Test
+    public void saveInternshipBook_emptyBook_noSegments() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        SegmentedInternshipBookStorage storage = new SegmentedInternshipBookStorage(directoryPath, false,
+                SEGMENT_SIZE);
+        storage.saveInternshipBook(getTypicalInternshipBook());
+        storage.saveInternshipBook(new InternshipBook());
+
+        assertTrue(segmentFiles(directoryPath).isEmpty());
+        assertEquals(new InternshipBook(), new InternshipBook(storage.readInternshipBook().get()));
+    }
+
+    @Test
+    public void readInternshipBook_segmentEditedByHand_validatedInFull() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        new SegmentedInternshipBookStorage(directoryPath, true, SEGMENT_SIZE)
+                .saveInternshipBook(getTypicalInternshipBook());
+
+        for (String fileName : segmentFiles(directoryPath)) {
+            Path segmentPath = directoryPath.resolve(fileName);
+            FileUtil.writeToFile(segmentPath, FileUtil.readFromFile(segmentPath)
+                    .replace("\"Amazon\"", "\"Am@zon\""));
+        }
+        assertThrows(DataConversionException.class, () -> new SegmentedInternshipBookStorage(directoryPath)
+                .readInternshipBook());
+    }
+
+    @Test
+    public void readInternshipBook_manifestNamesOtherFile_throwsDataConversionException() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        Internship internship = new InternshipBuilder().build();
+        InternshipBook book = new InternshipBook();
+        book.addInternship(internship);
+        new SegmentedInternshipBookStorage(directoryPath).saveInternshipBook(book);
+
+        Path manifestPath = SegmentedInternshipBookStorage.getManifestFilePath(directoryPath);
+        FileUtil.writeToFile(manifestPath, FileUtil.readFromFile(manifestPath).replace("segment-", "../segment-"));
+        assertThrows(DataConversionException.class, () -> new SegmentedInternshipBookStorage(directoryPath)
+                .readInternshipBook());
+    }
+
+    @Test
+    public void readInternshipBook_segmentIdTooLarge_throwsDataConversionException() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        new SegmentedInternshipBookStorage(directoryPath).saveInternshipBook(getTypicalInternshipBook());
+
+        String oversizedFileName = "segment-99999999999999999999.json";
+        Files.copy(directoryPath.resolve("segment-0.json"), directoryPath.resolve(oversizedFileName));
+        Path manifestPath = SegmentedInternshipBookStorage.getManifestFilePath(directoryPath);
+        FileUtil.writeToFile(manifestPath, FileUtil.readFromFile(manifestPath)
+                .replace("segment-0.json", oversizedFileName));
+        assertThrows(DataConversionException.class, () -> new SegmentedInternshipBookStorage(directoryPath)
+                .readInternshipBook());
+    }
+
+    @Test
+    public void saveInternshipBook_fileWithSegmentIdTooLarge_ignored() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        Path oversizedPath = directoryPath.resolve("segment-99999999999999999999.json");
+        FileUtil.createFile(oversizedPath);
+
+        InternshipBook original = getTypicalInternshipBook();
+        new SegmentedInternshipBookStorage(directoryPath).saveInternshipBook(original);
+        assertEquals(original, new InternshipBook(new SegmentedInternshipBookStorage(directoryPath)
+                .readInternshipBook().get()));
+        assertTrue(Files.exists(oversizedPath));
+    }
+
+    @Test
+    public void saveInternshipBook_otherDirectory_writtenWhole() throws Exception {
+        Path directoryPath = testFolder.resolve("book.segments");
+        Path otherPath = testFolder.resolve("other.segments");
+        InternshipBook original = getTypicalInternshipBook();
+        new SegmentedInternshipBookStorage(directoryPath, false, SEGMENT_SIZE).saveInternshipBook(original, otherPath);
+
+        assertFalse(Files.exists(directoryPath));
+        assertEquals(original, new InternshipBook(new SegmentedInternshipBookStorage(otherPath)
+                .readInternshipBook().get()));
+    }
+
+    private static Set<String> segmentFiles(Path directoryPath) throws IOException {
+        try (Stream<Path> paths = Files.list(directoryPath)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(fileName -> !fileName.equals(SegmentedInternshipBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+
+    private static long countCommon(Set<String> before, Set<String> after) {
+        return before.stream().filter(after::contains).count();
+    }
+}
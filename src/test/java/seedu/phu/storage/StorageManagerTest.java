@@ -1,6 +1,7 @@
 package seedu.phu.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.phu.testutil.TypicalInternships.getTypicalInternshipBook;
 
@@ -60,9 +61,29 @@ public class StorageManagerTest {
         assertEquals(original, new InternshipBook(retrieved));
     }
 
+    @Test
+    public void archiveReadSave() throws Exception {
+        assertFalse(storageManager.readArchive().isPresent());
+
+        InternshipBook original = getTypicalInternshipBook();
+        storageManager.saveArchive(original);
+        assertEquals(original, new InternshipBook(storageManager.readArchive().get()));
+        // the archive is kept apart from the internship book
+        assertFalse(storageManager.readInternshipBook().isPresent());
+    }
+
     @Test
     public void getInternshipBookFilePath() {
         assertNotNull(storageManager.getInternshipBookFilePath());
     }
 
+    @Test
+    public void getArchiveFilePath() {
+        assertEquals(testFolder.resolve("ab.archive"), storageManager.getArchiveFilePath());
+        assertEquals(testFolder.resolve("internshipbook.archive.json"),
+                StorageManager.getArchiveFilePath(testFolder.resolve("internshipbook.json")));
+        assertEquals(testFolder.resolve(".book.archive"),
+                StorageManager.getArchiveFilePath(testFolder.resolve(".book")));
+    }
+
 }
@@ -1,6 +1,10 @@
 package seedu.phu.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,18 +19,23 @@ import seedu.phu.logic.commands.exceptions.CommandException;
 public class CommandBoxTest extends GuiUnitTest {
     private static final String CHILD_ID = "#commandTextField"; // id to handle fxml query
     private static final String INVALID_COMMAND = "invalid command";
+    private static final String SLOW_COMMAND = "slow command";
 
     private CommandBox commandBox;
     private TextField childTextField;
+    private final CompletableFuture<CommandResult> slowResult = new CompletableFuture<>();
 
     @BeforeEach
     public void setUp() {
         commandBox = new CommandBox(commandText -> {
             if (commandText.equals(INVALID_COMMAND)) {
-                throw new CommandException("invalid");
+                return CompletableFuture.failedFuture(new CommandException("invalid"));
+            }
+            if (commandText.equals(SLOW_COMMAND)) {
+                return slowResult;
             }
 
-            return new CommandResult("valid");
+            return CompletableFuture.completedFuture(new CommandResult("valid"));
         });
         childTextField = getChildNode(commandBox.getRoot(), CHILD_ID);
         assert childTextField != null; // make sure that childTextField is not null
@@ -47,6 +56,17 @@ public class CommandBoxTest extends GuiUnitTest {
         checkCurrentDisplay(INVALID_COMMAND);
     }
 
+    @Test
+    public void inputCommand_running_busyUntilFinished() {
+        executeInput(SLOW_COMMAND);
+        assertTrue(childTextField.getStyleClass().contains(CommandBox.BUSY_STYLE_CLASS));
+        checkCurrentDisplay(SLOW_COMMAND);
+
+        robot.interact(() -> slowResult.complete(new CommandResult("valid")));
+        assertFalse(childTextField.getStyleClass().contains(CommandBox.BUSY_STYLE_CLASS));
+        checkCurrentDisplay("");
+    }
+
     @Test
     public void getPreviousCommandInHistory_noCommandPreviously_success() {
         robot.push(KeyCode.UP);
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collections;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,24 @@ public class InternshipCardTest extends GuiUnitTest {
         checkDisplay(internshipCard, internship, TEST_INDEX);
     }
 
+    @Test
+    public void bind_differentInternship_displaysNewInternship() {
+        InternshipCard internshipCard = new InternshipCard(new InternshipBuilder()
+                .withApplicationProcess("APPLIED").withTags("remote", "summer", "paid").build(), TEST_INDEX);
+        Internship internship = new InternshipBuilder().withName("randomCompany")
+                .withApplicationProcess("OFFER").withTags("winter").build();
+        internshipCard.bind(internship, TEST_INDEX + 1);
+        uiPartExtension.setUiPart(internshipCard);
+
+        assertEquals(internship, internshipCard.getInternship());
+        Label internshipApplicationProcess = getChildNode(internshipCard.getRoot(), APPLICATION_PROCESS_ID);
+        assertTrue(internshipApplicationProcess.getStyleClass().contains("application_process-OFFER"));
+        assertFalse(internshipApplicationProcess.getStyleClass().contains("application_process-APPLIED"));
+        FlowPane internshipTags = getChildNode(internshipCard.getRoot(), TAGS_ID);
+        assertEquals(Collections.singletonList("winter"), internshipTags.getChildrenUnmodifiable().stream()
+                .map(node -> ((Label) node).getText()).collect(Collectors.toList()));
+    }
+
     @Test
     public void equals() {
         Internship internship = new InternshipBuilder().build();